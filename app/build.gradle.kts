@@ -40,6 +40,11 @@ dependencies {
     implementation("org.apache.logging.log4j:log4j-core:2.17.1")
 }
 
+application {
+    // Define the main class for the application.
+    mainClass = "numbertostring.App"
+}
+
 // Apply a specific Java toolchain to ease working on different environments.
 java {
     toolchain {
@@ -66,6 +71,27 @@ tasks.named<Test>("test") {
     }
 }
 
+// Compiles the locale sources in src/main/locales into binary locale packs shipped as resources.
+val compileLocalePacks by tasks.registering(JavaExec::class) {
+    val sourceDir = layout.projectDirectory.dir("src/main/locales")
+    val outputDir = layout.buildDirectory.dir("generated/locale-packs")
+    inputs.dir(sourceDir)
+    outputs.dir(outputDir)
+    classpath = sourceSets.main.get().output.classesDirs + configurations.runtimeClasspath.get()
+    mainClass = "numbertostring.core.language.pack.LocalePackCompiler"
+    args(sourceDir.asFile.path, outputDir.get().asFile.path)
+    dependsOn(tasks.compileJava)
+    doFirst {
+        delete(outputDir)
+    }
+}
+
+sourceSets {
+    main {
+        resources.srcDir(compileLocalePacks)
+    }
+}
+
 tasks.withType<JavaCompile> {
     options.compilerArgs.addAll(listOf("-Xlint:unchecked"))
 }
@@ -0,0 +1,211 @@
+package numbertostring;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.api.exception.UnsupportedLanguageException;
+import numbertostring.core.factory.PreparedNumberConverter;
+
+/**
+ * Command-line converter. Reads one number per line from a file or stdin and writes
+ * one word form per line to a file or stdout, in input order.
+ *
+ * <p>Input is streamed line by line through fixed-size buffers, so memory use does not
+ * depend on input size. Lines that cannot be converted produce an empty output line,
+ * keeping output aligned with input. Throughput stats are printed to stderr at the end.</p>
+ *
+ * <pre>
+ * Usage: numbertostring [-l|--locale TAG] [-o|--output FILE|-] [-v|--verbose] [INPUT|-]
+ * </pre>
+ *
+ * <p>Log events, including the debug trace enabled by {@code -v}, go to stderr through
+ * {@code log4j2-cli.xml}, so stdout carries nothing but words.</p>
+ *
+ * <p>Exits with 0 when every line converted, 1 when some lines failed, 2 on bad arguments
+ * and 3 on I/O errors.</p>
+ */
+public final class App {
+
+    private static final String USAGE =
+        "Usage: numbertostring [-l|--locale TAG] [-o|--output FILE|-] [-v|--verbose] [INPUT|-]";
+
+    /** Size of the input and output buffers. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Failures reported individually on stderr before only being counted. */
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    /** Longest digit run that always fits in a {@code long}. */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /** System property Log4j reads its configuration location from. */
+    private static final String LOG_CONFIGURATION_PROPERTY = "log4j2.configurationFile";
+
+    /** Configuration logging to stderr, so log lines never mix with words on stdout. */
+    private static final String CLI_LOG_CONFIGURATION = "log4j2-cli.xml";
+
+    private App() {}
+
+    public static void main(String[] args) {
+        // Must be set before the first logger is created
+        if (System.getProperty(LOG_CONFIGURATION_PROPERTY) == null
+            && System.getProperty("log4j.configurationFile") == null) {
+            System.setProperty(LOG_CONFIGURATION_PROPERTY, CLI_LOG_CONFIGURATION);
+        }
+        System.exit(run(args));
+    }
+
+    /** Parses arguments and converts the input, returning the exit code. */
+    static int run(String[] args) {
+        Locale locale = Locale.ENGLISH;
+        String input = "-";
+        String output = null;
+        boolean verbose = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-l", "--locale" -> {
+                    if (++i == args.length) {
+                        return usageError("Missing value for " + args[i - 1] + ".");
+                    }
+                    locale = Locale.forLanguageTag(args[i]);
+                }
+                case "-o", "--output" -> {
+                    if (++i == args.length) {
+                        return usageError("Missing value for " + args[i - 1] + ".");
+                    }
+                    output = args[i];
+                }
+                case "-v", "--verbose" -> verbose = true;
+                case "-h", "--help" -> {
+                    System.out.println(USAGE);
+                    return 0;
+                }
+                default -> {
+                    if (args[i].startsWith("-") && !args[i].equals("-")) {
+                        return usageError("Unknown option " + args[i] + ".");
+                    }
+                    input = args[i];
+                }
+            }
+        }
+
+        // Per-conversion debug logging would dominate the run; it goes to stderr when asked for
+        Configurator.setRootLevel(verbose ? Level.DEBUG : Level.ERROR);
+
+        PreparedNumberConverter converter;
+        try {
+            converter = new NumberToWordsService().forLocale(locale);
+        } catch (UnsupportedLanguageException e) {
+            return usageError("Unsupported locale " + locale.toLanguageTag() + ".");
+        }
+
+        try (BufferedReader reader = openInput(input); Writer writer = openOutput(output)) {
+            Stats stats = convert(reader, writer, converter);
+            writer.flush();
+            System.err.println(stats);
+            return stats.failed == 0 ? 0 : 1;
+        } catch (IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            return 3;
+        }
+    }
+
+    /** Converts every line of {@code reader}, writing one line per input line. */
+    static Stats convert(BufferedReader reader, Writer writer, PreparedNumberConverter converter) throws IOException {
+        Stats stats = new Stats();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            stats.lines++;
+            stats.inputChars += line.length() + 1;
+            try {
+                convertLine(line.strip(), converter, writer);
+            } catch (RuntimeException e) {
+                stats.failed++;
+                if (stats.failed <= MAX_REPORTED_FAILURES) {
+                    System.err.println("Line " + stats.lines + ": " + e.getMessage());
+                }
+            }
+            writer.write('\n');
+        }
+        stats.elapsedNanos = System.nanoTime() - stats.startNanos;
+        return stats;
+    }
+
+    /** Converts short integer lines on the primitive path and everything else through {@code BigDecimal}. */
+    private static void convertLine(String line, PreparedNumberConverter converter, Writer writer) throws IOException {
+        if (isShortInteger(line)) {
+            converter.convertTo(writer, Long.parseLong(line));
+            return;
+        }
+        if (line.isEmpty()) {
+            throw new IllegalArgumentException("Empty line.");
+        }
+        converter.convertTo(writer, new BigDecimal(line));
+    }
+
+    private static boolean isShortInteger(String line) {
+        int start = line.startsWith("-") ? 1 : 0;
+        int digits = line.length() - start;
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return false;
+        }
+        for (int i = start; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static BufferedReader openInput(String input) throws IOException {
+        return new BufferedReader(new InputStreamReader(
+            input.equals("-") ? new FileInputStream(FileDescriptor.in) : Files.newInputStream(Path.of(input)),
+            StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static Writer openOutput(String output) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(
+            output == null || output.equals("-") ? new FileOutputStream(FileDescriptor.out) : Files.newOutputStream(Path.of(output)),
+            StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static int usageError(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        return 2;
+    }
+
+    /** Counters of one run. */
+    static final class Stats {
+        private final long startNanos = System.nanoTime();
+        private long elapsedNanos;
+        private long lines;
+        private long failed;
+        private long inputChars;
+
+        @Override
+        public String toString() {
+            double seconds = Math.max(elapsedNanos, 1) / 1e9;
+            return String.format("Converted %,d lines (%,d failed) in %.3f s: %,.0f lines/s, %.1f MB/s input.",
+                lines - failed, failed, seconds, lines / seconds, inputChars / seconds / 1e6);
+        }
+    }
+}
@@ -1,16 +1,44 @@
 package numbertostring.api;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import numbertostring.api.cache.ConversionCache;
+import numbertostring.api.cache.ConversionCacheStats;
 import numbertostring.api.dto.ConvertedNumberDTO;
 import numbertostring.api.dto.NumberToWordsRequest;
 import numbertostring.api.dto.NumberToWordsResponse;
+import numbertostring.api.exception.ErrorCode;
 import numbertostring.api.exception.NumberConversionException;
 import numbertostring.core.factory.NumberConverterFactory;
 import numbertostring.core.factory.NumberConverterFactorySingleton;
+import numbertostring.core.factory.PreparedNumberConverter;
 import numbertostring.core.model.Number;
+import numbertostring.core.token.NumberTokens;
 import numbertostring.core.utils.logger.GlobalLogger;
+import numbertostring.core.utils.logger.RateLimitedLogger;
+
+import org.apache.logging.log4j.Level;
 
 import com.google.common.annotations.VisibleForTesting;
 
+import lombok.Builder;
+
 /**
  * Entrypoint for consumers who wish to convert numbers to strings. 
  * Call {@link create} to instantiate service.
@@ -18,21 +46,104 @@ import com.google.common.annotations.VisibleForTesting;
  */
 public class NumberToWordsService {
 
+    /** Failed conversions logged per second before further failures are only counted. */
+    private static final int FAILURE_LOG_EVENTS_PER_SECOND = 10;
+
+    /** Shared by every service, so a flood of bad requests is throttled regardless of which instance serves it. */
+    private static final RateLimitedLogger FAILURE_LOG = new RateLimitedLogger(
+        GlobalLogger.LOGGER, Level.WARN, FAILURE_LOG_EVENTS_PER_SECOND, Duration.ofSeconds(1));
 
     /**
      * A factory responsible for creating a converter. 
      */
     private final NumberConverterFactory converterFactory;
 
+    /**
+     * Optional cache of converted words. Null when caching is disabled.
+     */
+    private final ConversionCache cache;
+
+    /**
+     * Executor running {@link #convertAsync} conversions.
+     */
+    private final Executor asyncExecutor;
+
+    /**
+     * Permits for asynchronous conversions that are queued or running.
+     */
+    private final Semaphore inFlight;
+
+    /**
+     * Longest time {@link #convertAsync} waits for a permit, in nanoseconds. 0 rejects at once.
+     */
+    private final long submitTimeoutNanos;
+
+    /** Tasks per pool worker that a parallel batch is split into, so workers can steal to balance load. */
+    private static final int TASKS_PER_WORKER = 8;
+
+    /** In-flight bound of {@link #convertAsync} when none is configured. */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 10_000;
+
     public NumberToWordsService() {
-        this.converterFactory = NumberConverterFactorySingleton.getInstance();
+        this(NumberConverterFactorySingleton.getInstance(), null);
+    }
+
+    /**
+     * Creates a service that answers repeated conversions from a cache.
+     * @param cache Cache of converted words.
+     */
+    public NumberToWordsService(ConversionCache cache) {
+        this(NumberConverterFactorySingleton.getInstance(), cache);
     }
 
     /** Constructor for unit testing (allows passing a mock factory) */
     public NumberToWordsService(NumberConverterFactory converterFactory) {
-        this.converterFactory = converterFactory;
+        this(converterFactory, null);
+    }
+
+    /**
+     * Creates a service with a custom factory and an optional cache.
+     * @param converterFactory Factory used on cache misses.
+     * @param cache Cache of converted words, or null to disable caching.
+     */
+    public NumberToWordsService(NumberConverterFactory converterFactory, ConversionCache cache) {
+        this(converterFactory, cache, null, null, null);
+    }
+
+    /**
+     * Creates a fully configured service. Use {@code NumberToWordsService.builder()}.
+     *
+     * <pre>{@code
+     * NumberToWordsService service = NumberToWordsService.builder()
+     *     .asyncExecutor(handlerPool)
+     *     .maxInFlight(512)
+     *     .submitTimeout(Duration.ofMillis(50))
+     *     .build();
+     * }</pre>
+     *
+     * @param converterFactory Factory used for conversions. Defaults to the shared factory.
+     * @param cache Cache of converted words, or null to disable caching.
+     * @param asyncExecutor Executor for {@link #convertAsync}. Defaults to a shared virtual-thread executor.
+     * @param maxInFlight Bound on queued or running asynchronous conversions. Defaults to {@link #DEFAULT_MAX_IN_FLIGHT}.
+     * @param submitTimeout Longest time {@link #convertAsync} waits for the bound to free up. Defaults to not waiting.
+     * @throws IllegalArgumentException If {@code maxInFlight} is not positive or {@code submitTimeout} is negative.
+     */
+    @Builder
+    private NumberToWordsService(NumberConverterFactory converterFactory, ConversionCache cache,
+            Executor asyncExecutor, Integer maxInFlight, Duration submitTimeout) {
+        if (maxInFlight != null && maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive.");
+        }
+        if (submitTimeout != null && submitTimeout.isNegative()) {
+            throw new IllegalArgumentException("submitTimeout must not be negative.");
+        }
+        this.converterFactory = converterFactory != null ? converterFactory : NumberConverterFactorySingleton.getInstance();
+        this.cache = cache;
+        this.asyncExecutor = asyncExecutor;
+        this.inFlight = new Semaphore(maxInFlight == null ? DEFAULT_MAX_IN_FLIGHT : maxInFlight);
+        this.submitTimeoutNanos = submitTimeout == null ? 0 : submitTimeout.toNanos();
     }
-    
+
     /** Constructor to create the Service using a custom factory for testing.
      * Used for test overrides. Users should not call this method.
      * @param factory Mock factory injected for tests.
@@ -63,32 +174,383 @@ public class NumberToWordsService {
      * @return Response object with converted string, status code, and exceptions if any
      */
     public <T extends Number<T>> NumberToWordsResponse convertNumberToWordsWithLocale(NumberToWordsRequest req) {
-        NumberToWordsResponse res;
+        ErrorCode invalid = validate(req.getNumberValue(), req.getLocale());
+        if (invalid != null) {
+            return failureResponse(req.getNumberValue(), req.getLocale(), invalid, invalid.getDefaultMessage());
+        }
         try {
             // Convert number to words using factory's method
-            String words = converterFactory.convertNumberToWords(req.getNumberValue(), req.getLocale());
+            String words;
+            if (cache == null) {
+                words = converterFactory.convertNumberToWords(req.getNumberValue(), req.getLocale());
+            } else {
+                PreparedNumberConverter converter = converterFactory.prepare(req.getLocale());
+                Number<?> admitted = converter.admit(req.getNumberValue());
+                words = cache.get(admitted, req.getLocale(), () -> converter.convertNumberToWords(admitted));
+            }
+            return successResponse(req.getNumberValue(), words, req.getLocale());
+        } catch (Exception e) {
+            return failureResponse(req.getNumberValue(), req.getLocale(), e);
+        }
+    }
 
-            // Create structured DTO for encapsulated conversion results
-            ConvertedNumberDTO convertedData = new ConvertedNumberDTO(req.getNumberValue(), words, req.getLocale().getLanguage());
+    /**
+     * Converts a request asynchronously, with the same result as {@link #convertNumberToWordsWithLocale}.
+     *
+     * <p>Conversions run on the configured executor, or on a shared virtual-thread executor by default.
+     * At most {@code maxInFlight} conversions may be queued or running at once. Past that bound the
+     * future completes at once with an {@link ErrorCode#OVERLOADED} failure response, or after
+     * {@code submitTimeout} if one is configured and no conversion completes sooner, so callers
+     * never park indefinitely and a fast producer cannot grow an unbounded queue. If the caller is
+     * interrupted while waiting, or the executor rejects the task, the future completes with a
+     * failure response too.</p>
+     *
+     * @param req Request object with number parameter
+     * @return Future completed with the response; it never completes exceptionally
+     */
+    public CompletableFuture<NumberToWordsResponse> convertAsync(NumberToWordsRequest req) {
+        try {
+            boolean acquired = submitTimeoutNanos == 0
+                ? inFlight.tryAcquire()
+                : inFlight.tryAcquire(submitTimeoutNanos, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                return CompletableFuture.completedFuture(failureResponse(req.getNumberValue(), req.getLocale(),
+                    ErrorCode.OVERLOADED, ErrorCode.OVERLOADED.getDefaultMessage()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(failureResponse(req.getNumberValue(), req.getLocale(), e));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return convertNumberToWordsWithLocale(req);
+                } finally {
+                    inFlight.release();
+                }
+            }, asyncExecutor != null ? asyncExecutor : VirtualThreadExecutor.INSTANCE);
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            return CompletableFuture.completedFuture(failureResponse(req.getNumberValue(), req.getLocale(), e));
+        }
+    }
 
-            GlobalLogger.LOGGER.debug("Conversion complete. Creating response.");
-            res = NumberToWordsResponse.builder()
-                .convertedData(convertedData)
-                .status(NumberToWordsResponse.Status.SUCCESS)
-                .exception(null)
-                .build();
+    /**
+     * Converts a {@code long} to word form of specified locale.
+     * Uses a primitive fast path that avoids {@code BigInteger} arithmetic,
+     * with output identical to {@link convertNumberToWordsWithLocale}.
+     *
+     * @param number Number to convert
+     * @param locale Language to convert to
+     * @return Response object with converted string, status code, and exceptions if any
+     */
+    public NumberToWordsResponse convert(long number, Locale locale) {
+        if (locale == null) {
+            return failureResponse(BigDecimal.valueOf(number), null, ErrorCode.INVALID_REQUEST,
+                ErrorCode.INVALID_REQUEST.getDefaultMessage());
+        }
+        try {
+            String words = cache == null
+                ? converterFactory.convertNumberToWords(number, locale)
+                : cache.get(BigDecimal.valueOf(number), locale, () -> converterFactory.convertNumberToWords(number, locale));
+            return successResponse(BigDecimal.valueOf(number), words, locale);
         } catch (Exception e) {
-            // DTO with empty data for failures
-            ConvertedNumberDTO failedData = new ConvertedNumberDTO(req.getNumberValue(), "", req.getLocale().getLanguage());
+            return failureResponse(BigDecimal.valueOf(number), locale, e);
+        }
+    }
+
+    /**
+     * Converts a batch of requests, returning one response per request in input order.
+     *
+     * <p>Each distinct locale in the batch is resolved once, and each distinct value within
+     * a locale is converted once. Values are compared after {@link PreparedNumberConverter#admit(BigDecimal)} normalizes them,
+     * so {@code 1000} and {@code 1E+3} share a conversion while {@code 1.5} and {@code 1.50} do not. Failures are reported per request
+     * exactly as {@link #convertNumberToWordsWithLocale} would report them.</p>
+     *
+     * @param requests Requests to convert
+     * @return Responses in the same order as the requests
+     */
+    public List<NumberToWordsResponse> convertAll(List<NumberToWordsRequest> requests) {
+        NumberToWordsRequest[] batch = requests.toArray(new NumberToWordsRequest[0]);
+        NumberToWordsResponse[] responses = new NumberToWordsResponse[batch.length];
+        convertRange(batch, 0, batch.length, responses);
+        GlobalLogger.LOGGER.debug("Converted batch of {} requests.", batch.length);
+        return Arrays.asList(responses);
+    }
 
-            res = NumberToWordsResponse.builder()
-                .convertedData(failedData)
-                .status(NumberToWordsResponse.Status.FAILURE)
-                .exception(new NumberConversionException(e.getMessage()))
-                .build();
-            GlobalLogger.LOGGER.warn(String.format("Response object created. Response is: %s", res.toString()));
+    /**
+     * Converts a batch of requests on the common fork/join pool.
+     * See {@link #convertAllParallel(List, ForkJoinPool)}.
+     *
+     * @param requests Requests to convert
+     * @return Responses in the same order as the requests
+     */
+    public List<NumberToWordsResponse> convertAllParallel(List<NumberToWordsRequest> requests) {
+        return convertAllParallel(requests, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a batch of requests in parallel, returning one response per request in input order.
+     *
+     * <p>The batch is split by estimated cost rather than by count: a value's cost grows with its
+     * number of integer digits, so a few very large values end up in their own tasks instead of
+     * stalling one worker. Each task behaves like {@link #convertAll(List)} on its slice.
+     * Parallelism is that of the given pool.</p>
+     *
+     * @param requests Requests to convert
+     * @param pool Pool to run the conversion on
+     * @return Responses in the same order as the requests
+     */
+    public List<NumberToWordsResponse> convertAllParallel(List<NumberToWordsRequest> requests, ForkJoinPool pool) {
+        NumberToWordsRequest[] batch = requests.toArray(new NumberToWordsRequest[0]);
+        long[] costPrefix = new long[batch.length + 1];
+        for (int i = 0; i < batch.length; i++) {
+            costPrefix[i + 1] = costPrefix[i] + estimateCost(batch[i].getNumberValue());
         }
-        return res;
+        long leafCost = Math.max(1, costPrefix[batch.length] / ((long) pool.getParallelism() * TASKS_PER_WORKER));
+
+        NumberToWordsResponse[] responses = new NumberToWordsResponse[batch.length];
+        pool.invoke(new ConversionTask(batch, costPrefix, responses, leafCost, 0, batch.length));
+        GlobalLogger.LOGGER.debug("Converted batch of {} requests with parallelism {}.", batch.length, pool.getParallelism());
+        return Arrays.asList(responses);
+    }
+
+    /**
+     * Writes the word form of a number straight into a caller-supplied sink,
+     * skipping request and response objects. Unlike the response-based methods,
+     * failures are thrown rather than wrapped.
+     * Reusing one {@link StringBuilder} across calls keeps the hot path free of allocations.
+     *
+     * @param out Sink to write to
+     * @param number Number to convert
+     * @param locale Language to convert to
+     * @throws IOException If the sink fails
+     * @throws numbertostring.api.exception.UnsupportedLanguageException If the locale is not supported
+     * @throws IllegalArgumentException If the number is unsupported
+     */
+    public void convertTo(Appendable out, BigDecimal number, Locale locale) throws IOException {
+        converterFactory.prepare(locale).convertTo(out, number);
+    }
+
+    /**
+     * Writes the word form of a {@code long} straight into a caller-supplied sink.
+     * See {@link #convertTo(Appendable, BigDecimal, Locale)}.
+     *
+     * @param out Sink to write to
+     * @param number Number to convert
+     * @param locale Language to convert to
+     * @throws IOException If the sink fails
+     * @throws numbertostring.api.exception.UnsupportedLanguageException If the locale is not supported
+     */
+    public void convertTo(Appendable out, long number, Locale locale) throws IOException {
+        converterFactory.prepare(locale).convertTo(out, number);
+    }
+
+    /**
+     * Converts a number into its words as tokens, for consumers that work word by word
+     * and would otherwise split the output string. Like the sink methods, failures are
+     * thrown rather than wrapped, and results are not cached.
+     *
+     * @param number Number to convert
+     * @param locale Language to convert to
+     * @return Words of the number with their kinds and vocabulary IDs
+     * @throws numbertostring.api.exception.UnsupportedLanguageException If the locale is not supported
+     * @throws IllegalArgumentException If the number is unsupported
+     */
+    public NumberTokens convertToTokens(BigDecimal number, Locale locale) {
+        return converterFactory.prepare(locale).convertToTokens(number);
+    }
+
+    /**
+     * Retrieves a converter bound to the specified locale.
+     * The handle is resolved once and cached, so callers converting many numbers
+     * in one language skip per-call locale resolution. The handle is immutable and thread-safe.
+     *
+     * @param locale Language to convert to
+     * @return Converter bound to the locale
+     * @throws numbertostring.api.exception.UnsupportedLanguageException If the locale is not supported
+     */
+    public PreparedNumberConverter forLocale(Locale locale) {
+        return converterFactory.prepare(locale);
+    }
+
+    /**
+     * Retrieves the counters of the conversion cache.
+     * @return Cache counters, or null when caching is disabled.
+     */
+    public ConversionCacheStats getCacheStats() {
+        return cache == null ? null : cache.stats();
+    }
+
+    /** Shared virtual-thread executor, created on first asynchronous conversion. */
+    private static final class VirtualThreadExecutor {
+        private static final ExecutorService INSTANCE = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /** Converts {@code requests[from, to)} into the same slots of {@code responses}. */
+    private void convertRange(NumberToWordsRequest[] requests, int from, int to, NumberToWordsResponse[] responses) {
+        Map<Locale, LocaleBatch> batches = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            NumberToWordsRequest req = requests[i];
+            responses[i] = batches.computeIfAbsent(req.getLocale(), LocaleBatch::new).convert(req.getNumberValue());
+        }
+    }
+
+    /**
+     * Relative cost of converting a number: one unit of fixed overhead, one per three-digit
+     * chunk of the integer part and one per fractional digit, each of which is written as a
+     * word. Integer digits stand in for {@code BigInteger.bitLength()} without allocating the
+     * integer, and are counted as a long since precision minus a negative scale can pass
+     * {@link Integer#MAX_VALUE}.
+     */
+    private static long estimateCost(BigDecimal number) {
+        if (number == null) {
+            return 1;
+        }
+        long integerDigits = Math.max(0, (long) number.precision() - number.scale());
+        long fractionDigits = Math.max(0, number.scale());
+        return 1 + integerDigits / 3 + fractionDigits;
+    }
+
+    /** Splits a range of a batch at its cost midpoint until each task is cheap enough. */
+    private final class ConversionTask extends RecursiveAction {
+        private final NumberToWordsRequest[] requests;
+        private final long[] costPrefix;
+        private final NumberToWordsResponse[] responses;
+        private final long leafCost;
+        private final int from;
+        private final int to;
+
+        ConversionTask(NumberToWordsRequest[] requests, long[] costPrefix, NumberToWordsResponse[] responses,
+                long leafCost, int from, int to) {
+            this.requests = requests;
+            this.costPrefix = costPrefix;
+            this.responses = responses;
+            this.leafCost = leafCost;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1 || costPrefix[to] - costPrefix[from] <= leafCost) {
+                convertRange(requests, from, to, responses);
+                return;
+            }
+            int mid = splitIndex();
+            invokeAll(new ConversionTask(requests, costPrefix, responses, leafCost, from, mid),
+                      new ConversionTask(requests, costPrefix, responses, leafCost, mid, to));
+        }
+
+        /** First index whose prefix cost reaches the midpoint, kept strictly inside the range. */
+        private int splitIndex() {
+            long target = costPrefix[from] + (costPrefix[to] - costPrefix[from]) / 2;
+            int index = Arrays.binarySearch(costPrefix, from + 1, to, target);
+            int mid = index >= 0 ? index : -index - 1;
+            return Math.max(from + 1, Math.min(mid, to - 1));
+        }
+    }
+
+    /** Conversions of one locale within a batch, sharing one resolved converter and one conversion per value. */
+    private final class LocaleBatch {
+        private final Locale locale;
+        /** Converted words, or the exception thrown while converting, per normalized value. */
+        private final Map<BigDecimal, Object> outcomes = new HashMap<>();
+        /** Resolved on the first request that passes validation. */
+        private PreparedNumberConverter converter;
+        private Exception resolutionFailure;
+
+        LocaleBatch(Locale locale) {
+            this.locale = locale;
+        }
+
+        NumberToWordsResponse convert(BigDecimal number) {
+            ErrorCode invalid = validate(number, locale);
+            if (invalid != null) {
+                return failureResponse(number, locale, invalid, invalid.getDefaultMessage());
+            }
+            if (converter == null && resolutionFailure == null) {
+                try {
+                    converter = converterFactory.prepare(locale);
+                } catch (Exception e) {
+                    resolutionFailure = e;
+                }
+            }
+            if (resolutionFailure != null) {
+                return failureResponse(number, locale, resolutionFailure);
+            }
+            Number<?> admitted;
+            try {
+                admitted = converter.admit(number);
+            } catch (Exception e) {
+                return failureResponse(number, locale, e);
+            }
+            Object outcome = outcomes.computeIfAbsent(admitted.toBigDecimal(), key -> convertOnce(admitted));
+            return outcome instanceof String words
+                ? successResponse(number, words, locale)
+                : failureResponse(number, locale, (Exception) outcome);
+        }
+
+        private Object convertOnce(Number<?> number) {
+            try {
+                return cache == null
+                    ? converter.convertNumberToWords(number)
+                    : cache.get(number, locale, () -> converter.convertNumberToWords(number));
+            } catch (Exception e) {
+                return e;
+            }
+        }
+    }
+
+    /**
+     * Checks the parts of a request that can be checked without converting, so common bad input
+     * is rejected without throwing. Locale support is left to the factory.
+     * @return Reason the request cannot be converted, or null if conversion should be attempted.
+     */
+    private static ErrorCode validate(BigDecimal number, Locale locale) {
+        if (number == null || locale == null) {
+            return ErrorCode.INVALID_REQUEST;
+        }
+        return null;
+    }
+
+    private NumberToWordsResponse successResponse(BigDecimal number, String words, Locale locale) {
+        // Create structured DTO for encapsulated conversion results
+        ConvertedNumberDTO convertedData = new ConvertedNumberDTO(number, words, locale.getLanguage());
+
+        GlobalLogger.LOGGER.debug("Conversion complete. Creating response.");
+        return NumberToWordsResponse.builder()
+            .convertedData(convertedData)
+            .status(NumberToWordsResponse.Status.SUCCESS)
+            .exception(null)
+            .build();
+    }
+
+    /** Reports an exception; unexpected ones become the cause of the reported exception and are logged with their stack. */
+    private NumberToWordsResponse failureResponse(BigDecimal number, Locale locale, Exception e) {
+        ErrorCode errorCode = ErrorCode.of(e);
+        String message = e.getMessage() != null ? e.getMessage() : errorCode.getDefaultMessage();
+        if (errorCode.isExpected()) {
+            return failureResponse(number, locale, errorCode, message);
+        }
+        FAILURE_LOG.log("Conversion of {} to {} failed with {}: {}", number, locale, errorCode, message, e);
+        return failureResponse(number, locale, new NumberConversionException(errorCode, message, e));
+    }
+
+    private NumberToWordsResponse failureResponse(BigDecimal number, Locale locale, ErrorCode errorCode, String message) {
+        FAILURE_LOG.log("Conversion of {} to {} failed with {}: {}", number, locale, errorCode, message);
+        return failureResponse(number, locale, new NumberConversionException(errorCode, message));
+    }
+
+    private NumberToWordsResponse failureResponse(BigDecimal number, Locale locale, NumberConversionException exception) {
+        // DTO with empty data for failures
+        ConvertedNumberDTO failedData = new ConvertedNumberDTO(number, "", locale == null ? "" : locale.getLanguage());
+
+        return NumberToWordsResponse.builder()
+            .convertedData(failedData)
+            .status(NumberToWordsResponse.Status.FAILURE)
+            .exception(exception)
+            .build();
     }
 
 
@@ -0,0 +1,212 @@
+package numbertostring.api.cache;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import numbertostring.core.factory.NumberAdmission;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.model.Number;
+import numbertostring.core.registry.ConversionRegistry;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bounded cache of converted words keyed by normalized number and locale.
+ *
+ * <p>Numbers are normalized with {@link NumberAdmission#normalize(BigDecimal)}, so {@code 1000},
+ * {@code 1000.00} and {@code 1E+3} share one entry, while {@code 1.5} and {@code 1.50}, which read
+ * differently, do not.
+ * The shared level evicts least recently used entries once {@code maximumSize} is reached.
+ * An optional direct-mapped thread-local level answers repeated lookups on hot platform threads
+ * without touching the shared level. Virtual threads skip it and go to the shared level.</p>
+ *
+ * <pre>{@code
+ * ConversionCache cache = ConversionCache.builder()
+ *     .maximumSize(10_000)
+ *     .threadLocalSize(256)
+ *     .build();
+ * NumberToWordsService service = new NumberToWordsService(cache);
+ * }</pre>
+ *
+ * <p>Only successful conversions are cached. Instances are thread-safe. Entries are dropped
+ * when a newer {@link ConversionRegistry} snapshot is published, so replaced languages are
+ * never answered from the cache.</p>
+ */
+public final class ConversionCache {
+
+    /** Shared level bound used when none is configured. */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Cache<Key, String> shared;
+
+    /** Slots per thread-local cache, a power of two, or 0 when disabled. */
+    private final int threadLocalSize;
+    private final ThreadLocal<LocalCache> local;
+    private final LongAdder localHits = new LongAdder();
+
+    /** Bumped by {@link #invalidateAll()} so thread-local levels drop stale entries lazily. */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /** Version of the registry snapshot the cached entries were converted with. */
+    private final AtomicLong registryVersion = new AtomicLong(ConversionRegistry.current().getVersion());
+
+    /**
+     * Creates a cache.
+     * @param maximumSize Bound of the shared level. Defaults to {@link #DEFAULT_MAXIMUM_SIZE} when 0.
+     * @param threadLocalSize Slots of each thread-local level, rounded up to a power of two. 0 disables it.
+     * @throws IllegalArgumentException If either size is negative.
+     */
+    @Builder
+    private ConversionCache(long maximumSize, int threadLocalSize) {
+        if (maximumSize < 0 || threadLocalSize < 0) {
+            throw new IllegalArgumentException("Cache sizes must not be negative.");
+        }
+        this.shared = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize == 0 ? DEFAULT_MAXIMUM_SIZE : maximumSize)
+            .recordStats()
+            .build();
+        this.threadLocalSize = threadLocalSize == 0 ? 0 : ceilingPowerOfTwo(threadLocalSize);
+        this.local = this.threadLocalSize == 0 ? null : ThreadLocal.withInitial(() -> new LocalCache(this.threadLocalSize));
+    }
+
+    /**
+     * Returns the cached words for a number, converting and caching them on a miss.
+     * Exceptions thrown by the conversion propagate unchanged and nothing is cached.
+     * @param number Number to convert.
+     * @param locale Language to convert to.
+     * @param conversion Produces the words on a miss.
+     * @return Word form of the number.
+     */
+    public String get(BigDecimal number, Locale locale, Supplier<String> conversion) {
+        return get(new Key(NumberAdmission.normalize(number), locale), conversion);
+    }
+
+    /**
+     * Returns the cached words for a number already normalized by
+     * {@link PreparedNumberConverter#admit(BigDecimal)}, without normalizing it again.
+     * @param number Admitted number to convert.
+     * @param locale Language to convert to.
+     * @param conversion Produces the words on a miss.
+     * @return Word form of the number.
+     */
+    public String get(Number<?> number, Locale locale, Supplier<String> conversion) {
+        return get(new Key(number.toBigDecimal(), locale), conversion);
+    }
+
+    private String get(Key key, Supplier<String> conversion) {
+        Locale locale = key.locale;
+        long version = ConversionRegistry.current(locale).getVersion();
+        long cachedVersion = registryVersion.get();
+        if (version != cachedVersion && registryVersion.compareAndSet(cachedVersion, version)) {
+            invalidateAll();
+        }
+        // A virtual thread runs a single task, so a level of its own would never be hit
+        LocalCache localCache = local == null || Thread.currentThread().isVirtual() ? null : local.get();
+        int currentGeneration = generation.get();
+        if (localCache != null) {
+            String words = localCache.get(key, currentGeneration);
+            if (words != null) {
+                localHits.increment();
+                return words;
+            }
+        }
+
+        String words = shared.getIfPresent(key);
+        if (words == null) {
+            words = conversion.get();
+            if (ConversionRegistry.current().getVersion() != version) {
+                // Converted while a registration was being published
+                return words;
+            }
+            shared.put(key, words);
+        }
+        if (localCache != null) {
+            localCache.put(key, words, currentGeneration);
+        }
+        return words;
+    }
+
+    /** Discards all cached entries, including those held by thread-local levels. */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        shared.invalidateAll();
+    }
+
+    /**
+     * Retrieves the number of entries in the shared level.
+     * @return Approximate entry count.
+     */
+    public long size() {
+        return shared.size();
+    }
+
+    /**
+     * Retrieves hit, miss and eviction counters.
+     * @return Snapshot of the counters.
+     */
+    public ConversionCacheStats stats() {
+        CacheStats stats = shared.stats();
+        return new ConversionCacheStats(localHits.sum(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    private static int ceilingPowerOfTwo(int size) {
+        return size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /** Normalized number and locale. */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Key {
+        private final BigDecimal number;
+        private final Locale locale;
+    }
+
+    /** Direct-mapped per-thread level. A colliding key simply replaces the slot. */
+    private static final class LocalCache {
+        private final Key[] keys;
+        private final String[] words;
+        private final int mask;
+        private int generation;
+
+        LocalCache(int size) {
+            this.keys = new Key[size];
+            this.words = new String[size];
+            this.mask = size - 1;
+        }
+
+        String get(Key key, int currentGeneration) {
+            if (generation != currentGeneration) {
+                Arrays.fill(keys, null);
+                Arrays.fill(words, null);
+                generation = currentGeneration;
+                return null;
+            }
+            int slot = spread(key.hashCode()) & mask;
+            return key.equals(keys[slot]) ? words[slot] : null;
+        }
+
+        void put(Key key, String value, int currentGeneration) {
+            if (generation != currentGeneration) {
+                return;
+            }
+            int slot = spread(key.hashCode()) & mask;
+            keys[slot] = key;
+            words[slot] = value;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package numbertostring.api.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Point-in-time counters of a {@link ConversionCache}.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ConversionCacheStats {
+
+    /** Lookups answered by the calling thread's local cache.
+     * @return Thread-local hit count.
+     */
+    private final long localHitCount;
+    /** Lookups answered by the shared cache.
+     * @return Shared hit count.
+     */
+    private final long hitCount;
+    /** Lookups that had to run the conversion.
+     * @return Miss count.
+     */
+    private final long missCount;
+    /** Entries evicted from the shared cache to respect its size bound.
+     * @return Eviction count.
+     */
+    private final long evictionCount;
+
+    /**
+     * Retrieves the share of lookups answered by either cache level.
+     * @return Hit rate between 0 and 1, or 1 if no lookups were made.
+     */
+    public double hitRate() {
+        long hits = localHitCount + hitCount;
+        long total = hits + missCount;
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+}
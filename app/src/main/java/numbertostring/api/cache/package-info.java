@@ -0,0 +1,2 @@
+/** This package contains the optional result cache that can sit in front of the conversion pipeline. */
+package numbertostring.api.cache;
@@ -0,0 +1,76 @@
+package numbertostring.api.exception;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import numbertostring.core.exception.NumberOutOfRangeException;
+
+/** Machine-readable reason a conversion failed, carried by {@link NumberConversionException}. */
+public enum ErrorCode {
+
+    /** The request has no number or no locale. */
+    INVALID_REQUEST("Number value and locale are required.", true),
+
+    /** The number is of a type no converter handles, such as a decimal in a language without a decimal separator. */
+    UNSUPPORTED_NUMBER_TYPE("Unsupported number type.", false),
+
+    /** The number is larger than the language can spell with its named units, or has too many fractional digits. */
+    OUT_OF_RANGE("Number is out of range for the requested language.", true),
+
+    /** No rules are registered for the requested language. */
+    UNSUPPORTED_LANGUAGE("Language not yet supported.", true),
+
+    /** The caller was interrupted while waiting to submit an asynchronous conversion. */
+    INTERRUPTED("Interrupted while waiting to submit the conversion.", false),
+
+    /** The in-flight bound of asynchronous conversions was reached and no permit freed up in time. */
+    OVERLOADED("Too many conversions are in flight.", true),
+
+    /** The executor refused an asynchronous conversion. */
+    REJECTED("Conversion was rejected by the executor.", false),
+
+    /** The conversion itself failed unexpectedly. */
+    CONVERSION_FAILED("Conversion failed.", false);
+
+    /** Message used when there is no more specific one. */
+    private final String defaultMessage;
+
+    /** Whether the failure is caused by the input rather than by the library or its environment. */
+    private final boolean expected;
+
+    ErrorCode(String defaultMessage, boolean expected) {
+        this.defaultMessage = defaultMessage;
+        this.expected = expected;
+    }
+
+    /** Retrieves the message used when there is no more specific one.
+     * @return Default message.
+     */
+    public String getDefaultMessage() { return defaultMessage; }
+
+    /** Checks whether failures with this code are expected rejections, of bad input or under load.
+     * Expected rejections are reported without a stack trace; every other failure keeps its cause.
+     * @return true for invalid requests, unsupported languages, out-of-range numbers and overload.
+     */
+    public boolean isExpected() { return expected; }
+
+    /** Classifies an exception thrown while converting.
+     * @param e Exception to classify.
+     * @return Code describing the exception.
+     */
+    public static ErrorCode of(Exception e) {
+        if (e instanceof NumberConversionException conversionException) {
+            return conversionException.getErrorCode();
+        } else if (e instanceof UnsupportedLanguageException) {
+            return UNSUPPORTED_LANGUAGE;
+        } else if (e instanceof NumberOutOfRangeException) {
+            return OUT_OF_RANGE;
+        } else if (e instanceof IllegalArgumentException) {
+            return UNSUPPORTED_NUMBER_TYPE;
+        } else if (e instanceof InterruptedException) {
+            return INTERRUPTED;
+        } else if (e instanceof RejectedExecutionException) {
+            return REJECTED;
+        }
+        return CONVERSION_FAILED;
+    }
+}
@@ -1,20 +1,57 @@
 package numbertostring.api.exception;
 
-/** Wrapper for RuntimeException. Thrown when number conversion fails. */
+/** Wrapper for RuntimeException. Thrown when number conversion fails.
+ * Expected rejections, as told by {@link ErrorCode#isExpected()}, capture no stack trace,
+ * so reporting bad input costs about as much as converting good input.
+ */
 public class NumberConversionException extends RuntimeException {
     /** Error message. */
     private final String errorMessage;
 
+    /** Reason the conversion failed. */
+    private final ErrorCode errorCode;
+
     /** Creates a NumberConversionException.
      * @param errorMessage message details
      */
     public NumberConversionException(String errorMessage) {
-        super(errorMessage);
+        this(ErrorCode.CONVERSION_FAILED, errorMessage, null);
+    }
+
+    /** Creates a NumberConversionException without a cause.
+     * @param errorCode reason the conversion failed
+     * @param errorMessage message details
+     */
+    public NumberConversionException(ErrorCode errorCode, String errorMessage) {
+        this(errorCode, errorMessage, null);
+    }
+
+    /** Creates a NumberConversionException caused by another exception.
+     * @param errorCode reason the conversion failed
+     * @param errorMessage message details
+     * @param cause exception the conversion failed with, or null
+     */
+    public NumberConversionException(ErrorCode errorCode, String errorMessage, Throwable cause) {
+        super(errorMessage, cause);
         this.errorMessage = errorMessage;
+        this.errorCode = errorCode;
+        fillInStackTrace();
     }
 
     /** Retrieves error message
      *  @return Error message.
      */
     public String getErrorMessage() { return errorMessage; }
+
+    /** Retrieves the reason the conversion failed
+     *  @return Error code.
+     */
+    public ErrorCode getErrorCode() { return errorCode; }
+
+    /** Skips capturing the stack trace of expected rejections. */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // Throwable's constructor calls this before errorCode is set; ours calls it again once it is
+        return errorCode == null || errorCode.isExpected() ? this : super.fillInStackTrace();
+    }
 }
@@ -1,6 +1,8 @@
 package numbertostring.api.exception;
 
-/** Wrapper for RuntimeException. Thrown when language support is not yet implemented. */
+/** Wrapper for RuntimeException. Thrown when language support is not yet implemented.
+ * Unsupported locales are expected input, so no stack trace is captured.
+ */
 public class UnsupportedLanguageException extends RuntimeException {
     /** Error message. */
     private final String errorMessage;
@@ -17,5 +19,11 @@ public class UnsupportedLanguageException extends RuntimeException {
      *  @return Error message.
     */
     public String getErrorMessage() { return errorMessage; }
+
+    /** Skips capturing the stack trace. */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
 
@@ -0,0 +1,237 @@
+package numbertostring.core.conversion;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.google.common.math.LongMath;
+
+import numbertostring.core.factory.NumberAdmission;
+import numbertostring.core.language.LocalizedChunkWordTable;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.DecimalNum;
+import numbertostring.core.model.IntegerNum;
+import numbertostring.core.model.Number;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+
+/**
+ * This class is a subclass of a LocalizedNumberConverter.
+ * Each {@code DecimalNumConverter} is tied to a specified locale.
+ *
+ * <p>Reads the integer part of a decimal with an {@link IntegerNumConverter}, then the language's
+ * decimal separator, then each fractional digit, trailing zeros included: 12.050 is "Twelve Point Zero Five Zero".
+ * Whole values such as 100.00 read as integers. The parts are
+ * split with {@code unscaledValue} and {@code scale}, using primitive arithmetic whenever the
+ * unscaled value fits in a {@code long}, so both go through the integer converter's chunk table.</p>
+ */
+public class DecimalNumConverter extends LocalizedNumberConverter {
+
+    /** Largest scale whose power of ten fits in a long. */
+    private static final int MAX_LONG_SCALE = 18;
+
+    /** Converter of the integer part, sharing this converter's rules, formatter and chunk table. */
+    private final IntegerNumConverter integerConverter;
+
+    /** Words of the digits zero to nine, spelled on the first conversion. */
+    private volatile String[] digitWords;
+
+    /**
+     * Creates an instance aware of number conversion rules for user's desired language.
+     * @param rules object holding language-specific constants
+     * @param formatter language-specific grammar formatter
+     */
+    public DecimalNumConverter(LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        this(rules, formatter, null);
+    }
+
+    /**
+     * Creates an instance whose integer parts are read from a precomputed table when possible.
+     * @param rules object holding language-specific constants
+     * @param formatter language-specific grammar formatter
+     * @param chunkWords table built from the same rules and formatter, or null to always format on the fly
+     */
+    public DecimalNumConverter(LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter,
+        LocalizedChunkWordTable chunkWords) {
+        super(rules, formatter);
+        this.integerConverter = new IntegerNumConverter(rules, formatter, chunkWords);
+    }
+
+    /**
+     * Converts a decimal to word form representation of this instance's language.
+     * @param number Number to convert.
+     * @return Word form string.
+     */
+    @Override
+    public String convertToWords(Number<?> number) {
+        StringBuilder result = new StringBuilder();
+        convertTo(result, number);
+        return result.toString();
+    }
+
+    /**
+     * Converts a {@code long}, which has no fractional part, like the integer converter does.
+     * @param value Number to convert.
+     * @return Word form string.
+     */
+    @Override
+    public String convertToWords(long value) {
+        return integerConverter.convertToWords(value);
+    }
+
+    /**
+     * Appends the word form of a decimal to {@code out}.
+     * @param out Buffer to append to.
+     * @param number Number to convert.
+     * @throws IllegalArgumentException If the number is not a DecimalNum or the language has no decimal separator.
+     */
+    @Override
+    public void convertTo(StringBuilder out, Number<?> number) {
+        BigDecimal value = checkedValue(number);
+        if (NumberAdmission.isIntegral(value)) {
+            integerConverter.convertTo(out, new IntegerNum(value.toBigInteger()));
+            return;
+        }
+        String separator = separator();
+        int start = out.length();
+        BigInteger unscaled = value.unscaledValue().abs();
+        int scale = value.scale();
+        if (unscaled.bitLength() < Long.SIZE && scale <= MAX_LONG_SCALE) {
+            long digits = unscaled.longValue();
+            long divisor = LongMath.pow(10, scale);
+            integerConverter.convertTo(out, digits / divisor);
+            out.append(' ').append(separator);
+            appendDigits(out, digits % divisor, scale);
+        } else {
+            BigInteger[] parts = unscaled.divideAndRemainder(BigInteger.TEN.pow(scale));
+            integerConverter.convertTo(out, new IntegerNum(parts[0]));
+            out.append(' ').append(separator);
+            appendDigits(out, parts[1], scale);
+        }
+        if (value.signum() < 0) {
+            String prefix = rules.getNegativePrefix();
+            if (prefix != null) {
+                out.insert(start, prefix);
+            } else {
+                String words = out.substring(start);
+                out.setLength(start);
+                out.append(rules.applyNegativeHandling(words));
+            }
+        }
+    }
+
+    /**
+     * Appends a {@code long}, which has no fractional part, like the integer converter does.
+     * @param out Buffer to append to.
+     * @param value Number to convert.
+     */
+    @Override
+    public void convertTo(StringBuilder out, long value) {
+        integerConverter.convertTo(out, value);
+    }
+
+    /**
+     * Appends the word form of a decimal to {@code out} as tokens. The sign and the separator are
+     * appended by the rules; the integer part and the digits are tokens of the integer converter,
+     * split with primitive arithmetic like the text path.
+     * @param out Buffer to append to.
+     * @param number Number to convert.
+     * @throws IllegalArgumentException If the number is not a DecimalNum or the language has no decimal separator.
+     */
+    @Override
+    public void convertTo(TokenBuffer out, Number<?> number) {
+        BigDecimal value = checkedValue(number);
+        if (NumberAdmission.isIntegral(value)) {
+            integerConverter.convertTo(out, new IntegerNum(value.toBigInteger()));
+            return;
+        }
+        // Rejects languages without a separator before anything is appended
+        separator();
+        if (value.signum() < 0 && !rules.appendNegativeTokens(out)) {
+            out.appendWords(TokenKind.WORD, convertToWords(number));
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue().abs();
+        int scale = value.scale();
+        if (unscaled.bitLength() < Long.SIZE && scale <= MAX_LONG_SCALE) {
+            long digits = unscaled.longValue();
+            long divisor = LongMath.pow(10, scale);
+            integerConverter.convertTo(out, digits / divisor);
+            rules.appendDecimalSeparatorTokens(out);
+            long fraction = digits % divisor;
+            for (divisor /= 10; divisor > 0; divisor /= 10) {
+                integerConverter.convertTo(out, fraction / divisor % 10);
+            }
+        } else {
+            BigInteger[] parts = unscaled.divideAndRemainder(BigInteger.TEN.pow(scale));
+            integerConverter.convertTo(out, new IntegerNum(parts[0]));
+            rules.appendDecimalSeparatorTokens(out);
+            String digits = parts[1].toString();
+            for (int i = digits.length(); i < scale; i++) {
+                integerConverter.convertTo(out, 0L);
+            }
+            for (int i = 0; i < digits.length(); i++) {
+                integerConverter.convertTo(out, (long) (digits.charAt(i) - '0'));
+            }
+        }
+    }
+
+    /**
+     * Appends a {@code long}, which has no fractional part, like the integer converter does.
+     * @param out Buffer to append to.
+     * @param value Number to convert.
+     */
+    @Override
+    public void convertTo(TokenBuffer out, long value) {
+        integerConverter.convertTo(out, value);
+    }
+
+    private static BigDecimal checkedValue(Number<?> number) {
+        if (!(number instanceof DecimalNum)) {
+            throw new IllegalArgumentException("Expected a DecimalNum instance, but received: " + number.getClass().getSimpleName());
+        }
+        return ((DecimalNum) number).getValue();
+    }
+
+    private String separator() {
+        String separator = rules.getDecimalSeparator();
+        if (separator == null) {
+            throw new IllegalArgumentException("Decimals are not supported in language: " + rules.getLanguageCode());
+        }
+        return separator;
+    }
+
+    /** Appends the words of the {@code scale} fractional digits held in {@code fraction}, leading zeros included. */
+    private void appendDigits(StringBuilder out, long fraction, int scale) {
+        String[] words = digitWords();
+        for (long divisor = LongMath.pow(10, scale - 1); divisor > 0; divisor /= 10) {
+            out.append(' ').append(words[(int) (fraction / divisor % 10)]);
+        }
+    }
+
+    /** Appends the words of the {@code scale} fractional digits held in {@code fraction}, leading zeros included. */
+    private void appendDigits(StringBuilder out, BigInteger fraction, int scale) {
+        String[] words = digitWords();
+        String digits = fraction.toString();
+        for (int i = digits.length(); i < scale; i++) {
+            out.append(' ').append(words[0]);
+        }
+        for (int i = 0; i < digits.length(); i++) {
+            out.append(' ').append(words[digits.charAt(i) - '0']);
+        }
+    }
+
+    /** Returns the words of the digits, spelling them on first use. */
+    private String[] digitWords() {
+        String[] words = digitWords;
+        if (words == null) {
+            // Racing threads spell equal words
+            words = new String[10];
+            for (int digit = 0; digit < words.length; digit++) {
+                words[digit] = integerConverter.convertToWords(digit);
+            }
+            digitWords = words;
+        }
+        return words;
+    }
+}
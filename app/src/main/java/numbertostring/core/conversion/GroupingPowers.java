@@ -0,0 +1,49 @@
+package numbertostring.core.conversion;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of the powers of each grouping value (e.g. 1000^0, 1000^1, 1000^2 ...).
+ * Lets converters find the leading chunk of a number with a single
+ * {@code divideAndRemainder} instead of dividing by the grouping value repeatedly.
+ */
+public final class GroupingPowers {
+
+    /** Powers of each grouping value seen so far, in ascending order. Index i holds grouping^i. */
+    private static final Map<BigInteger, BigInteger[]> POWERS = new ConcurrentHashMap<>();
+
+    private GroupingPowers() {}
+
+    /**
+     * Finds the largest power of the grouping value that is less than or equal to {@code num}.
+     * @param groupingValue Grouping value of the numeral system, greater than one.
+     * @param num Positive number to find the leading unit for.
+     * @return grouping^k for the largest k such that grouping^k &lt;= num.
+     */
+    public static BigInteger largestUnitAtMost(BigInteger groupingValue, BigInteger num) {
+        BigInteger[] powers = powersExceeding(groupingValue, num);
+        int index = Arrays.binarySearch(powers, num);
+        return powers[index >= 0 ? index : -index - 2];
+    }
+
+    /** Returns the cached powers of the grouping value, extended until the last one exceeds num. */
+    private static BigInteger[] powersExceeding(BigInteger groupingValue, BigInteger num) {
+        BigInteger[] powers = POWERS.get(groupingValue);
+        if (powers != null && powers[powers.length - 1].compareTo(num) > 0) {
+            return powers;
+        }
+        return POWERS.compute(groupingValue, (grouping, current) -> {
+            BigInteger[] extended = current != null ? current : new BigInteger[] {BigInteger.ONE};
+            while (extended[extended.length - 1].compareTo(num) <= 0) {
+                extended = Arrays.copyOf(extended, extended.length * 2);
+                for (int i = extended.length / 2; i < extended.length; i++) {
+                    extended[i] = extended[i - 1].multiply(grouping);
+                }
+            }
+            return extended;
+        });
+    }
+}
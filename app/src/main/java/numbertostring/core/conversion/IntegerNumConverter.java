@@ -1,15 +1,21 @@
 package numbertostring.core.conversion;
 
 import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.Locale;
 
+import com.google.common.math.LongMath;
+
+import numbertostring.core.language.LocalizedChunkWordTable;
 import numbertostring.core.language.LocalizedGrammarFormatterRegistry;
 import numbertostring.core.language.LocalizedNumberRulesRegistry;
+import numbertostring.core.language.ScalePlan;
 import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
 import numbertostring.core.language.rules.LocalizedNumeralRules;
 import numbertostring.core.model.IntegerNum;
 import numbertostring.core.model.Number;
-import numbertostring.core.model.NumberBase;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
 import numbertostring.core.utils.logger.GlobalLogger;
 
 
@@ -25,9 +31,21 @@ import numbertostring.core.utils.logger.GlobalLogger;
 public class IntegerNumConverter extends LocalizedNumberConverter{
 
 
+    /** Upper estimate of output characters per input digit, used to size buffers up front. */
+    private static final int ESTIMATED_CHARS_PER_DIGIT = 12;
+
+    /** Converts a bit length into an approximate count of decimal digits. */
+    private static final double LOG10_OF_2 = 0.30103;
+
+    /** Precomputed words for each chunk and unit. Null when chunks are always formatted on the fly. */
+    private final LocalizedChunkWordTable chunkWords;
+
+    /** Units and unit names of the rules' grouping, built on the first positional conversion. */
+    private ScalePlan scalePlan;
+
     /** Default constructor assumes English for conversion */
     public IntegerNumConverter() {
-        super(
+        this(
             LocalizedNumberRulesRegistry.getRules(Locale.ENGLISH),
             LocalizedGrammarFormatterRegistry.getFormatter(Locale.ENGLISH));
     }
@@ -37,7 +55,19 @@ public class IntegerNumConverter extends LocalizedNumberConverter{
      * @param rules object holding language-specific constants
      */
     public IntegerNumConverter(LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
-        super(rules, formatter); 
+        this(rules, formatter, null);
+    }
+
+    /**
+     * Creates an instance that reads chunk words from a precomputed table when possible.
+     * @param rules object holding language-specific constants
+     * @param formatter language-specific grammar formatter
+     * @param chunkWords table built from the same rules and formatter, or null to always format on the fly
+     */
+    public IntegerNumConverter(LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter,
+        LocalizedChunkWordTable chunkWords) {
+        super(rules, formatter);
+        this.chunkWords = chunkWords != null && chunkWords.isBuiltFrom(rules, formatter) ? chunkWords : null;
     }
 
     /**
@@ -48,69 +78,298 @@ public class IntegerNumConverter extends LocalizedNumberConverter{
      */
     @Override
     public String convertToWords(Number<?> number) {
+        StringBuilder result = new StringBuilder();
+        convertTo(result, number);
+        return result.toString();
+    }
+
+    /**
+     * Converts a {@code long} to word form using primitive arithmetic only.
+     * Produces exactly the same output as converting the equivalent {@code IntegerNum}.
+     * @param value Number to convert.
+     * @return Word form string.
+     */
+    @Override
+    public String convertToWords(long value) {
+        StringBuilder result = new StringBuilder();
+        convertTo(result, value);
+        return result.toString();
+    }
+
+    /**
+     * Appends the word form of an integer of any size to {@code out}.
+     * @param out Buffer to append to.
+     * @param number Number to convert.
+     */
+    @Override
+    public void convertTo(StringBuilder out, Number<?> number) {
         if (!(number instanceof IntegerNum)) {
             throw new IllegalArgumentException("Expected an IntegerNum instance, but received: " + number.getClass().getSimpleName());
         }
         IntegerNum integerNum = (IntegerNum) number;
+        if (GlobalLogger.LOGGER.isDebugEnabled()) {
+            GlobalLogger.LOGGER.debug("Beginning conversion for {}.", integerNum.getValue());
+        }
 
-        GlobalLogger.LOGGER.debug(
-            String.format("Beginning conversion for %d.", integerNum.getValue())); 
-
-        if (integerNum.getValue().equals(BigInteger.ZERO)){
-            return rules.applyNumeralRulesForZero();
+        if (integerNum.getValue().signum() == 0) {
+            out.append(rules.applyNumeralRulesForZero());
+            return;
         }
 
         boolean isNegative = integerNum.isNegative();
         BigInteger absoluteValue = isNegative ? integerNum.getValue().negate() : integerNum.getValue();
 
-        String result = processNumber(absoluteValue);
+        int start = out.length();
+        reserve(out, (int) (absoluteValue.bitLength() * LOG10_OF_2) + 1);
+        if (rules.isPositionalSystem()) {
+            appendChunks(out, absoluteValue);
+            trim(out, start);
+        } else {
+            out.append(rules.applyNonPositionalConversion(absoluteValue));
+        }
+        finish(out, start, isNegative, integerNum.getValue());
+    }
+
+    /**
+     * Appends the word form of a {@code long} to {@code out} using primitive arithmetic only.
+     * When the chunk table covers every chunk, nothing is allocated besides growing {@code out}.
+     * @param out Buffer to append to.
+     * @param value Number to convert.
+     */
+    @Override
+    public void convertTo(StringBuilder out, long value) {
+        if (GlobalLogger.LOGGER.isDebugEnabled()) {
+            GlobalLogger.LOGGER.debug("Beginning conversion for {}.", value);
+        }
 
-        if (isNegative) {
-            result = rules.applyNegativeHandling(result);
+        if (value == 0) {
+            out.append(rules.applyNumeralRulesForZero());
+            return;
+        }
+        if (value == Long.MIN_VALUE) {
+            // The absolute value does not fit in a long
+            convertTo(out, new IntegerNum(BigInteger.valueOf(value)));
+            return;
+        }
+
+        boolean isNegative = value < 0;
+        long absoluteValue = Math.abs(value);
+
+        int start = out.length();
+        reserve(out, LongMath.log10(absoluteValue, RoundingMode.FLOOR) + 1);
+        if (rules.isPositionalSystem()) {
+            appendChunks(out, absoluteValue);
+            trim(out, start);
+        } else {
+            out.append(rules.applyNonPositionalConversion(BigInteger.valueOf(absoluteValue)));
+        }
+        finish(out, start, isNegative, value);
+    }
+
+    /**
+     * Appends the word form of an integer of any size to {@code out} as tokens.
+     * Chunk words are appended by the formatter as word IDs, or copied straight from the chunk
+     * table when {@code out} shares its vocabulary. Only rules that do more than add a negative
+     * prefix, and non-positional systems, are split from text.
+     * @param out Buffer to append to.
+     * @param number Number to convert.
+     */
+    @Override
+    public void convertTo(TokenBuffer out, Number<?> number) {
+        if (!(number instanceof IntegerNum)) {
+            throw new IllegalArgumentException("Expected an IntegerNum instance, but received: " + number.getClass().getSimpleName());
+        }
+        BigInteger value = ((IntegerNum) number).getValue();
+        if (value.signum() == 0) {
+            rules.appendZeroTokens(out);
+            return;
+        }
+        if (value.signum() < 0 && !rules.appendNegativeTokens(out)) {
+            out.appendWords(TokenKind.WORD, convertToWords(number));
+            return;
+        }
+        BigInteger absoluteValue = value.abs();
+        if (!rules.isPositionalSystem()) {
+            out.appendWords(TokenKind.WORD, rules.applyNonPositionalConversion(absoluteValue));
+            return;
         }
-        GlobalLogger.LOGGER.debug(
-            String.format("Conversion complete for %d. Output is \"%s\"",
-                integerNum.getValue(), result)); 
+        LocalizedChunkWordTable table = tableFor(out);
+        ScalePlan plan = scalePlan();
+        while (absoluteValue.signum() > 0) {
+            int unitIndex = plan.unitIndex(absoluteValue);
+            BigInteger largestUnit = unitIndex >= 0 ? plan.getUnit(unitIndex) : largestUnitOutsidePlan(absoluteValue);
+            BigInteger[] chunkAndRemainder = absoluteValue.divideAndRemainder(largestUnit);
+            BigInteger chunk = chunkAndRemainder[0];
 
-        return result.trim();
+            int[] chunkTokens = table != null ? table.lookupTokens(chunk.intValue(), largestUnit) : null;
+            if (chunkTokens != null) {
+                out.appendTokens(chunkTokens);
+            } else {
+                formatter.appendTokens(out, rules, chunk, unitName(plan, unitIndex, largestUnit), largestUnit);
+            }
+            absoluteValue = chunkAndRemainder[1];
+        }
     }
 
+    /**
+     * Appends the word form of a {@code long} to {@code out} as tokens using primitive arithmetic only.
+     * @param out Buffer to append to.
+     * @param value Number to convert.
+     */
+    @Override
+    public void convertTo(TokenBuffer out, long value) {
+        if (value == 0) {
+            rules.appendZeroTokens(out);
+            return;
+        }
+        if (value == Long.MIN_VALUE || !rules.isPositionalSystem()) {
+            convertTo(out, new IntegerNum(BigInteger.valueOf(value)));
+            return;
+        }
+        if (value < 0 && !rules.appendNegativeTokens(out)) {
+            out.appendWords(TokenKind.WORD, convertToWords(value));
+            return;
+        }
+        long absoluteValue = Math.abs(value);
+        LocalizedChunkWordTable table = tableFor(out);
+        ScalePlan plan = scalePlan();
+        while (absoluteValue > 0) {
+            int unitIndex = plan.unitIndex(absoluteValue);
+            long largestUnit = plan.getLongUnit(unitIndex);
+            long chunk = absoluteValue / largestUnit;
 
+            int[] chunkTokens = table != null ? table.lookupTokens((int) chunk, largestUnit) : null;
+            if (chunkTokens != null) {
+                out.appendTokens(chunkTokens);
+            } else {
+                formatter.appendTokens(out, rules, (int) chunk, plan.getUnitName(unitIndex), largestUnit);
+            }
+            absoluteValue %= largestUnit;
+        }
+    }
 
-    private String processNumber(BigInteger num) {
-        if (rules.isPositionalSystem()) {
-            return processChunks(num);
+    /** Returns the chunk table if its tokens can be copied into {@code out}, or null. */
+    private LocalizedChunkWordTable tableFor(TokenBuffer out) {
+        return chunkWords != null && chunkWords.getVocabulary() == out.getVocabulary() ? chunkWords : null;
+    }
+
+    /** Applies negative handling to the words appended since {@code start} and trims them. */
+    private void finish(StringBuilder out, int start, boolean isNegative, Object value) {
+        if (isNegative) {
+            String prefix = rules.getNegativePrefix();
+            if (prefix != null) {
+                out.insert(start, prefix);
+            } else {
+                String numberString = out.substring(start);
+                out.setLength(start);
+                out.append(rules.applyNegativeHandling(numberString));
+            }
+        }
+        trim(out, start);
+        if (GlobalLogger.LOGGER.isDebugEnabled()) {
+            GlobalLogger.LOGGER.debug("Conversion complete for {}. Output is \"{}\"", value, out.substring(start));
         }
-        return rules.applyNonPositionalConversion(num);
     }
 
     /**
-     * Processes numbers recursively based on the numeral system's grouping.
+     * Appends words chunk by chunk based on the numeral system's grouping,
+     * from the most to the least significant chunk.
      * Used by positional numeral systems (English, Spanish, etc.).
+     * Each chunk is split off with one division by the leading unit from the {@link ScalePlan},
+     * so the work grows linearly with the number of chunks.
      * Calls on rules objects to handle chunk and large unit conversions.
+     * @param out Buffer to append to. Each chunk is followed by a space.
      * @param num BigInteger number to process.
-     * @return Converted number in word format.
      */
-    private String processChunks(BigInteger num) {
-        StringBuilder result = new StringBuilder();
-        NumberBase base = rules.getNumberBase();
-        while (num.compareTo(BigInteger.ZERO) > 0) {
-            BigInteger groupingInteger = rules.getGroupingStrategy().getGroupingValue(num, base);
-            BigInteger chunk = num;
-            BigInteger largestUnit = BigInteger.ONE;
-
-            while (chunk.compareTo(groupingInteger) >= 0) {
-                chunk = chunk.divide(groupingInteger);
-                largestUnit = largestUnit.multiply(groupingInteger);
+    private void appendChunks(StringBuilder out, BigInteger num) {
+        ScalePlan plan = scalePlan();
+        while (num.signum() > 0) {
+            int unitIndex = plan.unitIndex(num);
+            BigInteger largestUnit = unitIndex >= 0 ? plan.getUnit(unitIndex) : largestUnitOutsidePlan(num);
+            BigInteger[] chunkAndRemainder = num.divideAndRemainder(largestUnit);
+            BigInteger chunk = chunkAndRemainder[0];
+
+            String chunkString = chunkWords != null ? chunkWords.lookup(chunk.intValue(), largestUnit) : null;
+            if (chunkString != null) {
+                out.append(chunkString);
+            } else {
+                chunkString = rules.applySmallNumeralRules(chunk);
+                String largeUnitString = unitName(plan, unitIndex, largestUnit);
+                out.append(formatter.applyLanguageSpecificFormatting(chunkString, chunk, largeUnitString, largestUnit));
+            }
+            out.append(' ');
+
+            num = chunkAndRemainder[1];
+        }
+    }
+
+    /**
+     * Primitive counterpart of {@link #appendChunks(StringBuilder, BigInteger)} for positive longs.
+     * Reads the same plan so both paths produce identical chunks.
+     * @param out Buffer to append to. Each chunk is followed by a space.
+     * @param num Positive number to process.
+     */
+    private void appendChunks(StringBuilder out, long num) {
+        ScalePlan plan = scalePlan();
+        while (num > 0) {
+            int unitIndex = plan.unitIndex(num);
+            long largestUnit = plan.getLongUnit(unitIndex);
+            long chunk = num / largestUnit;
+
+            String chunkString = chunkWords != null ? chunkWords.lookup((int) chunk, largestUnit) : null;
+            if (chunkString != null) {
+                out.append(chunkString);
+            } else {
+                chunkString = rules.applyNumeralRulesForSmallNumbers((int) chunk);
+                String largeUnitString = plan.getUnitName(unitIndex);
+                out.append(formatter.applyLanguageSpecificFormatting(chunkString, (int) chunk, largeUnitString, largestUnit));
             }
+            out.append(' ');
 
-            String chunkString = rules.applySmallNumeralRules(chunk);
-            String largeUnitString = rules.applyLargeUnitsRules(largestUnit);
-            chunkString = formatter.applyLanguageSpecificFormatting(chunkString, chunk, largeUnitString, largestUnit);
-            result.append(chunkString).append(" ");
+            num %= largestUnit;
+        }
+    }
 
-            num = num.mod(largestUnit);
+    /** Returns the scale plan of the rules, building it on first use. */
+    private ScalePlan scalePlan() {
+        ScalePlan plan = scalePlan;
+        if (plan == null) {
+            // Racing threads build equal plans, and the plan's final fields make publishing it safe
+            plan = ScalePlan.of(rules);
+            scalePlan = plan;
+        }
+        return plan;
+    }
+
+    /** Finds the leading unit of a number too large for the scale plan by computing its grouping value. */
+    private BigInteger largestUnitOutsidePlan(BigInteger num) {
+        BigInteger groupingInteger = rules.getGroupingStrategy().getGroupingValue(num, rules.getNumberBase());
+        return GroupingPowers.largestUnitAtMost(groupingInteger, num);
+    }
+
+    /** Names a unit from the plan, or from the rules when it is outside the plan. */
+    private String unitName(ScalePlan plan, int unitIndex, BigInteger largestUnit) {
+        return unitIndex >= 0 ? plan.getUnitName(unitIndex) : rules.applyLargeUnitsRules(largestUnit);
+    }
+
+    /** Grows {@code out} once up front to fit the words of a number with {@code digits} digits. */
+    private static void reserve(StringBuilder out, int digits) {
+        out.ensureCapacity(out.length() + digits * ESTIMATED_CHARS_PER_DIGIT + ESTIMATED_CHARS_PER_DIGIT);
+    }
+
+    /** Removes leading and trailing whitespace from the part of {@code out} after {@code start}, like {@link String#trim()}. */
+    private static void trim(StringBuilder out, int start) {
+        int end = out.length();
+        while (end > start && out.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        out.setLength(end);
+        int first = start;
+        while (first < end && out.charAt(first) <= ' ') {
+            first++;
+        }
+        if (first > start) {
+            out.delete(start, first);
         }
-        return result.toString().trim();
     }
 }
@@ -1,11 +1,15 @@
 package numbertostring.core.conversion;
 
+import java.math.BigInteger;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
 import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.IntegerNum;
 import numbertostring.core.model.Number;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.WordVocabulary;
 
 /**
  * Abstract class to convert numbers to word form using locale.
@@ -23,6 +27,15 @@ public abstract class LocalizedNumberConverter {
 
     protected final LocalizedGrammarFormatter formatter;
 
+    /**
+     * Retrieves the vocabulary token buffers for this converter should intern words into.
+     * It is the rules' own, so their precomputed words are appended by ID.
+     * @return Vocabulary of this converter's language.
+     */
+    public WordVocabulary getVocabulary() {
+        return rules.getVocabulary();
+    }
+
     /**
      * Converts a Number to words.
      * Implementing classes must handle conversion using the rules field.
@@ -31,5 +44,53 @@ public abstract class LocalizedNumberConverter {
      */
     public abstract String convertToWords(Number<?> number);
 
+    /**
+     * Converts a {@code long} to words.
+     * Defaults to wrapping the value in an {@link IntegerNum}. Subclasses with a
+     * primitive fast path should override this.
+     * @param value Value to convert.
+     * @return Word representation in language of inherited locale.
+     */
+    public String convertToWords(long value) {
+        return convertToWords(new IntegerNum(BigInteger.valueOf(value)));
+    }
+
+    /**
+     * Appends the word form of a Number to {@code out}.
+     * Defaults to appending the result of {@link #convertToWords(Number)}. Subclasses that
+     * can write into the buffer directly should override this.
+     * @param out Buffer to append to.
+     * @param number Instance of a Number of type T
+     */
+    public void convertTo(StringBuilder out, Number<?> number) {
+        out.append(convertToWords(number));
+    }
 
+    /**
+     * Appends the word form of a {@code long} to {@code out}.
+     * Defaults to appending the result of {@link #convertToWords(long)}.
+     * @param out Buffer to append to.
+     * @param value Value to convert.
+     */
+    public void convertTo(StringBuilder out, long value) {
+        out.append(convertToWords(value));
+    }
+
+    /**
+     * Appends the word form of a Number to {@code out} as tokens, marking what each word stands for.
+     * Implementing classes append the words the rules and formatter know by ID.
+     * @param out Buffer over {@link #getVocabulary()} to append to.
+     * @param number Instance of a Number of type T
+     */
+    public abstract void convertTo(TokenBuffer out, Number<?> number);
+
+    /**
+     * Appends the word form of a {@code long} to {@code out} as tokens.
+     * Defaults to wrapping the value in an {@link IntegerNum}.
+     * @param out Buffer over {@link #getVocabulary()} to append to.
+     * @param value Value to convert.
+     */
+    public void convertTo(TokenBuffer out, long value) {
+        convertTo(out, new IntegerNum(BigInteger.valueOf(value)));
+    }
 }
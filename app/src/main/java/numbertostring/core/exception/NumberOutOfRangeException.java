@@ -0,0 +1,30 @@
+package numbertostring.core.exception;
+
+/** Wrapper for IllegalArgumentException.
+ * Thrown when a number is larger than the language can spell with its named units.
+ * Oversized input is expected, so no stack trace is captured.
+ */
+public class NumberOutOfRangeException extends IllegalArgumentException {
+
+    /** Error message. */
+    private final String errorMessage;
+
+    /** Creates a NumberOutOfRangeException.
+     * @param errorMessage message details
+     */
+    public NumberOutOfRangeException(String errorMessage) {
+        super(errorMessage);
+        this.errorMessage = errorMessage;
+    }
+
+    /** Retrieves error message
+     *  @return Error message.
+     */
+    public String getErrorMessage() { return errorMessage; }
+
+    /** Skips capturing the stack trace. */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,30 @@
+package numbertostring.core.exception;
+
+/** Wrapper for IllegalArgumentException.
+ * Thrown when words do not spell a number in the parser's language.
+ * Unreadable input is expected when validating, so no stack trace is captured.
+ */
+public class NumberParseException extends IllegalArgumentException {
+
+    /** Error message. */
+    private final String errorMessage;
+
+    /** Creates a NumberParseException.
+     * @param errorMessage message details
+     */
+    public NumberParseException(String errorMessage) {
+        super(errorMessage);
+        this.errorMessage = errorMessage;
+    }
+
+    /** Retrieves error message
+     *  @return Error message.
+     */
+    public String getErrorMessage() { return errorMessage; }
+
+    /** Skips capturing the stack trace. */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
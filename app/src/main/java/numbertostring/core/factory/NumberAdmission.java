@@ -0,0 +1,137 @@
+package numbertostring.core.factory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import com.google.common.math.BigIntegerMath;
+
+import numbertostring.core.exception.NumberOutOfRangeException;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+
+/**
+ * Cheap checks run on every value before it is converted.
+ *
+ * <p>Integrality, magnitude and fractional digits are decided from {@code scale}, {@code precision}
+ * and {@code bitLength} wherever possible, so oversized input is rejected before any
+ * {@code BigInteger} arithmetic. One instance holds the magnitude limit of
+ * one language, as computed by {@link LocalizedNumeralRules#getMagnitudeLimit()}.</p>
+ */
+public final class NumberAdmission {
+
+    /** Most fractional digits a decimal may have. Each digit is read as a word of its own. */
+    public static final int MAX_FRACTION_DIGITS = 1_000;
+
+    private static final String TOO_MANY_FRACTION_DIGITS =
+        "Number must have at most " + MAX_FRACTION_DIGITS + " fractional digits.";
+
+    /** Admission without a magnitude limit. */
+    static final NumberAdmission UNBOUNDED = new NumberAdmission(null);
+
+    /** Exclusive bound on absolute values, or null if there is none. */
+    private final BigDecimal limit;
+
+    /** Decimal digits of the limit. */
+    private final int limitDigits;
+
+    /** The limit as a long, or {@link Long#MAX_VALUE} if every long is within it. */
+    private final long longLimit;
+
+    /** Message of every rejection, built once. */
+    private final String outOfRangeMessage;
+
+    private NumberAdmission(BigInteger limit) {
+        this.limit = limit == null ? null : new BigDecimal(limit);
+        this.limitDigits = limit == null ? Integer.MAX_VALUE : BigIntegerMath.log10(limit, RoundingMode.FLOOR) + 1;
+        this.longLimit = limit != null && limit.bitLength() < Long.SIZE ? limit.longValue() : Long.MAX_VALUE;
+        this.outOfRangeMessage = limit == null ? null : "Number must be smaller than " + limit + " in magnitude.";
+    }
+
+    /**
+     * Creates the admission checks of a language.
+     * @param rules Rules of the language.
+     * @return Admission bounded by the largest magnitude the rules can spell.
+     */
+    static NumberAdmission forRules(LocalizedNumeralRules rules) {
+        BigInteger limit = rules.getMagnitudeLimit();
+        return limit == null ? UNBOUNDED : new NumberAdmission(limit);
+    }
+
+    /**
+     * Checks whether a value has no fractional part, without stripping trailing zeros
+     * in the common cases. Values with a non-positive scale are integral by construction.
+     * @param value Value to check.
+     * @return true if the value is a whole number.
+     */
+    public static boolean isIntegral(BigDecimal value) {
+        int scale = value.scale();
+        if (scale <= 0 || value.signum() == 0) {
+            return true;
+        }
+        if (value.precision() <= scale) {
+            // Between zero and one
+            return false;
+        }
+        if (value.unscaledValue().getLowestSetBit() < scale) {
+            // 10^scale cannot divide the unscaled value if 2^scale does not
+            return false;
+        }
+        return value.stripTrailingZeros().scale() <= 0;
+    }
+
+    /**
+     * Brings whole values to scale 0 and leaves every other value as it is, so {@code 1000},
+     * {@code 1000.00} and {@code 1E+3} are equal while {@code 1.5} and {@code 1.50}, which read
+     * differently, stay apart.
+     * @param value Value to normalize. Its magnitude must already be admitted.
+     * @return Whole value with scale 0, or the value itself.
+     */
+    public static BigDecimal normalize(BigDecimal value) {
+        return value.scale() != 0 && isIntegral(value) ? value.setScale(0) : value;
+    }
+
+    /**
+     * Rejects values whose magnitude is past the language's limit.
+     * Decided from the number of integer digits unless that equals the limit's.
+     * @param value Value to check.
+     * @throws NumberOutOfRangeException If the value is too large to spell.
+     */
+    void checkMagnitude(BigDecimal value) {
+        if (limit == null || value.signum() == 0) {
+            return;
+        }
+        // A long, since the scale may be as low as -Integer.MAX_VALUE ("1E+2147483647")
+        long integerDigits = (long) value.precision() - value.scale();
+        if (integerDigits > limitDigits
+            || (integerDigits == limitDigits && value.abs().compareTo(limit) >= 0)) {
+            throw outOfRange();
+        }
+    }
+
+    /**
+     * Rejects {@code long} values whose magnitude is past the language's limit.
+     * @param value Value to check.
+     * @throws NumberOutOfRangeException If the value is too large to spell.
+     */
+    void checkMagnitude(long value) {
+        if (longLimit != Long.MAX_VALUE && (value >= longLimit || value <= -longLimit)) {
+            throw outOfRange();
+        }
+    }
+
+    /**
+     * Rejects values with more than {@value #MAX_FRACTION_DIGITS} fractional digits.
+     * Trailing zeros of a fraction are read as words too, so they count.
+     * @param value Value to check, as returned by {@link #normalize(BigDecimal)}.
+     * @throws NumberOutOfRangeException If the value has too many fractional digits.
+     */
+    static void checkFractionDigits(BigDecimal value) {
+        if (value.scale() > MAX_FRACTION_DIGITS) {
+            throw new NumberOutOfRangeException(TOO_MANY_FRACTION_DIGITS);
+        }
+    }
+
+    private NumberOutOfRangeException outOfRange() {
+        return new NumberOutOfRangeException(outOfRangeMessage);
+    }
+}
@@ -2,19 +2,22 @@ package numbertostring.core.factory;
 
 import numbertostring.api.exception.UnsupportedLanguageException;
 import numbertostring.core.conversion.LocalizedNumberConverter;
-import numbertostring.core.language.LocalizedGrammarFormatterRegistry;
-import numbertostring.core.language.LocalizedNumberRulesRegistry;
+import numbertostring.core.language.LocalizedChunkWordTable;
 import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
 import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.DecimalNum;
 import numbertostring.core.model.IntegerNum;
 import numbertostring.core.model.Number;
 import numbertostring.core.provider.ConverterProvider;
+import numbertostring.core.registry.ConversionRegistry;
+import numbertostring.core.registry.RegistrySnapshot;
 import numbertostring.core.utils.logger.GlobalLogger;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory responsible for retrieving the correct {@link LocalizedNumberConverter} based on
@@ -28,29 +31,69 @@ import java.util.Map;
  * NumberConverterFactory factory = new NumberConverterFactory();
  * factory.registerConverter(IntegerNum.class, new IntegerNumConverterProvider());
  *
- * LocalizedNumberConverter converter = factory.getConverterForNumber(new BigDecimal("1000"), Locale.ENGLISH);
- * String words = converter.convertToWords(new IntegerNum(new BigDecimal("1000").toBigInteger()));
+ * PreparedNumberConverter converter = factory.prepare(Locale.ENGLISH);
+ * String words = converter.convertNumberToWords(new BigDecimal("1000"));
  * System.out.println(words); // Output: "One Thousand"
  * </pre>
  *
  * <p><strong>Features:</strong></p>
  * <ul>
- *   <li>Maintains a registry of number types and their respective converters.</li>
+ *   <li>Reads number types, converters and languages from the current {@link ConversionRegistry} snapshot.</li>
  *   <li>Dynamically detects the appropriate {@code Number<?>} type for conversion.</li>
  *   <li>Supports localization by adapting conversions to different language rules.</li>
+ *   <li>Prepares one {@link PreparedNumberConverter} per locale and reuses it for every request.</li>
  * </ul>
+ *
+ * <p>Prepared converters belong to the registry version they were built from. Once a newer
+ * version is published, the next {@link #prepare(Locale)} starts a fresh set, so registrations
+ * take effect without pausing conversions in flight.</p>
  */
 public class NumberConverterFactory {
-    private static final Map<Class<? extends Number<?>>, ConverterProvider> converterRegistry = new HashMap<>();
+
+    /** Converters prepared from the newest registry snapshot seen so far. */
+    private static volatile PreparedConverters preparedConverters = new PreparedConverters(ConversionRegistry.current().getVersion());
 
     /**
      * Registers a {@link ConverterProvider} for a specific number type.
+     * Publishes a new registry snapshot, so every factory picks the provider up.
      *
      * @param numberType The class representing the number type (e.g., {@code IntegerNum.class}).
      * @param provider The provider responsible for creating converters for this number type.
      */
     public <T extends Number<T>> void registerConverter(Class<T> numberType, ConverterProvider provider) {
-        converterRegistry.put(numberType, provider);
+        ConversionRegistry.registerConverter(numberType, provider);
+    }
+
+    /**
+     * Retrieves the converter bound to a locale, preparing and caching it on first use.
+     *
+     * <p>Rules, formatter and converters are resolved only once per locale. A prepared locale
+     * is answered from this factory's converters after checking the registry version alone;
+     * the registry is only consulted for its languages on a miss or after a new version.
+     * Callers that convert many values in one locale should hold on to the returned handle.</p>
+     *
+     * @param locale The locale determining the linguistic rules for conversion.
+     * @return Immutable, thread-safe converter for the locale.
+     * @throws UnsupportedLanguageException If the locale is not supported.
+     */
+    public PreparedNumberConverter prepare(Locale locale) {
+        PreparedConverters converters = preparedConverters;
+        PreparedNumberConverter prepared = converters.byLocale.get(locale);
+        if (prepared != null && converters.version == ConversionRegistry.current().getVersion()) {
+            return prepared;
+        }
+        return prepareFromRegistry(locale);
+    }
+
+    /** Resolves a locale through the registry, loading its language if needed, and caches the converter. */
+    private PreparedNumberConverter prepareFromRegistry(Locale locale) {
+        RegistrySnapshot snapshot = ConversionRegistry.current(locale);
+        PreparedConverters converters = preparedConverters;
+        if (converters.version != snapshot.getVersion()) {
+            converters = new PreparedConverters(snapshot.getVersion());
+            preparedConverters = converters;
+        }
+        return converters.byLocale.computeIfAbsent(locale, key -> createPreparedConverter(snapshot, key));
     }
 
     /**
@@ -73,60 +116,72 @@ public class NumberConverterFactory {
      * @throws IllegalArgumentException If the numeric value is null or unsupported.
      */
     public String convertNumberToWords(BigDecimal numberValue, Locale locale) {
-        Number<?> numberInstance = detectNumberType(numberValue);
-
-        LocalizedNumberConverter converter = getConverterForNumber(numberInstance, locale);
-        return converter.convertToWords(numberInstance);
+        return prepare(locale).convertNumberToWords(numberValue);
     }
 
     /**
-     * Retrieves the appropriate {@link LocalizedNumberConverter} for a given number and locale.
+     * Converts a {@code long} into its word representation based on locale.
+     *
+     * <p>Skips the {@code BigDecimal} to {@code BigInteger} to {@link IntegerNum} chain and hands
+     * the primitive straight to the converter registered for {@link IntegerNum}.
+     * Output is identical to {@link #convertNumberToWords(BigDecimal, Locale)}.</p>
      *
      * @param numberValue The numeric value to be converted.
-     * @param locale The locale that determines the language-specific conversion rules.
-     * @return An instance of {@link LocalizedNumberConverter} suitable for the given number type.
+     * @param locale The locale determining the linguistic rules for conversion.
+     * @return The word representation of the numeric value.
      * @throws UnsupportedLanguageException If the locale is not supported.
-     * @throws IllegalArugmentException If the number type could not be determined.
      */
-    private LocalizedNumberConverter getConverterForNumber(Number<?> numberInstance, Locale locale) {
-        LocalizedNumeralRules rules = getNumeralRulesFromLocale(locale);
-        LocalizedGrammarFormatter formatter = getFormatterFromLocale(locale);
-
-        ConverterProvider provider = converterRegistry.get(numberInstance.getClass());
-        if (provider == null) {
-            throw new IllegalArgumentException("No converter registered for type: " + numberInstance.getClass().getSimpleName());
-        }
-
-        GlobalLogger.LOGGER.debug(String.format("Creating converter for %s type.", numberInstance.getClass().getSimpleName()));
-        return provider.createConverter(rules, formatter);
+    public String convertNumberToWords(long numberValue, Locale locale) {
+        return prepare(locale).convertNumberToWords(numberValue);
     }
 
+    /** Resolves the locale's rules, formatter and chunk table and creates a converter for every registered type. */
+    private PreparedNumberConverter createPreparedConverter(RegistrySnapshot snapshot, Locale locale) {
+        LocalizedNumeralRules rules = getNumeralRulesFromLocale(snapshot, locale);
+        LocalizedGrammarFormatter formatter = getFormatterFromLocale(snapshot, locale);
+        LocalizedChunkWordTable chunkWords = snapshot.getChunkTable(locale);
 
+        Map<Class<?>, LocalizedNumberConverter> converters = new HashMap<>();
+        for (Map.Entry<Class<? extends Number<?>>, ConverterProvider> entry : snapshot.getConverterProviders().entrySet()) {
+            GlobalLogger.LOGGER.debug("Creating converter for {} type.", entry.getKey().getSimpleName());
+            converters.put(entry.getKey(), entry.getValue().createConverter(rules, formatter, chunkWords));
+        }
+        return new PreparedNumberConverter(locale, converters, NumberAdmission.forRules(rules), rules, formatter);
+    }
 
-    /** Determines the correct Number<?> type based on numeric properties. */
-    private Number<?> detectNumberType(BigDecimal numberValue) {
-        if (numberValue.scale() == 0 || numberValue.stripTrailingZeros().scale() <= 0) {
+    /** Determines the correct Number<?> type of a value returned by {@link NumberAdmission#normalize(BigDecimal)}. */
+    static Number<?> detectNumberType(BigDecimal numberValue) {
+        if (numberValue.scale() <= 0) {
             return new IntegerNum(numberValue.toBigInteger()); // Whole number → IntegerNum
         }
-        throw new IllegalArgumentException("Unsupported number type.");
+        return new DecimalNum(numberValue); // Fractional part → DecimalNum
     }
 
     /** Fetches language-specific numerical rules from locale. */
-    private LocalizedNumeralRules getNumeralRulesFromLocale(Locale locale) {
-        LocalizedNumeralRules rules = LocalizedNumberRulesRegistry.getRules(locale);
+    private LocalizedNumeralRules getNumeralRulesFromLocale(RegistrySnapshot snapshot, Locale locale) {
+        LocalizedNumeralRules rules = snapshot.getRules(locale);
         if (rules == null) {
             throw new UnsupportedLanguageException("Language not yet supported.");
         }
         return rules;
     }
 
-    private LocalizedGrammarFormatter getFormatterFromLocale(Locale locale) {
-        LocalizedGrammarFormatter formatter = LocalizedGrammarFormatterRegistry.getFormatter(locale);
+    private LocalizedGrammarFormatter getFormatterFromLocale(RegistrySnapshot snapshot, Locale locale) {
+        LocalizedGrammarFormatter formatter = snapshot.getFormatter(locale);
         if (formatter == null) {
             throw new UnsupportedLanguageException("Language not yet supported.");
         }
         return formatter;
     }
 
+    /** Converters prepared from one registry version, keyed by locale. */
+    private static final class PreparedConverters {
+        private final long version;
+        private final Map<Locale, PreparedNumberConverter> byLocale = new ConcurrentHashMap<>();
+
+        private PreparedConverters(long version) {
+            this.version = version;
+        }
+    }
 }
 
@@ -1,16 +1,11 @@
 package numbertostring.core.factory;
 
-import numbertostring.core.model.IntegerNum;
-import numbertostring.core.provider.IntegerNumConverterProvider;
+import numbertostring.core.registry.ConversionRegistry;
 
+/** Shared factory. Default converters come from the initial {@link ConversionRegistry} snapshot. */
 public class NumberConverterFactorySingleton {
     private static final NumberConverterFactory INSTANCE = new NumberConverterFactory();
 
-    static {
-        // Register default converters at library initialization
-        INSTANCE.registerConverter(IntegerNum.class, new IntegerNumConverterProvider());
-    }
-
     private NumberConverterFactorySingleton() {}
 
     public static NumberConverterFactory getInstance() {
@@ -0,0 +1,330 @@
+package numbertostring.core.factory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Map;
+
+import numbertostring.core.conversion.LocalizedNumberConverter;
+import numbertostring.core.exception.NumberOutOfRangeException;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.IntegerNum;
+import numbertostring.core.model.Number;
+import numbertostring.core.parsing.NumberWordParser;
+import numbertostring.core.token.NumberTokens;
+import numbertostring.core.token.TokenBuffer;
+
+/**
+ * Immutable converter bound to a single locale.
+ *
+ * <p>Rules, formatter, chunk table and one converter per registered number type are
+ * resolved once when the handle is prepared by {@link NumberConverterFactory#prepare(Locale)}.
+ * Conversions through a handle do no registry lookups and no {@code Locale} string work.
+ * Handles hold no mutable state and can be shared freely between threads.</p>
+ *
+ * <p>Every value passes the locale's {@link NumberAdmission} checks first, so values too large
+ * for the language's named units, or with too many fractional digits, are rejected with a {@link NumberOutOfRangeException}
+ * before any conversion work.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * PreparedNumberConverter english = service.forLocale(Locale.ENGLISH);
+ * english.convertNumberToWords(1000L);                       // "One Thousand"
+ * english.convertNumberToWords(new BigDecimal("250"));       // "Two Hundred Fifty"
+ * english.convertNumberToWords(new BigDecimal("12.05"));     // "Twelve Point Zero Five"
+ * english.convertTo(buffer, 1000L);                          // appends "One Thousand"
+ * english.convertTo(byteBuffer, 1000L);                      // puts the UTF-8 bytes of "One Thousand"
+ * english.convertToTokens(1000L).words();                    // ["One", "Thousand"]
+ * english.getParser().parseLong("One Thousand");             // 1000
+ * </pre>
+ */
+public final class PreparedNumberConverter {
+
+    /** Per-thread staging buffers for sinks that are not a {@link StringBuilder}. */
+    private static final ThreadLocal<StagingBuffer> STAGING = ThreadLocal.withInitial(StagingBuffer::new);
+
+    private final Locale locale;
+
+    /** Converter for {@link IntegerNum}, held directly because it serves nearly every request. */
+    private final LocalizedNumberConverter integerConverter;
+
+    /** Converters for every registered number type. */
+    private final Map<Class<?>, LocalizedNumberConverter> converters;
+
+    /** Magnitude limit of the bound language. */
+    private final NumberAdmission admission;
+
+    private final LocalizedNumeralRules rules;
+    private final LocalizedGrammarFormatter formatter;
+
+    /** Parser of the bound language, learned on first use. */
+    private volatile NumberWordParser parser;
+
+    PreparedNumberConverter(Locale locale, Map<Class<?>, LocalizedNumberConverter> converters, NumberAdmission admission,
+            LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        this.locale = locale;
+        this.admission = admission;
+        this.rules = rules;
+        this.formatter = formatter;
+        this.converters = Map.copyOf(converters);
+        this.integerConverter = this.converters.get(IntegerNum.class);
+    }
+
+    /**
+     * Retrieves the locale this handle converts to.
+     * @return Bound locale.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Converts a numeric value into its word representation in the bound locale.
+     * @param numberValue The numeric value to be converted.
+     * @return The word representation of the numeric value.
+     * @throws IllegalArgumentException If the numeric value is unsupported.
+     * @throws NumberOutOfRangeException If the numeric value is too large for the language.
+     */
+    public String convertNumberToWords(BigDecimal numberValue) {
+        return convertNumberToWords(admit(numberValue));
+    }
+
+    /**
+     * Converts a number returned by {@link #admit(BigDecimal)} into its word representation,
+     * without normalizing it again.
+     * @param number Admitted number.
+     * @return The word representation of the number.
+     * @throws IllegalArgumentException If the number type is unsupported.
+     * @throws NumberOutOfRangeException If the number is too large for the language.
+     */
+    public String convertNumberToWords(Number<?> number) {
+        admission.checkMagnitude(number.toBigDecimal());
+        return getConverter(number.getClass()).convertToWords(number);
+    }
+
+    /**
+     * Converts a {@code long} into its word representation in the bound locale
+     * using the primitive fast path.
+     * @param numberValue The numeric value to be converted.
+     * @return The word representation of the numeric value.
+     */
+    public String convertNumberToWords(long numberValue) {
+        admission.checkMagnitude(numberValue);
+        return getConverter(IntegerNum.class).convertToWords(numberValue);
+    }
+
+    /**
+     * Appends the word representation of a numeric value to {@code out}.
+     * @param out Buffer to append to.
+     * @param numberValue The numeric value to be converted.
+     * @throws IllegalArgumentException If the numeric value is unsupported.
+     * @throws NumberOutOfRangeException If the numeric value is too large for the language.
+     */
+    public void convertTo(StringBuilder out, BigDecimal numberValue) {
+        Number<?> numberInstance = admit(numberValue);
+        getConverter(numberInstance.getClass()).convertTo(out, numberInstance);
+    }
+
+    /**
+     * Appends the word representation of a {@code long} to {@code out}.
+     * With the default converters this allocates nothing besides growing {@code out}.
+     * @param out Buffer to append to.
+     * @param numberValue The numeric value to be converted.
+     */
+    public void convertTo(StringBuilder out, long numberValue) {
+        admission.checkMagnitude(numberValue);
+        getConverter(IntegerNum.class).convertTo(out, numberValue);
+    }
+
+    /**
+     * Writes the word representation of a numeric value to any {@link Appendable}.
+     * {@link StringBuilder} and {@link Writer} sinks are written without intermediate strings.
+     * @param out Sink to write to.
+     * @param numberValue The numeric value to be converted.
+     * @throws IOException If the sink fails.
+     * @throws IllegalArgumentException If the numeric value is unsupported.
+     * @throws NumberOutOfRangeException If the numeric value is too large for the language.
+     */
+    public void convertTo(Appendable out, BigDecimal numberValue) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            convertTo(builder, numberValue);
+            return;
+        }
+        StagingBuffer staging = staging();
+        StringBuilder buffer = staging.emptyWords();
+        convertTo(buffer, numberValue);
+        staging.flush(buffer, out);
+    }
+
+    /**
+     * Writes the word representation of a {@code long} to any {@link Appendable}.
+     * {@link StringBuilder} and {@link Writer} sinks are written without intermediate strings.
+     * @param out Sink to write to.
+     * @param numberValue The numeric value to be converted.
+     * @throws IOException If the sink fails.
+     */
+    public void convertTo(Appendable out, long numberValue) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            convertTo(builder, numberValue);
+            return;
+        }
+        StagingBuffer staging = staging();
+        StringBuilder buffer = staging.emptyWords();
+        convertTo(buffer, numberValue);
+        staging.flush(buffer, out);
+    }
+
+    /**
+     * Writes the word representation of a numeric value to {@code out} as UTF-8.
+     * Words are copied from bytes encoded once per language, so a buffer handed straight to a
+     * channel gets the words without an intermediate {@code String}.
+     * @param out Buffer to write to, heap or direct.
+     * @param numberValue The numeric value to be converted.
+     * @throws BufferOverflowException If {@code out} has too little room left; nothing is written then.
+     * @throws IllegalArgumentException If the numeric value is unsupported.
+     * @throws NumberOutOfRangeException If the numeric value is too large for the language.
+     */
+    public void convertTo(ByteBuffer out, BigDecimal numberValue) {
+        Number<?> numberInstance = admit(numberValue);
+        LocalizedNumberConverter converter = getConverter(numberInstance.getClass());
+        TokenBuffer tokens = threadTokens(converter);
+        converter.convertTo(tokens, numberInstance);
+        tokens.renderTo(out);
+    }
+
+    /**
+     * Writes the word representation of a {@code long} to {@code out} as UTF-8.
+     * With the default converters, chunks found in the chunk table create no text at all.
+     * @param out Buffer to write to, heap or direct.
+     * @param numberValue The numeric value to be converted.
+     * @throws BufferOverflowException If {@code out} has too little room left; nothing is written then.
+     */
+    public void convertTo(ByteBuffer out, long numberValue) {
+        admission.checkMagnitude(numberValue);
+        LocalizedNumberConverter converter = getConverter(IntegerNum.class);
+        TokenBuffer tokens = threadTokens(converter);
+        converter.convertTo(tokens, numberValue);
+        tokens.renderTo(out);
+    }
+
+    /**
+     * Converts a numeric value into its words in the bound locale, as tokens.
+     * Renders to the same text as {@link #convertNumberToWords(BigDecimal)}.
+     * @param numberValue The numeric value to be converted.
+     * @return Words of the numeric value with their kinds and vocabulary IDs.
+     * @throws IllegalArgumentException If the numeric value is unsupported.
+     * @throws NumberOutOfRangeException If the numeric value is too large for the language.
+     */
+    public NumberTokens convertToTokens(BigDecimal numberValue) {
+        Number<?> numberInstance = admit(numberValue);
+        LocalizedNumberConverter converter = getConverter(numberInstance.getClass());
+        TokenBuffer out = new TokenBuffer(converter.getVocabulary());
+        converter.convertTo(out, numberInstance);
+        return out.toTokens();
+    }
+
+    /**
+     * Converts a {@code long} into its words in the bound locale, as tokens.
+     * Renders to the same text as {@link #convertNumberToWords(long)}.
+     * @param numberValue The numeric value to be converted.
+     * @return Words of the numeric value with their kinds and vocabulary IDs.
+     */
+    public NumberTokens convertToTokens(long numberValue) {
+        admission.checkMagnitude(numberValue);
+        LocalizedNumberConverter converter = getConverter(IntegerNum.class);
+        TokenBuffer out = new TokenBuffer(converter.getVocabulary());
+        converter.convertTo(out, numberValue);
+        return out.toTokens();
+    }
+
+    /**
+     * Retrieves the parser that reads words of the bound locale back into numbers.
+     * The parser reads its vocabulary from the locale's pack, or learns it from the locale's rules and formatter,
+     * the first time it is requested.
+     * @return Parser of the bound locale.
+     * @throws IllegalArgumentException If the locale's numeral system is not positional.
+     */
+    public NumberWordParser getParser() {
+        NumberWordParser current = parser;
+        if (current == null) {
+            synchronized (this) {
+                current = parser;
+                if (current == null) {
+                    current = NumberWordParser.of(rules, formatter);
+                    parser = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Runs the admission checks and normalizes the value, once, then wraps it in its number type.
+     * Whole values get scale 0, as by {@link NumberAdmission#normalize(BigDecimal)}, so
+     * {@link Number#toBigDecimal()} of the result can key caches of this handle's words.
+     * @param numberValue The numeric value to admit.
+     * @return The normalized value as an {@link IntegerNum} or a {@code DecimalNum}.
+     * @throws NumberOutOfRangeException If the value is too large for the language or has too many fractional digits.
+     */
+    public Number<?> admit(BigDecimal numberValue) {
+        admission.checkMagnitude(numberValue);
+        BigDecimal normalized = NumberAdmission.normalize(numberValue);
+        NumberAdmission.checkFractionDigits(normalized);
+        return NumberConverterFactory.detectNumberType(normalized);
+    }
+
+    /** Returns this thread's token buffer, emptied and bound to the converter's vocabulary. */
+    private static TokenBuffer threadTokens(LocalizedNumberConverter converter) {
+        StagingBuffer staging = staging();
+        if (staging.tokens == null || staging.tokens.getVocabulary() != converter.getVocabulary()) {
+            staging.tokens = new TokenBuffer(converter.getVocabulary());
+        }
+        staging.tokens.clear();
+        return staging.tokens;
+    }
+
+    /**
+     * Returns this thread's staging buffers. A virtual thread runs a single task, so it gets
+     * fresh buffers instead of a thread-local copy that would never be reused.
+     */
+    private static StagingBuffer staging() {
+        return Thread.currentThread().isVirtual() ? new StagingBuffer() : STAGING.get();
+    }
+
+    /** Reused words, characters and tokens of one thread. */
+    private static final class StagingBuffer {
+        private final StringBuilder words = new StringBuilder(256);
+        private char[] chars = new char[0];
+        private TokenBuffer tokens;
+
+        private StringBuilder emptyWords() {
+            words.setLength(0);
+            return words;
+        }
+
+        /** Copies staged words to the sink, going through a reused char array for writers. */
+        private void flush(StringBuilder buffer, Appendable out) throws IOException {
+            if (out instanceof Writer writer) {
+                if (chars.length < buffer.length()) {
+                    chars = new char[Math.max(buffer.length(), chars.length * 2)];
+                }
+                buffer.getChars(0, buffer.length(), chars, 0);
+                writer.write(chars, 0, buffer.length());
+            } else {
+                out.append(buffer);
+            }
+        }
+    }
+
+    private LocalizedNumberConverter getConverter(Class<?> numberType) {
+        LocalizedNumberConverter converter = numberType == IntegerNum.class ? integerConverter : converters.get(numberType);
+        if (converter == null) {
+            throw new IllegalArgumentException("No converter registered for type: " + numberType.getSimpleName());
+        }
+        return converter;
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 
 import com.google.common.math.BigIntegerMath;
+import com.google.common.math.LongMath;
 
 import numbertostring.core.model.NumberBase;
 
@@ -17,6 +18,11 @@ public enum GroupingStrategy {
         public BigInteger getGroupingValue(BigInteger num, NumberBase base) {
             return BigInteger.valueOf(base.getRadix()).pow(3);
         }
+
+        @Override
+        public long getGroupingValue(long num, NumberBase base) {
+            return LongMath.pow(base.getRadix(), 3);
+        }
     },
     LONG_SCALE {
         @Override
@@ -26,11 +32,25 @@ public enum GroupingStrategy {
             return exponent >= 9 ? base.pow(6) 
                 : base.pow(3);
         }
+
+        @Override
+        public long getGroupingValue(long num, NumberBase numberBase) {
+            int exponent = getExponent(num);
+            return exponent >= 9 ? LongMath.pow(numberBase.getRadix(), 6)
+                : LongMath.pow(numberBase.getRadix(), 3);
+        }
     };
 
     public abstract BigInteger getGroupingValue(BigInteger num, NumberBase base);
 
+    /** Primitive counterpart of {@link #getGroupingValue(BigInteger, NumberBase)} for positive longs. */
+    public abstract long getGroupingValue(long num, NumberBase base);
+
     protected int getExponent(BigInteger num) {
         return BigIntegerMath.log10(num, RoundingMode.DOWN);
     }
+
+    protected int getExponent(long num) {
+        return LongMath.log10(num, RoundingMode.DOWN);
+    }
 }
@@ -0,0 +1,460 @@
+package numbertostring.core.language;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.google.common.math.IntMath;
+
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.WordVocabulary;
+
+/**
+ * Precomputed word forms for every chunk of a language, with grammar formatting already applied.
+ *
+ * <p>Holds one dense row per large unit the rules name, plus a row for chunks without a unit.
+ * Each row maps every chunk value below the grouping size (0 to 999 in base 10) to the exact
+ * string the rules and formatter would produce for that chunk and unit, so converting a chunk
+ * becomes a single array index.</p>
+ *
+ * <p>The row for chunks without a unit is built with the table. Rows for large units are
+ * built the first time a chunk with that unit is looked up, so startup does not pay for
+ * magnitudes that are never converted.</p>
+ *
+ * <p>Token rows hold the same entries as packed {@link TokenBuffer} tokens over the rules'
+ * {@link WordVocabulary}, appended by the formatter as word IDs. They are built separately on
+ * first token lookup, so callers that only want text never pay for them.</p>
+ *
+ * <p>Grouping strategies whose chunks reach two groups, such as the long scale's 0 to 999,999
+ * before a million, get those chunks from two lookups instead of rows of a million entries: the
+ * words of the upper group, which do not depend on the lower one, then the words of the lower
+ * group with the unit ("Dos Mil" then "Cinco Millones"). Both parts are cut from the formatter's
+ * own output for the chunks of one unit, built on first use, and a unit whose output cannot be
+ * cut that way is left to the formatter.</p>
+ *
+ * <p>Rows are indexed by the bit length of their unit, which is unique for distinct powers
+ * of a grouping value. Lookups outside the table return {@code null} and callers fall back to
+ * the rules and formatter.</p>
+ */
+public final class LocalizedChunkWordTable {
+
+    private final LocalizedNumeralRules rules;
+    private final LocalizedGrammarFormatter formatter;
+
+    /** Number of chunk values in each row. */
+    private final int chunkSize;
+
+    /** Exclusive bound of the chunks in the table: {@link #chunkSize}, or its square if chunks span two groups. */
+    private final int chunkLimit;
+
+    /** Unit of each row, indexed by bit length. */
+    private final BigInteger[] units;
+
+    /** Unit of each row as a long, or 0 if it does not fit. Indexed by bit length. */
+    private final long[] longUnits;
+
+    /** Formatted chunk words, indexed by unit bit length then chunk value. Rows are filled on first use. */
+    private final AtomicReferenceArray<String[]> words;
+
+    /** Formatted chunk tokens, indexed like {@link #words}. Rows are filled on first use. */
+    private final AtomicReferenceArray<int[][]> tokens;
+
+    /**
+     * Parts of two-group chunk words, indexed by unit bit length: upper group words, lower group
+     * words with the unit, and round chunk words, each indexed by group value. Filled on first use;
+     * an empty array marks a unit whose words cannot be split.
+     */
+    private final AtomicReferenceArray<String[][]> composedWords;
+
+    /** Parts of two-group chunk tokens, laid out like {@link #composedWords}. */
+    private final AtomicReferenceArray<int[][][]> composedTokens;
+
+    /** Words of every token row: the rules' vocabulary. */
+    private final WordVocabulary vocabulary;
+
+    private LocalizedChunkWordTable(LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        this.rules = rules;
+        this.formatter = formatter;
+        this.vocabulary = rules.getVocabulary();
+        this.chunkSize = rules.isPositionalSystem() ? IntMath.pow(rules.getNumberBase().getRadix(), 3) : 0;
+        this.chunkLimit = chunkSize > 0 && groupingLimit(rules) == (long) chunkSize * chunkSize
+            ? chunkSize * chunkSize
+            : chunkSize;
+
+        int maxBitLength = BigInteger.ONE.bitLength();
+        for (BigInteger unit : rules.getLargeUnits().keySet()) {
+            maxBitLength = Math.max(maxBitLength, unit.bitLength());
+        }
+        this.units = new BigInteger[maxBitLength + 1];
+        this.longUnits = new long[maxBitLength + 1];
+        this.words = new AtomicReferenceArray<>(maxBitLength + 1);
+        this.tokens = new AtomicReferenceArray<>(maxBitLength + 1);
+        this.composedWords = new AtomicReferenceArray<>(maxBitLength + 1);
+        this.composedTokens = new AtomicReferenceArray<>(maxBitLength + 1);
+
+        if (chunkSize > 0) {
+            addUnit(BigInteger.ONE);
+            for (BigInteger unit : rules.getLargeUnits().keySet()) {
+                addUnit(unit);
+            }
+            row(BigInteger.ONE.bitLength());
+        }
+    }
+
+    /**
+     * Builds the table for a language by running every chunk through its rules and formatter.
+     * @param rules Language-specific numeral rules.
+     * @param formatter Language-specific grammar formatter.
+     * @return Table of formatted chunk words.
+     */
+    public static LocalizedChunkWordTable build(LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        return new LocalizedChunkWordTable(rules, formatter);
+    }
+
+    /**
+     * Checks whether this table was built from the given rules and formatter.
+     * @param rules Rules to compare with.
+     * @param formatter Formatter to compare with.
+     * @return true if both are the same instances the table was built from.
+     */
+    public boolean isBuiltFrom(LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        return this.rules == rules && this.formatter == formatter;
+    }
+
+    /**
+     * Looks up the formatted words for a chunk and its unit.
+     * @param chunk Chunk value.
+     * @param unit Large unit the chunk is multiplied by.
+     * @return Formatted words, or null if the pair is not in the table.
+     */
+    public String lookup(int chunk, BigInteger unit) {
+        return lookup(chunk, rowIndex(chunk, unit));
+    }
+
+    /**
+     * Looks up the formatted words for a chunk and a unit that fits in a long.
+     * @param chunk Chunk value.
+     * @param unit Large unit the chunk is multiplied by.
+     * @return Formatted words, or null if the pair is not in the table.
+     */
+    public String lookup(int chunk, long unit) {
+        return lookup(chunk, rowIndex(chunk, unit));
+    }
+
+    /**
+     * Retrieves the vocabulary the token rows intern their words into, which is the rules' own.
+     * @return Vocabulary of the table's language.
+     */
+    public WordVocabulary getVocabulary() {
+        return vocabulary;
+    }
+
+    /**
+     * Looks up the formatted tokens for a chunk and its unit.
+     * @param chunk Chunk value.
+     * @param unit Large unit the chunk is multiplied by.
+     * @return Packed tokens over {@link #getVocabulary()}, or null if the pair is not in the table.
+     */
+    public int[] lookupTokens(int chunk, BigInteger unit) {
+        return lookupTokens(chunk, rowIndex(chunk, unit));
+    }
+
+    /**
+     * Looks up the formatted tokens for a chunk and a unit that fits in a long.
+     * @param chunk Chunk value.
+     * @param unit Large unit the chunk is multiplied by.
+     * @return Packed tokens over {@link #getVocabulary()}, or null if the pair is not in the table.
+     */
+    public int[] lookupTokens(int chunk, long unit) {
+        return lookupTokens(chunk, rowIndex(chunk, unit));
+    }
+
+    /**
+     * Builds every row, recomputes every entry with the rules and formatter and compares the two.
+     * Also checks that every token row renders to the text of its entry, and that every two-group
+     * chunk the table composes matches the dynamic output too.
+     * @throws IllegalStateException If any entry differs from the dynamic output.
+     */
+    public void checkConsistency() {
+        for (int bitLength = 0; bitLength < units.length; bitLength++) {
+            if (units[bitLength] == null) {
+                continue;
+            }
+            String[] actual = row(bitLength);
+            String[] expected = formatRow(units[bitLength]);
+            int[][] actualTokens = tokenRow(bitLength);
+            TokenBuffer buffer = new TokenBuffer(vocabulary);
+            StringBuilder rendered = new StringBuilder();
+            for (int chunk = 1; chunk < chunkSize; chunk++) {
+                if (!expected[chunk].equals(actual[chunk])) {
+                    throw stale(chunk, units[bitLength], expected[chunk], actual[chunk]);
+                }
+                buffer.clear();
+                rendered.setLength(0);
+                buffer.appendTokens(actualTokens[chunk]).renderTo(rendered);
+                if (!expected[chunk].contentEquals(rendered)) {
+                    throw stale(chunk, units[bitLength], expected[chunk], rendered.toString());
+                }
+            }
+            String unitName = rules.applyLargeUnitsRules(units[bitLength]);
+            for (int chunk = chunkSize; chunk < chunkLimit; chunk++) {
+                String composed = lookup(chunk, bitLength);
+                if (composed == null) {
+                    break;
+                }
+                String dynamic = format(chunk, unitName, units[bitLength]);
+                if (!dynamic.equals(composed)) {
+                    throw stale(chunk, units[bitLength], dynamic, composed);
+                }
+                int[] composedTokens = lookupTokens(chunk, bitLength);
+                if (composedTokens == null) {
+                    continue;
+                }
+                buffer.clear();
+                rendered.setLength(0);
+                buffer.appendTokens(composedTokens).renderTo(rendered);
+                if (!dynamic.contentEquals(rendered)) {
+                    throw stale(chunk, units[bitLength], dynamic, rendered.toString());
+                }
+            }
+        }
+    }
+
+    private IllegalStateException stale(int chunk, BigInteger unit, String expected, String actual) {
+        return new IllegalStateException(String.format(
+            "Chunk table for \"%s\" is stale at chunk %d, unit %s: expected \"%s\" but was \"%s\"",
+            rules.getLanguageCode(), chunk, unit, expected, actual));
+    }
+
+    /**
+     * Finds the exclusive bound of the chunks a grouping strategy produces: its largest grouping value.
+     * @return Grouping limit, or {@link Long#MAX_VALUE} if it does not fit a long.
+     */
+    private static long groupingLimit(LocalizedNumeralRules rules) {
+        try {
+            return Math.max(rules.getGroupingStrategy().getGroupingValue(1L, rules.getNumberBase()),
+                rules.getGroupingStrategy().getGroupingValue(Long.MAX_VALUE, rules.getNumberBase()));
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private String lookup(int chunk, int bitLength) {
+        if (bitLength < 0) {
+            return null;
+        }
+        if (chunk < chunkSize) {
+            return row(bitLength)[chunk];
+        }
+        String[][] parts = composedRow(bitLength);
+        if (parts.length == 0) {
+            return null;
+        }
+        int upper = chunk / chunkSize;
+        int lower = chunk % chunkSize;
+        return lower == 0 ? parts[2][upper] : parts[0][upper] + ' ' + parts[1][lower];
+    }
+
+    private int[] lookupTokens(int chunk, int bitLength) {
+        if (bitLength < 0) {
+            return null;
+        }
+        if (chunk < chunkSize) {
+            return tokenRow(bitLength)[chunk];
+        }
+        int[][][] parts = composedTokenRow(bitLength);
+        if (parts.length == 0) {
+            return null;
+        }
+        int upper = chunk / chunkSize;
+        int lower = chunk % chunkSize;
+        if (lower == 0) {
+            return parts[2][upper];
+        }
+        int[] head = parts[0][upper];
+        int[] tail = parts[1][lower];
+        int[] tokens = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, tokens, head.length, tail.length);
+        return tokens;
+    }
+
+    /** Returns the row index of a chunk and unit, or -1 if the pair is not in the table. */
+    private int rowIndex(int chunk, BigInteger unit) {
+        int bitLength = unit.bitLength();
+        if (chunk <= 0 || chunk >= chunkLimit || bitLength >= units.length
+            || units[bitLength] == null || !units[bitLength].equals(unit)) {
+            return -1;
+        }
+        return bitLength;
+    }
+
+    /** Returns the row index of a chunk and a unit that fits in a long, or -1 if the pair is not in the table. */
+    private int rowIndex(int chunk, long unit) {
+        int bitLength = Long.SIZE - Long.numberOfLeadingZeros(unit);
+        if (chunk <= 0 || chunk >= chunkLimit || unit <= 0 || bitLength >= units.length
+            || units[bitLength] == null || longUnits[bitLength] != unit) {
+            return -1;
+        }
+        return bitLength;
+    }
+
+    private void addUnit(BigInteger unit) {
+        int bitLength = unit.bitLength();
+        if (units[bitLength] != null) {
+            // Two units share a bit length, so neither can be indexed reliably
+            units[bitLength] = null;
+            return;
+        }
+        units[bitLength] = unit;
+        longUnits[bitLength] = unit.bitLength() < Long.SIZE ? unit.longValue() : 0;
+    }
+
+    /** Returns the row for a unit, building and publishing it on first use. */
+    private String[] row(int bitLength) {
+        String[] row = words.get(bitLength);
+        if (row == null) {
+            words.compareAndSet(bitLength, null, formatRow(units[bitLength]));
+            row = words.get(bitLength);
+        }
+        return row;
+    }
+
+    private String[] formatRow(BigInteger unit) {
+        String unitName = rules.applyLargeUnitsRules(unit);
+        String[] row = new String[chunkSize];
+        for (int chunk = 1; chunk < chunkSize; chunk++) {
+            row[chunk] = format(chunk, unitName, unit);
+        }
+        return row;
+    }
+
+    private String format(int chunk, String unitName, BigInteger unit) {
+        BigInteger chunkValue = BigInteger.valueOf(chunk);
+        String chunkString = rules.applySmallNumeralRules(chunkValue);
+        return formatter.applyLanguageSpecificFormatting(chunkString, chunkValue, unitName, unit);
+    }
+
+    /** Returns the two-group parts for a unit, building and publishing them on first use. */
+    private String[][] composedRow(int bitLength) {
+        String[][] parts = composedWords.get(bitLength);
+        if (parts == null) {
+            composedWords.compareAndSet(bitLength, null, splitRow(units[bitLength]));
+            parts = composedWords.get(bitLength);
+        }
+        return parts;
+    }
+
+    /**
+     * Cuts the words of the chunks {@code upper * chunkSize + lower} of a unit into upper and lower parts.
+     * The upper words are what the chunks 1001 and 1002 share. Every chunk the parts are cut from
+     * must start or end with them as expected; {@link #checkConsistency()} compares every other chunk.
+     * @return Upper, lower and round parts, or an empty array if the words do not split that way.
+     */
+    private String[][] splitRow(BigInteger unit) {
+        String unitName = rules.applyLargeUnitsRules(unit);
+        String first = format(chunkSize + 1, unitName, unit);
+        String second = format(chunkSize + 2, unitName, unit);
+        int headEnd = 0;
+        for (int i = 0; i < Math.min(first.length(), second.length()) && first.charAt(i) == second.charAt(i); i++) {
+            if (first.charAt(i) == ' ') {
+                headEnd = i;
+            }
+        }
+        if (headEnd == 0) {
+            return new String[0][];
+        }
+        String head = first.substring(0, headEnd + 1);
+        String[] heads = new String[chunkSize];
+        String[] tails = new String[chunkSize];
+        String[] rounds = new String[chunkSize];
+        for (int lower = 1; lower < chunkSize; lower++) {
+            String words = format(chunkSize + lower, unitName, unit);
+            if (!words.startsWith(head) || words.length() == head.length()) {
+                return new String[0][];
+            }
+            tails[lower] = words.substring(head.length());
+        }
+        String tail = ' ' + tails[1];
+        for (int upper = 1; upper < chunkSize; upper++) {
+            String words = format(upper * chunkSize + 1, unitName, unit);
+            if (!words.endsWith(tail) || words.length() == tail.length()) {
+                return new String[0][];
+            }
+            heads[upper] = words.substring(0, words.length() - tail.length());
+            rounds[upper] = format(upper * chunkSize, unitName, unit);
+        }
+        return new String[][] {heads, tails, rounds};
+    }
+
+    /** Returns the token row for a unit, building and publishing it on first use. */
+    private int[][] tokenRow(int bitLength) {
+        int[][] row = tokens.get(bitLength);
+        if (row == null) {
+            tokens.compareAndSet(bitLength, null, tokenizeRow(units[bitLength]));
+            row = tokens.get(bitLength);
+        }
+        return row;
+    }
+
+    private int[][] tokenizeRow(BigInteger unit) {
+        String unitName = rules.applyLargeUnitsRules(unit);
+        TokenBuffer buffer = new TokenBuffer(vocabulary);
+        int[][] row = new int[chunkSize][];
+        for (int chunk = 1; chunk < chunkSize; chunk++) {
+            row[chunk] = tokenize(buffer, chunk, unitName, unit);
+        }
+        return row;
+    }
+
+    private int[] tokenize(TokenBuffer buffer, int chunk, String unitName, BigInteger unit) {
+        buffer.clear();
+        formatter.appendTokens(buffer, rules, BigInteger.valueOf(chunk), unitName, unit);
+        return buffer.toArray();
+    }
+
+    /** Returns the two-group token parts for a unit, building and publishing them on first use. */
+    private int[][][] composedTokenRow(int bitLength) {
+        int[][][] parts = composedTokens.get(bitLength);
+        if (parts == null) {
+            composedTokens.compareAndSet(bitLength, null, splitTokenRow(units[bitLength]));
+            parts = composedTokens.get(bitLength);
+        }
+        return parts;
+    }
+
+    /** Token counterpart of {@link #splitRow(BigInteger)}, cutting between tokens instead of words. */
+    private int[][][] splitTokenRow(BigInteger unit) {
+        String unitName = rules.applyLargeUnitsRules(unit);
+        TokenBuffer buffer = new TokenBuffer(vocabulary);
+        int[] first = tokenize(buffer, chunkSize + 1, unitName, unit);
+        int[] second = tokenize(buffer, chunkSize + 2, unitName, unit);
+        int headLength = Arrays.mismatch(first, second);
+        if (headLength <= 0 || headLength == first.length || headLength == second.length) {
+            return new int[0][][];
+        }
+        int[] head = Arrays.copyOf(first, headLength);
+        int[][] heads = new int[chunkSize][];
+        int[][] tails = new int[chunkSize][];
+        int[][] rounds = new int[chunkSize][];
+        for (int lower = 1; lower < chunkSize; lower++) {
+            int[] tokens = tokenize(buffer, chunkSize + lower, unitName, unit);
+            if (tokens.length <= headLength || !Arrays.equals(tokens, 0, headLength, head, 0, headLength)) {
+                return new int[0][][];
+            }
+            tails[lower] = Arrays.copyOfRange(tokens, headLength, tokens.length);
+        }
+        int[] tail = tails[1];
+        for (int upper = 1; upper < chunkSize; upper++) {
+            int[] tokens = tokenize(buffer, upper * chunkSize + 1, unitName, unit);
+            int headEnd = tokens.length - tail.length;
+            if (headEnd <= 0 || !Arrays.equals(tokens, headEnd, tokens.length, tail, 0, tail.length)) {
+                return new int[0][][];
+            }
+            heads[upper] = Arrays.copyOf(tokens, headEnd);
+            rounds[upper] = tokenize(buffer, upper * chunkSize, unitName, unit);
+        }
+        return new int[][][] {heads, tails, rounds};
+    }
+}
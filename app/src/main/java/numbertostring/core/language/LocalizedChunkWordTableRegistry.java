@@ -0,0 +1,33 @@
+package numbertostring.core.language;
+
+import java.util.Locale;
+
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.registry.ConversionRegistry;
+
+/**
+ * Registry of precomputed {@link LocalizedChunkWordTable}s, one per language.
+ * Tables are built when a language is registered so conversions only index into them.
+ * Languages without a table are still converted through their rules and formatter.
+ * Reads and writes the tables of the current {@link ConversionRegistry} snapshot.
+ */
+public class LocalizedChunkWordTableRegistry {
+
+    /** Default constructor. */
+    private LocalizedChunkWordTableRegistry() {}
+
+    /** Builds and registers the chunk table for a language's rules and formatter */
+    public static void register(String language, LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        ConversionRegistry.registerChunkTable(language, rules, formatter);
+    }
+
+    /**
+     * Retrieves the chunk table based on locale.
+     * @param locale User's locale.
+     * @return Table for the locale's language, or null if none was registered.
+     */
+    public static LocalizedChunkWordTable getTable(Locale locale) {
+        return ConversionRegistry.current(locale).getChunkTable(locale);
+    }
+}
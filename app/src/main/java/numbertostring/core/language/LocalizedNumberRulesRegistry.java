@@ -1,34 +1,24 @@
 package numbertostring.core.language;
 
 import java.util.Locale;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
-import numbertostring.core.language.rules.EnglishNumeralRules;
 import numbertostring.core.language.rules.LocalizedNumeralRules;
-import numbertostring.core.language.rules.SpanishNumeralRules;
+import numbertostring.core.registry.ConversionRegistry;
 
 
 
 /**
  * Implementation for LanguageRulesProvider. Responsible for creating a LanguageRules object.
+ * Reads and writes the rules of the current {@link ConversionRegistry} snapshot.
  */
 public class LocalizedNumberRulesRegistry  {
-    private static final Map<String, LocalizedNumeralRules> registry = new ConcurrentHashMap<>();    
     
     /** Default constructor. */
     private LocalizedNumberRulesRegistry() {}
-    
-    /** Static block to preload supported numeral systems */
-    static {
-        register("en", new EnglishNumeralRules());
-        register("es", new SpanishNumeralRules());
-
-    }
 
     /** Registers a new numeral rule implementation */
     public static void register(String language, LocalizedNumeralRules rules) {
-        registry.put(language.toLowerCase(), rules);
+        ConversionRegistry.registerRules(language, rules);
     }
 
     /**
@@ -37,8 +27,7 @@ public class LocalizedNumberRulesRegistry  {
      * @return Corresponding LocalizedNumberRules implementation.
      */
     public static LocalizedNumeralRules getRules(Locale locale) {
-        String key = locale.toLanguageTag().toLowerCase();
-        return registry.getOrDefault(key, registry.get(locale.getLanguage().toLowerCase()));
+        return ConversionRegistry.current(locale).getRules(locale);
     }
 
 }
@@ -0,0 +1,204 @@
+package numbertostring.core.language;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.math.LongMath;
+
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.NumberBase;
+
+/**
+ * Precomputed chunk units of a numeral system, so converters split a number into chunks by
+ * walking a table instead of computing logarithms and powers for every chunk.
+ *
+ * <p>The units are the powers of the grouping value the {@link GroupingStrategy} picks for each
+ * decimal exponent, in ascending order. They only depend on the strategy and the number base,
+ * so they are computed once per pair and shared. Each plan adds the unit names of one set of
+ * rules, indexed like the units.</p>
+ *
+ * <p>Grouping strategies choose the grouping value from the decimal exponent of a number alone,
+ * which lets the plan list the unit candidates of every exponent up front. Numbers of more than
+ * {@value #MAX_EXPONENT} decimal digits are outside the plan and {@link #unitIndex(BigInteger)}
+ * returns -1 for them.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * ScalePlan plan = ScalePlan.of(rules);
+ * int index = plan.unitIndex(num);             // leading unit of num
+ * BigInteger unit = plan.getUnit(index);        // e.g. 1000000
+ * String name = plan.getUnitName(index);        // e.g. "Million"
+ * </pre>
+ */
+public final class ScalePlan {
+
+    /** Decimal exponents covered by every plan; 10^308 is about the largest double. */
+    public static final int MAX_EXPONENT = 309;
+
+    /** Converts a bit length into a decimal exponent estimate that is at most one too small. */
+    private static final double LOG10_OF_2 = Math.log10(2);
+
+    /** Units shared by every plan of the same grouping strategy and number base. */
+    private static final Map<GroupingStrategy, Map<NumberBase, Units>> UNITS = new ConcurrentHashMap<>();
+
+    private final Units units;
+
+    /** Name of each unit, indexed like the units. */
+    private final String[] unitNames;
+
+    private ScalePlan(Units units, String[] unitNames) {
+        this.units = units;
+        this.unitNames = unitNames;
+    }
+
+    /**
+     * Creates the plan of a positional numeral system, naming its units with the given rules.
+     * @param rules Rules providing the grouping strategy, number base and unit names.
+     * @return Plan of the rules' numeral system.
+     * @throws IllegalArgumentException If the rules are not positional.
+     */
+    public static ScalePlan of(LocalizedNumeralRules rules) {
+        NumberBase base = rules.getNumberBase();
+        if (base == null || !base.isPositional()) {
+            throw new IllegalArgumentException("Scale plans need a positional number base.");
+        }
+        Units units = UNITS.computeIfAbsent(rules.getGroupingStrategy(), strategy -> new ConcurrentHashMap<>())
+            .computeIfAbsent(base, key -> new Units(rules.getGroupingStrategy(), key));
+        String[] unitNames = new String[units.values.length];
+        for (int i = 0; i < unitNames.length; i++) {
+            unitNames[i] = rules.getLargeUnitName(units.values[i]);
+        }
+        return new ScalePlan(units, unitNames);
+    }
+
+    /**
+     * Finds the leading unit of a number: the largest power of its grouping value that is at most the number.
+     * @param num Positive number.
+     * @return Index of the unit, or -1 if the number has more than {@value #MAX_EXPONENT} digits.
+     */
+    public int unitIndex(BigInteger num) {
+        int exponent = (int) ((num.bitLength() - 1) * LOG10_OF_2);
+        if (exponent < MAX_EXPONENT && num.compareTo(units.decimalPowers[exponent + 1]) >= 0) {
+            exponent++;
+        }
+        if (exponent >= MAX_EXPONENT) {
+            return -1;
+        }
+        int[] candidates = units.candidates[exponent];
+        int index = 0;
+        while (index + 1 < candidates.length && units.values[candidates[index + 1]].compareTo(num) <= 0) {
+            index++;
+        }
+        return candidates[index];
+    }
+
+    /**
+     * Finds the leading unit of a positive {@code long}. Every {@code long} is within the plan.
+     * @param num Positive number.
+     * @return Index of the unit.
+     */
+    public int unitIndex(long num) {
+        int[] candidates = units.candidates[LongMath.log10(num, RoundingMode.FLOOR)];
+        int index = 0;
+        while (index + 1 < candidates.length && units.longValues[candidates[index + 1]] != 0
+            && units.longValues[candidates[index + 1]] <= num) {
+            index++;
+        }
+        return candidates[index];
+    }
+
+    /**
+     * Retrieves a unit.
+     * @param index Index returned by {@link #unitIndex(BigInteger)}.
+     * @return Unit value.
+     */
+    public BigInteger getUnit(int index) {
+        return units.values[index];
+    }
+
+    /**
+     * Retrieves a unit that is the leading unit of some {@code long}.
+     * @param index Index returned by {@link #unitIndex(long)}.
+     * @return Unit value.
+     */
+    public long getLongUnit(int index) {
+        return units.longValues[index];
+    }
+
+    /**
+     * Retrieves the name the rules give a unit.
+     * @param index Index of the unit.
+     * @return Unit name, empty if the rules have none.
+     */
+    public String getUnitName(int index) {
+        return unitNames[index];
+    }
+
+    /**
+     * Counts the units of the plan.
+     * @return Number of units.
+     */
+    public int size() {
+        return unitNames.length;
+    }
+
+    /** Units of one grouping strategy and number base, with the candidates of each decimal exponent. */
+    private static final class Units {
+
+        /** Distinct units in ascending order. */
+        private final BigInteger[] values;
+
+        /** Units as longs, or 0 if they do not fit. */
+        private final long[] longValues;
+
+        /** Powers of ten up to 10^{@value #MAX_EXPONENT}. */
+        private final BigInteger[] decimalPowers;
+
+        /**
+         * Unit indices a number with a given decimal exponent can lead with, in ascending order.
+         * The first is the largest unit at most 10^exponent; the rest lie below 10^(exponent + 1).
+         */
+        private final int[][] candidates;
+
+        private Units(GroupingStrategy strategy, NumberBase base) {
+            decimalPowers = new BigInteger[MAX_EXPONENT + 1];
+            decimalPowers[0] = BigInteger.ONE;
+            for (int exponent = 1; exponent <= MAX_EXPONENT; exponent++) {
+                decimalPowers[exponent] = decimalPowers[exponent - 1].multiply(BigInteger.TEN);
+            }
+
+            BigInteger[][] unitsByExponent = new BigInteger[MAX_EXPONENT][];
+            TreeSet<BigInteger> distinct = new TreeSet<>();
+            for (int exponent = 0; exponent < MAX_EXPONENT; exponent++) {
+                BigInteger grouping = strategy.getGroupingValue(decimalPowers[exponent], base);
+                BigInteger unit = BigInteger.ONE;
+                while (unit.multiply(grouping).compareTo(decimalPowers[exponent]) <= 0) {
+                    unit = unit.multiply(grouping);
+                }
+                BigInteger[] exponentUnits = {unit};
+                for (unit = unit.multiply(grouping); unit.compareTo(decimalPowers[exponent + 1]) < 0; unit = unit.multiply(grouping)) {
+                    exponentUnits = Arrays.copyOf(exponentUnits, exponentUnits.length + 1);
+                    exponentUnits[exponentUnits.length - 1] = unit;
+                }
+                unitsByExponent[exponent] = exponentUnits;
+                distinct.addAll(Arrays.asList(exponentUnits));
+            }
+
+            values = distinct.toArray(new BigInteger[0]);
+            longValues = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                longValues[i] = values[i].bitLength() < Long.SIZE ? values[i].longValue() : 0;
+            }
+            candidates = new int[MAX_EXPONENT][];
+            for (int exponent = 0; exponent < MAX_EXPONENT; exponent++) {
+                candidates[exponent] = Arrays.stream(unitsByExponent[exponent])
+                    .mapToInt(unit -> Arrays.binarySearch(values, unit))
+                    .toArray();
+            }
+        }
+    }
+}
@@ -1,9 +1,53 @@
 package numbertostring.core.language.formatting;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+import numbertostring.core.token.WordVocabulary;
+
+/**
+ * English grammar stage. Builds the formatted words of a chunk from its numeric value:
+ * "Hundred" follows the hundreds digit whenever the chunk is at least one hundred, and the
+ * unit name, if any, is appended once after the chunk words.
+ *
+ * <p>{@code chunkString} is expected to be the {@code EnglishNumeralRules} spelling of {@code chunk}
+ * and is not read. Chunks must be below one thousand, the short-scale grouping. Tokens are appended
+ * from the precomputed word IDs of each chunk rather than by splitting its text.</p>
+ */
 public class EnglishGrammarFormatter implements LocalizedGrammarFormatter {
 
+    /** Exclusive upper bound of chunk values. */
+    private static final int CHUNK_LIMIT = 1_000;
+
+    private static final String[] ONES = {
+        "", "One", "Two", "Three", "Four", "Five", "Six", "Seven", "Eight", "Nine",
+        "Ten", "Eleven", "Twelve", "Thirteen", "Fourteen", "Fifteen", "Sixteen", "Seventeen", "Eighteen", "Nineteen"
+    };
+
+    private static final String[] TENS = {
+        "", "", "Twenty", "Thirty", "Forty", "Fifty", "Sixty", "Seventy", "Eighty", "Ninety"
+    };
+
+    /** Formatted words of every chunk value; empty for zero, which the rules leave unspelled. */
+    private static final String[] CHUNK_WORDS = new String[CHUNK_LIMIT];
+
+    /** Words of {@link #CHUNK_WORDS}. */
+    private static final WordVocabulary WORDS = new WordVocabulary();
+
+    /** IDs in {@link #WORDS} of each chunk's words, in reading order. */
+    private static final int[][] CHUNK_WORD_IDS = new int[CHUNK_LIMIT][];
+
+    static {
+        CHUNK_WORDS[0] = "";
+        CHUNK_WORD_IDS[0] = new int[0];
+        for (int num = 1; num < CHUNK_WORDS.length; num++) {
+            CHUNK_WORDS[num] = spellChunk(num);
+            CHUNK_WORD_IDS[num] = Arrays.stream(CHUNK_WORDS[num].split(" ")).mapToInt(WORDS::intern).toArray();
+        }
+    }
 
     public EnglishGrammarFormatter() {}
 
@@ -11,28 +55,111 @@ public class EnglishGrammarFormatter implements LocalizedGrammarFormatter {
     @Override
     public String applyLanguageSpecificFormatting(
         String chunkString,
-        BigInteger chunk, 
-        String largeUnitString, 
+        BigInteger chunk,
+        String largeUnitString,
+        BigInteger largeUnit) {
+
+            return format(checkedChunk(chunk), largeUnitString);
+    }
+
+    @Override
+    public String applyLanguageSpecificFormatting(
+        String chunkString,
+        int chunk,
+        String largeUnitString,
+        long largeUnit) {
+
+            return format(checkedChunk(chunk), largeUnitString);
+    }
+
+
+    @Override
+    public void appendTokens(
+        TokenBuffer out,
+        LocalizedNumeralRules rules,
+        BigInteger chunk,
+        String largeUnitString,
         BigInteger largeUnit) {
 
-            String regionalAdjustedString = ensureHundredUsage(chunkString, chunk);
-            regionalAdjustedString = regionalAdjustedString + " " + largeUnitString + " ";
-            return regionalAdjustedString.trim().replaceAll("\\s+", " ");
+            appendChunkTokens(out, checkedChunk(chunk), largeUnitString);
     }
 
+    @Override
+    public void appendTokens(
+        TokenBuffer out,
+        LocalizedNumeralRules rules,
+        int chunk,
+        String largeUnitString,
+        long largeUnit) {
 
+            appendChunkTokens(out, checkedChunk(chunk), largeUnitString);
+    }
 
-    private String ensureHundredUsage(String numeralString, BigInteger chunk) {
-        if (chunk.compareTo(BigInteger.valueOf(100)) >= 0 && chunk.compareTo(BigInteger.valueOf(1000)) < 0) {
-            String[] words = numeralString.split("\\s+");
-            String firstWord = words[0];
+    private static int checkedChunk(BigInteger chunk) {
+        if (chunk.signum() < 0 || chunk.bitLength() >= Integer.SIZE || chunk.intValue() >= CHUNK_LIMIT) {
+            throw new IllegalArgumentException("Chunk must be between 0 and 999: " + chunk);
+        }
+        return chunk.intValue();
+    }
 
-            // Append "hundred" after the first word
-            words[0] = firstWord + " Hundred";
+    private static int checkedChunk(int chunk) {
+        if (chunk < 0 || chunk >= CHUNK_LIMIT) {
+            throw new IllegalArgumentException("Chunk must be between 0 and 999: " + chunk);
+        }
+        return chunk;
+    }
+
+    private void appendChunkTokens(TokenBuffer out, int chunk, String largeUnitString) {
+        out.appendWords(TokenKind.WORD, WORDS, CHUNK_WORD_IDS[chunk]).appendWords(TokenKind.UNIT, largeUnitString);
+    }
+
+    private String format(int chunk, String largeUnitString) {
+        String words = CHUNK_WORDS[chunk];
+        if (largeUnitString.isEmpty()) {
+            return words;
+        }
+        StringBuilder result = new StringBuilder(words.length() + 1 + largeUnitString.length());
+        result.append(words);
+        appendNormalized(result, largeUnitString);
+        return result.toString();
+    }
+
+    /** Spells a value from 1 to 999, with "Hundred" after the hundreds digit. */
+    private static String spellChunk(int num) {
+        StringBuilder words = new StringBuilder();
+        int hundreds = num / 100;
+        int rest = num % 100;
+        if (hundreds > 0) {
+            words.append(ONES[hundreds]).append(" Hundred");
+        }
+        if (rest > 0 && words.length() > 0) {
+            words.append(' ');
+        }
+        if (rest >= 20) {
+            words.append(TENS[rest / 10]);
+            if (rest % 10 > 0) {
+                words.append(' ').append(ONES[rest % 10]);
+            }
+        } else if (rest > 0) {
+            words.append(ONES[rest]);
+        }
+        return words.toString();
+    }
 
-            // Reconstruct the numeral string
-            return String.join(" ", words);
-        }   
-        return numeralString;
+    /** Appends {@code word} after a single space, with whitespace runs collapsed and no trailing whitespace. */
+    private static void appendNormalized(StringBuilder out, String word) {
+        boolean pendingSpace = true;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && out.length() > 0) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+            out.append(c);
+        }
     }
 }
@@ -2,6 +2,10 @@ package numbertostring.core.language.formatting;
 
 import java.math.BigInteger;
 
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+
 public interface LocalizedGrammarFormatter {
 
     /** Applies regional variations or phrasing adjustments */
@@ -11,5 +15,55 @@ public interface LocalizedGrammarFormatter {
         String unitName, 
         BigInteger largeUnit);
 
-}
+    /** Primitive counterpart used by the {@code long} conversion path.
+     * Must produce the same output as the {@code BigInteger} overload.
+     * Implementations should override this to avoid boxing the chunk and unit.
+     */
+    public default String applyLanguageSpecificFormatting(
+        String chunkString,
+        int chunk,
+        String unitName,
+        long largeUnit) {
+        return applyLanguageSpecificFormatting(
+            chunkString, BigInteger.valueOf(chunk), unitName, BigInteger.valueOf(largeUnit));
+    }
+
+    /** Appends the formatted words of a chunk and its unit as tokens.
+     * Defaults to splitting the formatted text, for formatters that only produce text: the words
+     * of a unit name ending the text are units, every other word is a word.
+     * Implementations that know their words should override this to append them by ID.
+     * @param rules Rules the chunk's words are read from when the formatter needs them as text.
+     */
+    public default void appendTokens(
+        TokenBuffer out,
+        LocalizedNumeralRules rules,
+        BigInteger chunk,
+        String unitName,
+        BigInteger largeUnit) {
+        appendText(out, applyLanguageSpecificFormatting(rules.applySmallNumeralRules(chunk), chunk, unitName, largeUnit), unitName);
+    }
 
+    /** Primitive counterpart of the {@code BigInteger} token overload used by the {@code long} conversion path. */
+    public default void appendTokens(
+        TokenBuffer out,
+        LocalizedNumeralRules rules,
+        int chunk,
+        String unitName,
+        long largeUnit) {
+        appendText(out, applyLanguageSpecificFormatting(rules.applyNumeralRulesForSmallNumbers(chunk), chunk, unitName, largeUnit), unitName);
+    }
+
+    /** Splits formatted text into tokens, the words of a trailing unit name as units. */
+    private static void appendText(TokenBuffer out, String text, String unitName) {
+        String words = text.strip();
+        String unit = unitName.strip();
+        int unitStart = words.length() - unit.length();
+        if (unit.isEmpty() || !words.endsWith(unit) || (unitStart > 0 && !Character.isWhitespace(words.charAt(unitStart - 1)))) {
+            out.appendWords(TokenKind.WORD, words);
+            return;
+        }
+        out.appendWords(TokenKind.WORD, words.substring(0, unitStart));
+        out.appendWords(TokenKind.UNIT, unit);
+    }
+
+}
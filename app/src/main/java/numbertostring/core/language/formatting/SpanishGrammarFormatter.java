@@ -1,20 +1,60 @@
 package numbertostring.core.language.formatting;
 
 import java.math.BigInteger;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+
+/**
+ * Spanish grammar stage. Builds the formatted words of a chunk from its numeric value
+ * rather than rewriting the raw numeral string.
+ *
+ * <p>Applies, from the value alone:</p>
+ * <ul>
+ *   <li>"Cien" before a unit or "Mil", and "Ciento" before tens or ones.</li>
+ *   <li>"y" between tens from thirty upwards and ones ("Treinta y Uno").</li>
+ *   <li>"Veinti-" contractions, joined with whatever word follows "Veinte" ("Veintiuno", "Veintimil").</li>
+ *   <li>Accents ("Dieciséis", "Veintidós", "Veintitrés", "Veintiséis").</li>
+ *   <li>"Mil" alone for one thousand and "Un" with a singular unit for one of a plural unit.</li>
+ * </ul>
+ *
+ * <p>{@code chunkString} is expected to be the {@code SpanishNumeralRules} spelling of {@code chunk}
+ * and is not read. Chunks must be below one million, the largest long-scale grouping. Tokens are
+ * split from the formatted text, with a trailing unit name and the singular of a plural unit marked as units.</p>
+ */
 public class SpanishGrammarFormatter implements LocalizedGrammarFormatter {
 
-    private static final Map<String, String> ACCENT_MAP = new HashMap<>();
+    /** Exclusive upper bound of chunk values. */
+    private static final int CHUNK_LIMIT = 1_000_000;
+
+    private static final String[] ONES = {
+        "", "Uno", "Dos", "Tres", "Cuatro", "Cinco", "Seis", "Siete", "Ocho", "Nueve",
+        "Diez", "Once", "Doce", "Trece", "Catorce", "Quince", "Dieciséis", "Diecisiete", "Dieciocho", "Diecinueve"
+    };
+
+    private static final String[] VEINTI = {
+        "Veinte", "Veintiuno", "Veintidós", "Veintitrés", "Veinticuatro",
+        "Veinticinco", "Veintiséis", "Veintisiete", "Veintiocho", "Veintinueve"
+    };
+
+    private static final String[] TENS = {
+        "", "", "Veinte", "Treinta", "Cuarenta", "Cincuenta", "Sesenta", "Setenta", "Ochenta", "Noventa"
+    };
+
+    private static final String[] HUNDREDS = {
+        "", "Ciento", "Doscientos", "Trescientos", "Cuatrocientos",
+        "Quinientos", "Seiscientos", "Setecientos", "Ochocientos", "Novecientos"
+    };
+
+    /** Formatted words of every value below one thousand, as they read before "Mil" or a unit. */
+    private static final String[] BELOW_THOUSAND = new String[1_000];
 
     static {
-        ACCENT_MAP.put("Dieciseis", "Dieciséis");
-        ACCENT_MAP.put("Veinte Dos ", "Veintidós ");
-        ACCENT_MAP.put("Veinte Tres ", "Veintitrés ");
-        ACCENT_MAP.put("Veinte Seis ", "Veintiséis ");
+        BELOW_THOUSAND[0] = "Cero";
+        for (int num = 1; num < BELOW_THOUSAND.length; num++) {
+            BELOW_THOUSAND[num] = spellBelowThousand(num);
+        }
     }
 
     public SpanishGrammarFormatter() {}
@@ -26,26 +66,106 @@ public class SpanishGrammarFormatter implements LocalizedGrammarFormatter {
         String unitName,
         BigInteger unit) {
 
-        chunkString = ensureHundredUsage(chunkString);
-        chunkString = applyLargeUnitFormatting(chunkString, unitName, unit);
-        chunkString = applyGrammarAdjustments(chunkString);
-        return chunkString.trim().replaceAll("\\s+", " ");
-        
+        if (chunk.signum() < 0 || chunk.bitLength() >= Integer.SIZE || chunk.intValue() >= CHUNK_LIMIT) {
+            throw new IllegalArgumentException("Chunk must be between 0 and 999999: " + chunk);
+        }
+        return format(chunk.intValue(), unitName, unit.equals(BigInteger.valueOf(1_000)));
     }
 
-    /** **Fix "Ciento" vs. "Cien" Usage**
-     * "Cien" should be "Ciento" unless it stands alone (e.g., "Cien Mil" vs. "Ciento Uno").
-     */
-    private String ensureHundredUsage(String chunkString) {
-        return chunkString.replaceAll("\\bCien (?!Mil)\\b", "Ciento ");
+    @Override
+    public String applyLanguageSpecificFormatting(
+        String chunkString,
+        int chunk,
+        String unitName,
+        long unit) {
+
+        if (chunk < 0 || chunk >= CHUNK_LIMIT) {
+            throw new IllegalArgumentException("Chunk must be between 0 and 999999: " + chunk);
+        }
+        return format(chunk, unitName, unit == 1_000);
+    }
+
+    @Override
+    public void appendTokens(
+        TokenBuffer out,
+        LocalizedNumeralRules rules,
+        BigInteger chunk,
+        String unitName,
+        BigInteger unit) {
+
+        if (chunk.equals(BigInteger.ONE) && !unit.equals(BigInteger.valueOf(1_000)) && unitName.endsWith("es")) {
+            appendOneOfUnit(out, unitName);
+        } else {
+            LocalizedGrammarFormatter.super.appendTokens(out, rules, chunk, unitName, unit);
+        }
+    }
+
+    @Override
+    public void appendTokens(
+        TokenBuffer out,
+        LocalizedNumeralRules rules,
+        int chunk,
+        String unitName,
+        long unit) {
+
+        if (chunk == 1 && unit != 1_000 && unitName.endsWith("es")) {
+            appendOneOfUnit(out, unitName);
+        } else {
+            LocalizedGrammarFormatter.super.appendTokens(out, rules, chunk, unitName, unit);
+        }
+    }
+
+    /** Appends one of a plural unit, keeping its singular a unit ("Un Millon"). */
+    private static void appendOneOfUnit(TokenBuffer out, String unitName) {
+        out.appendWord(TokenKind.WORD, "Un").appendWords(TokenKind.UNIT, unitName.substring(0, unitName.length() - 2));
+    }
+
+    private String format(int chunk, String unitName, boolean isThousand) {
+        StringBuilder result = new StringBuilder(64);
+        if (chunk == 1 && isThousand) {
+            // "Mil" rather than "Uno Mil"
+            appendNormalized(result, unitName, 0, unitName.length());
+            return result.toString();
+        }
+        if (chunk == 1 && unitName.endsWith("es")) {
+            // "Un Millon" rather than "Uno Millones"
+            result.append("Un");
+            appendWord(result, false, unitName, 0, unitName.length() - 2);
+            return result.toString();
+        }
+
+        boolean endsWithVeinte;
+        if (chunk >= 1_000 && chunk != 1_000) {
+            int thousands = chunk / 1_000;
+            int rest = chunk % 1_000;
+            result.append(BELOW_THOUSAND[thousands]);
+            appendWord(result, thousands % 100 == 20, "Mil", 0, 3);
+            endsWithVeinte = false;
+            if (rest > 0) {
+                result.append(' ').append(BELOW_THOUSAND[rest]);
+                endsWithVeinte = rest % 100 == 20;
+            }
+        } else if (chunk == 1_000) {
+            result.append("Mil");
+            endsWithVeinte = false;
+        } else {
+            result.append(BELOW_THOUSAND[chunk]);
+            endsWithVeinte = chunk % 100 == 20;
+        }
+        appendWord(result, endsWithVeinte, unitName, 0, unitName.length());
+        return result.toString();
     }
 
     /** **Properly Append Large Unit Names**
      * Ensures "Uno Mil" is converted to "Mil", and "Uno Millones" to "Un Millón".
      */
     public String applyLargeUnitFormatting(String chunkString, String unitName, BigInteger unit) {
+        return applyLargeUnitFormatting(chunkString, unitName, unit.equals(BigInteger.valueOf(1_000)));
+    }
 
-        if (chunkString.equals("Uno") && unit.equals(BigInteger.valueOf(1_000))) {
+    private String applyLargeUnitFormatting(String chunkString, String unitName, boolean isThousand) {
+
+        if (chunkString.equals("Uno") && isThousand) {
             return unitName; // Output "Mil" alone
         }
 
@@ -57,31 +177,70 @@ public class SpanishGrammarFormatter implements LocalizedGrammarFormatter {
         return chunkString + " " + unitName;
     }
 
-    /** Applies Spanish grammar rules to numerals
-     * Ensures "Treinta Uno" → "Treinta y Uno" where applicable.
-     */
-    private String applyGrammarAdjustments(String chunkString) {
-
-        // Fix tens-and-ones phrasing (e.g., "Treinta Uno" → "Treinta y Uno")
-        chunkString = chunkString.replaceAll(
-            "\\b(Treinta|Cuarenta|Cincuenta|Sesenta|Setenta|Ochenta|Noventa) (Uno|Dos|Tres|Cuatro|Cinco|Seis|Siete|Ocho|Nueve)\\b",
-            "$1 y $2"
-        );
+    /** Spells a value from 1 to 999 with "Ciento", "y", "Veinti-" and accents applied. */
+    private static String spellBelowThousand(int num) {
+        StringBuilder words = new StringBuilder();
+        int hundreds = num / 100;
+        int rest = num % 100;
+        if (hundreds > 0) {
+            // "Cien" alone, "Ciento" when tens or ones follow
+            words.append(hundreds == 1 && rest == 0 ? "Cien" : HUNDREDS[hundreds]);
+        }
+        if (rest > 0 && words.length() > 0) {
+            words.append(' ');
+        }
+        if (rest >= 30) {
+            words.append(TENS[rest / 10]);
+            if (rest % 10 > 0) {
+                words.append(" y ").append(ONES[rest % 10]);
+            }
+        } else if (rest >= 20) {
+            words.append(VEINTI[rest - 20]);
+        } else if (rest > 0) {
+            words.append(ONES[rest]);
+        }
+        return words.toString();
+    }
 
-        // Apply accents
-        for (Map.Entry<String, String> entry : ACCENT_MAP.entrySet()) {
-            chunkString = chunkString.replace(entry.getKey(), entry.getValue());
+    /**
+     * Appends a word after the words already in {@code out}. A preceding "Veinte" joins with it
+     * as "Veinti-" when the word starts with a letter or digit ("Veinte Mil" reads "Veintimil").
+     */
+    private static void appendWord(StringBuilder out, boolean endsWithVeinte, String word, int from, int to) {
+        if (endsWithVeinte && from < to && isWordChar(word.charAt(from))) {
+            out.setCharAt(out.length() - 1, 'i');
+            out.append(Character.toLowerCase(word.charAt(from)));
+            from++;
+        } else {
+            out.append(' ');
+        }
+        appendNormalized(out, word, from, to);
+        // Drop the separator again if the word was blank
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) <= ' ') {
+            end--;
         }
-        
-        Pattern pattern = Pattern.compile("\\bVeinte\\s(\\w)");
-        Matcher matcher = pattern.matcher(chunkString);
+        out.setLength(end);
+    }
 
-        StringBuffer result = new StringBuffer();
-        while (matcher.find()) {
-            matcher.appendReplacement(result, "Veinti" + matcher.group(1).toLowerCase());
+    /** Appends {@code word[from, to)} with whitespace runs collapsed to one space and no leading whitespace. */
+    private static void appendNormalized(StringBuilder out, String word, int from, int to) {
+        boolean pendingSpace = false;
+        for (int i = from; i < to; i++) {
+            char c = word.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && out.length() > 0 && out.charAt(out.length() - 1) != ' ') {
+                out.append(' ');
+            }
+            pendingSpace = false;
+            out.append(c);
         }
-        matcher.appendTail(result);
-        
-        return result.toString().trim();
     }
-}
\ No newline at end of file
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
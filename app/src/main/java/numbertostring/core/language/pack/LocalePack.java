@@ -0,0 +1,676 @@
+package numbertostring.core.language.pack;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import numbertostring.core.language.GroupingStrategy;
+import numbertostring.core.token.WordVocabulary;
+
+/**
+ * Numeral data and grammar of one base 10 language: words for the ones, tens and hundreds,
+ * zero, the negative marker, the decimal separator, the name of every large unit by exponent,
+ * and the few rules that decide how they combine.
+ *
+ * <p>Packs are written in a small binary format by {@link LocalePackCompiler} at build time
+ * and read back in one shot, so loading a language parses a few hundred bytes instead of
+ * building maps of {@code BigInteger} keys. Every word is interned into the pack's
+ * {@link WordVocabulary} on load, so chunks are spelled as word IDs. The source format is a
+ * properties file:</p>
+ *
+ * <pre>
+ * language=en
+ * grouping=SHORT_SCALE
+ * zero=Zero
+ * negative=Negative
+ * decimal=Point
+ * hundred=Hundred
+ * ones=,One,Two,Three,...,Nineteen
+ * tens=,,Twenty,Thirty,...,Ninety
+ * unit.3=Thousand
+ * unit.6=Million
+ * </pre>
+ *
+ * <p>Optional keys cover languages that do not simply concatenate those words:</p>
+ * <ul>
+ *   <li>{@code ones} may list up to a hundred entries. Non-empty entries from twenty up replace
+ *       the tens and ones they would be built from ("Veintidós").</li>
+ *   <li>{@code tens.joiner} is a word put between a ten and its ones ("Treinta y Uno").</li>
+ *   <li>{@code hundreds} lists a word for each hundred in place of {@code hundred}
+ *       ("Doscientos"), and {@code hundred.alone} replaces one hundred when nothing follows
+ *       it within its thousand ("Cien").</li>
+ *   <li>{@code contraction.<word>=<prefix>} joins {@code word} with a thousand or unit word
+ *       right after it, as {@code prefix} and the lowercased word ("Veinte Mil" reads "Veintimil").</li>
+ *   <li>{@code unit.<exponent>.one} spells one of the unit ("Un Millon" rather than "Uno Millones",
+ *       "Mil" rather than "Uno Mil"). One of a thousand within a chunk reads the same.</li>
+ * </ul>
+ */
+public final class LocalePack {
+
+    /** Classpath folder holding the compiled packs. */
+    static final String RESOURCE_FOLDER = "locales/";
+
+    /** File extension of compiled packs. */
+    static final String EXTENSION = ".ntpack";
+
+    /** Leading bytes of every pack, "NTP" followed by the format version. */
+    static final int MAGIC = 0x4E545003;
+
+    /** Least number of entries in {@link #getOnes()}. */
+    static final int ONES = 20;
+
+    /** Most number of entries in {@link #getOnes()}. */
+    static final int MAX_ONES = 100;
+
+    /** Number of entries in {@link #getTens()}, and in {@link #getHundreds()} if the pack lists them. */
+    static final int TENS = 10;
+
+    private static final String[] NO_WORDS = {};
+
+    private static final int[] NO_IDS = {};
+
+    /** Entry of {@link #joinedIds} for a word pair not seen on load. */
+    private static final int UNKNOWN_JOIN = -2;
+
+    private final String language;
+    private final GroupingStrategy groupingStrategy;
+    private final String zero;
+    private final String negative;
+
+    /** Word between integer and fractional digits, or empty if the language has none. */
+    private final String decimal;
+
+    /** Word following the hundreds digit, or empty if {@link #hundreds} are listed. */
+    private final String hundred;
+
+    /** Word of each hundred, or none if {@link #hundred} follows the digit. */
+    private final String[] hundreds;
+
+    /** Word for one hundred with nothing after it, or empty to spell it like the others. */
+    private final String hundredAlone;
+    private final String[] ones;
+    private final String[] tens;
+
+    /** Word between a ten and its ones, or empty for none. */
+    private final String tensJoiner;
+
+    /** Words joining the thousand or unit word after them, sorted. */
+    private final String[] contracted;
+
+    /** Prefixes replacing {@link #contracted} when joined, indexed like it. */
+    private final String[] contractions;
+
+    /** Exponents of the named units, ascending. */
+    private final int[] unitExponents;
+
+    /** Unit names, indexed like {@link #unitExponents}. */
+    private final String[] unitNames;
+
+    /** Spelling of one of each unit, or empty if it reads like any other chunk. Indexed like {@link #unitExponents}. */
+    private final String[] unitOneForms;
+
+    /** Every word of the pack, and of unit names passed in since. */
+    private final WordVocabulary vocabulary = new WordVocabulary();
+
+    /** IDs of {@link #zero}, {@link #negative} and {@link #decimal}'s words. */
+    private final int[] zeroIds;
+    private final int[] negativeIds;
+    private final int[] decimalIds;
+
+    /** IDs of the words of every value below a thousand, as they read on their own. */
+    private final int[][] belowThousand = new int[1_000][];
+
+    /** IDs of each unit name's words, indexed like {@link #unitExponents}. */
+    private final int[][] unitWordIds;
+
+    /** IDs of each one-form's words, indexed like {@link #unitExponents}. */
+    private final int[][] unitOneFormIds;
+
+    /** Index in {@link #contracted} of each word ID interned on load, or -1. */
+    private final int[] contractionOf;
+
+    /**
+     * ID of each contraction joined with the word after it, by contraction then next word ID:
+     * -1 if the two stay apart, {@value #UNKNOWN_JOIN} if the pair was not joined on load.
+     */
+    private final int[][] joinedIds;
+
+    private LocalePack(String language, GroupingStrategy groupingStrategy, String zero, String negative,
+        String decimal, String hundred, String[] hundreds, String hundredAlone, String[] ones, String[] tens,
+        String tensJoiner, String[] contracted, String[] contractions,
+        int[] unitExponents, String[] unitNames, String[] unitOneForms) {
+        this.language = language;
+        this.groupingStrategy = groupingStrategy;
+        this.zero = zero;
+        this.negative = negative;
+        this.decimal = decimal;
+        this.hundred = hundred;
+        this.hundreds = hundreds;
+        this.hundredAlone = hundredAlone;
+        this.ones = ones;
+        this.tens = tens;
+        this.tensJoiner = tensJoiner;
+        this.contracted = contracted;
+        this.contractions = contractions;
+        this.unitExponents = unitExponents;
+        this.unitNames = unitNames;
+        this.unitOneForms = unitOneForms;
+        this.zeroIds = intern(zero);
+        this.negativeIds = intern(negative);
+        this.decimalIds = intern(decimal);
+        belowThousand[0] = NO_IDS;
+        for (int num = 1; num < belowThousand.length; num++) {
+            belowThousand[num] = spellBelowThousand(num);
+        }
+        this.unitWordIds = Arrays.stream(unitNames).map(this::intern).toArray(int[][]::new);
+        this.unitOneFormIds = Arrays.stream(unitOneForms).map(this::intern).toArray(int[][]::new);
+
+        int[] contractedIds = Arrays.stream(contracted).mapToInt(vocabulary::intern).toArray();
+        this.contractionOf = new int[vocabulary.size()];
+        Arrays.fill(contractionOf, -1);
+        this.joinedIds = new int[contracted.length][contractionOf.length];
+        for (int i = 0; i < contracted.length; i++) {
+            contractionOf[contractedIds[i]] = i;
+            Arrays.fill(joinedIds[i], UNKNOWN_JOIN);
+            // Contractions only join the word starting a unit name
+            for (int[] unitWords : unitWordIds) {
+                if (unitWords.length > 0) {
+                    joinedIds[i][unitWords[0]] = joinedId(i, unitWords[0]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the source form of a pack.
+     * @param source Properties in the format described above.
+     * @return Parsed pack.
+     * Every key but {@code decimal} and the grammar keys is required, and exactly one of
+     * {@code hundred} and {@code hundreds}.
+     * @throws IllegalArgumentException If a key is missing or malformed.
+     */
+    public static LocalePack parse(Properties source) {
+        String[] ones = required(source, "ones").split(",", -1);
+        String[] tens = required(source, "tens").split(",", -1);
+        if (ones.length < ONES || ones.length > MAX_ONES || tens.length != TENS) {
+            throw new IllegalArgumentException("Locale pack needs " + ONES + " to " + MAX_ONES
+                + " comma-separated ones and " + TENS + " tens.");
+        }
+        String hundred = source.getProperty("hundred", "").trim();
+        String[] hundreds = source.containsKey("hundreds") ? source.getProperty("hundreds").split(",", -1) : NO_WORDS;
+        if (hundred.isEmpty() == (hundreds.length == 0) || (hundreds.length != 0 && hundreds.length != TENS)) {
+            throw new IllegalArgumentException(
+                "Locale pack needs either \"hundred\" or " + TENS + " comma-separated \"hundreds\".");
+        }
+        Map<String, String> contractions = new TreeMap<>();
+        Map<Integer, String> units = new TreeMap<>();
+        Map<Integer, String> oneForms = new TreeMap<>();
+        for (String key : source.stringPropertyNames()) {
+            if (key.startsWith("contraction.")) {
+                contractions.put(key.substring("contraction.".length()).trim(), source.getProperty(key).trim());
+            } else if (key.startsWith("unit.")) {
+                boolean oneForm = key.endsWith(".one");
+                int exponent = Integer.parseInt(key.substring("unit.".length(), key.length() - (oneForm ? ".one".length() : 0)));
+                if (exponent <= 0 || exponent > Short.MAX_VALUE) {
+                    throw new IllegalArgumentException("Unit exponent out of range: " + key);
+                }
+                (oneForm ? oneForms : units).put(exponent, source.getProperty(key).trim());
+            }
+        }
+        if (!units.keySet().containsAll(oneForms.keySet())) {
+            throw new IllegalArgumentException("Locale pack spells one of an unnamed unit: " + oneForms.keySet());
+        }
+        return new LocalePack(
+            required(source, "language").toLowerCase(),
+            GroupingStrategy.valueOf(required(source, "grouping")),
+            required(source, "zero"),
+            required(source, "negative"),
+            source.getProperty("decimal", "").trim(),
+            hundred,
+            trimAll(hundreds),
+            source.getProperty("hundred.alone", "").trim(),
+            trimAll(ones),
+            trimAll(tens),
+            source.getProperty("tens.joiner", "").trim(),
+            contractions.keySet().toArray(new String[0]),
+            contractions.values().toArray(new String[0]),
+            units.keySet().stream().mapToInt(Integer::intValue).toArray(),
+            units.values().toArray(new String[0]),
+            units.keySet().stream().map(exponent -> oneForms.getOrDefault(exponent, "")).toArray(String[]::new));
+    }
+
+    /**
+     * Reads a pack written by {@link #write(OutputStream)}, consuming the whole stream at once.
+     * @param in Stream positioned at the start of a pack.
+     * @return Pack read from the stream.
+     * @throws IOException If the stream fails or does not hold a pack.
+     */
+    public static LocalePack read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(in.readAllBytes()));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a locale pack.");
+        }
+        String language = data.readUTF();
+        GroupingStrategy groupingStrategy = GroupingStrategy.values()[data.readUnsignedByte()];
+        String zero = data.readUTF();
+        String negative = data.readUTF();
+        String decimal = data.readUTF();
+        String hundred = data.readUTF();
+        String[] hundreds = readWords(data, data.readUnsignedByte());
+        String hundredAlone = data.readUTF();
+        String[] ones = readWords(data, data.readUnsignedByte());
+        String[] tens = readWords(data, TENS);
+        String tensJoiner = data.readUTF();
+        int contractionCount = data.readUnsignedShort();
+        String[] contracted = new String[contractionCount];
+        String[] contractions = new String[contractionCount];
+        for (int i = 0; i < contractionCount; i++) {
+            contracted[i] = data.readUTF();
+            contractions[i] = data.readUTF();
+        }
+        int unitCount = data.readUnsignedShort();
+        int[] unitExponents = new int[unitCount];
+        String[] unitNames = new String[unitCount];
+        String[] unitOneForms = new String[unitCount];
+        for (int i = 0; i < unitCount; i++) {
+            unitExponents[i] = data.readUnsignedShort();
+            unitNames[i] = data.readUTF();
+            unitOneForms[i] = data.readUTF();
+        }
+        return new LocalePack(language, groupingStrategy, zero, negative, decimal, hundred, hundreds, hundredAlone,
+            ones, tens, tensJoiner, contracted, contractions, unitExponents, unitNames, unitOneForms);
+    }
+
+    /**
+     * Loads the compiled pack of a language from the classpath.
+     * @param language Language code, case-insensitive.
+     * @return Pack of the language.
+     * @throws IllegalArgumentException If no pack is shipped for the language.
+     * @throws UncheckedIOException If the pack cannot be read.
+     */
+    public static LocalePack load(String language) {
+        String resource = RESOURCE_FOLDER + language.toLowerCase() + EXTENSION;
+        try (InputStream in = LocalePack.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No locale pack found at " + resource);
+            }
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read locale pack " + resource, e);
+        }
+    }
+
+    /**
+     * Writes the pack in its binary form.
+     * @param out Stream to write to. Not closed.
+     * @throws IOException If the stream fails.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeUTF(language);
+        data.writeByte(groupingStrategy.ordinal());
+        data.writeUTF(zero);
+        data.writeUTF(negative);
+        data.writeUTF(decimal);
+        data.writeUTF(hundred);
+        data.writeByte(hundreds.length);
+        writeWords(data, hundreds);
+        data.writeUTF(hundredAlone);
+        data.writeByte(ones.length);
+        writeWords(data, ones);
+        writeWords(data, tens);
+        data.writeUTF(tensJoiner);
+        data.writeShort(contracted.length);
+        for (int i = 0; i < contracted.length; i++) {
+            data.writeUTF(contracted[i]);
+            data.writeUTF(contractions[i]);
+        }
+        data.writeShort(unitExponents.length);
+        for (int i = 0; i < unitExponents.length; i++) {
+            data.writeShort(unitExponents[i]);
+            data.writeUTF(unitNames[i]);
+            data.writeUTF(unitOneForms[i]);
+        }
+        data.flush();
+    }
+
+    /** @return Lowercase language code. */
+    public String getLanguage() { return language; }
+
+    /** @return Grouping of the language's large units. */
+    public GroupingStrategy getGroupingStrategy() { return groupingStrategy; }
+
+    /** @return Word for zero. */
+    public String getZero() { return zero; }
+
+    /** @return Word put in front of negative numbers. */
+    public String getNegative() { return negative; }
+
+    /** @return Word between integer and fractional digits, or an empty string if the language has none. */
+    public String getDecimal() { return decimal; }
+
+    /** @return Word following the hundreds digit, or an empty string if the pack lists {@link #getHundreds()}. */
+    public String getHundred() { return hundred; }
+
+    /** @return Word of each hundred, the entry for zero empty, or none if {@link #getHundred()} is used. */
+    public String[] getHundreds() { return hundreds.clone(); }
+
+    /** @return Word for one hundred with nothing after it, or an empty string to spell it like the others. */
+    public String getHundredAlone() { return hundredAlone; }
+
+    /** @return Words from zero up to nineteen or more; the entry for zero is empty, as are entries built from the tens. */
+    public String[] getOnes() { return ones.clone(); }
+
+    /** @return Words for each ten; the entries for zero and ten are empty. */
+    public String[] getTens() { return tens.clone(); }
+
+    /** @return Word between a ten and its ones, or an empty string for none. */
+    public String getTensJoiner() { return tensJoiner; }
+
+    /** @return Words joining the thousand or unit word after them, sorted. */
+    public String[] getContracted() { return contracted.clone(); }
+
+    /** @return Prefixes replacing each of {@link #getContracted()} when joined, indexed like it. */
+    public String[] getContractions() { return contractions.clone(); }
+
+    /** @return Exponents of the named units, ascending. */
+    public int[] getUnitExponents() { return unitExponents.clone(); }
+
+    /** @return Unit names, indexed like {@link #getUnitExponents()}. */
+    public String[] getUnitNames() { return unitNames.clone(); }
+
+    /** @return Spelling of one of each unit, or an empty string if it has none. Indexed like {@link #getUnitExponents()}. */
+    public String[] getUnitOneForms() { return unitOneForms.clone(); }
+
+    /** @return Vocabulary holding every word of the pack. */
+    WordVocabulary getVocabulary() { return vocabulary; }
+
+    /** @return IDs of the zero word's words. */
+    int[] getZeroIds() { return zeroIds; }
+
+    /** @return IDs of the negative marker's words. */
+    int[] getNegativeIds() { return negativeIds; }
+
+    /** @return IDs of the decimal separator's words, none if the language has none. */
+    int[] getDecimalIds() { return decimalIds; }
+
+    /**
+     * Retrieves the words of a unit name as IDs.
+     * @param unitIndex Index in {@link #getUnitExponents()}.
+     * @return IDs of the unit name's words. Shared and must not be modified.
+     */
+    int[] getUnitWordIds(int unitIndex) { return unitWordIds[unitIndex]; }
+
+    /**
+     * Receives the words of a spelled chunk in reading order.
+     */
+    interface WordSink {
+
+        /**
+         * Takes one word.
+         * @param word ID of the word in {@link #getVocabulary()}.
+         * @param unit Whether the word names the chunk's large unit.
+         */
+        void accept(int word, boolean unit);
+    }
+
+    /**
+     * Spells a chunk followed by its unit: "[hundreds] [tens] [ones]", preceded by the thousands
+     * and the thousand word for chunks of a thousand or more, then the unit words. One of a unit
+     * with a one-form reads as that form, and a contracting word joins the word after it.
+     * Spells nothing but the unit for zero.
+     * @param out Receiver of the words.
+     * @param chunk Chunk value, below one million.
+     * @param unitIndex Index of the unit in {@link #getUnitExponents()}, or -1 for a unit the pack does not name.
+     * @param unitWords Words of the unit name, none for chunks without a unit.
+     */
+    void spell(WordSink out, int chunk, int unitIndex, int[] unitWords) {
+        if (chunk == 1 && unitIndex >= 0 && unitOneFormIds[unitIndex].length > 0) {
+            int[] oneForm = unitOneFormIds[unitIndex];
+            // Trailing words stand for the unit, leading ones for the one ("Un Millon")
+            int leading = Math.max(0, oneForm.length - unitWords.length);
+            for (int i = 0; i < oneForm.length; i++) {
+                out.accept(oneForm[i], i >= leading);
+            }
+            return;
+        }
+        int pending = -1;
+        if (chunk >= 1_000) {
+            int thousands = chunk / 1_000;
+            int rest = chunk % 1_000;
+            int thousandIndex = Arrays.binarySearch(unitExponents, 3);
+            if (thousands == 1 && rest == 0 && thousandIndex >= 0 && unitOneFormIds[thousandIndex].length > 0) {
+                pending = emit(out, -1, unitOneFormIds[thousandIndex], false);
+            } else {
+                pending = emit(out, -1, belowThousand[thousands], false);
+                pending = emit(out, pending, thousandIndex >= 0 ? unitWordIds[thousandIndex] : NO_IDS, true);
+            }
+            chunk = rest;
+        }
+        pending = emit(out, pending, belowThousand[chunk], false);
+        if (unitWords.length == 0) {
+            if (pending >= 0) {
+                out.accept(pending, false);
+            }
+            return;
+        }
+        int from = 0;
+        int joined = pending < 0 ? -1 : join(pending, unitWords[0]);
+        if (joined >= 0) {
+            out.accept(joined, false);
+            from = 1;
+        } else if (pending >= 0) {
+            out.accept(pending, false);
+        }
+        for (int i = from; i < unitWords.length; i++) {
+            out.accept(unitWords[i], true);
+        }
+    }
+
+    /**
+     * Spells a chunk as raw numerals, before any grammar applies: the hundreds digit's word
+     * ("One" for English, whose formatter adds "Hundred"), the ten, then the ones, with no joiner
+     * or contraction. Chunks of a thousand or more read as the thousands, the thousand word and
+     * the rest ("Uno Mil Uno").
+     * @param out Buffer to append to, separated from earlier words by a space.
+     * @param chunk Chunk value, below one million.
+     */
+    void appendNumerals(StringBuilder out, int chunk) {
+        if (chunk >= 1_000) {
+            appendNumerals(out, chunk / 1_000);
+            int thousandIndex = unitIndex(3);
+            appendWord(out, thousandIndex >= 0 ? unitNames[thousandIndex] : "");
+            chunk %= 1_000;
+        }
+        int hundredsDigit = chunk / 100;
+        int rest = chunk % 100;
+        if (hundredsDigit > 0) {
+            if (hundreds.length == 0) {
+                appendWord(out, ones[hundredsDigit]);
+            } else {
+                appendWord(out, hundredsDigit == 1 && !hundredAlone.isEmpty() ? hundredAlone : hundreds[hundredsDigit]);
+            }
+        }
+        if (rest >= 20) {
+            appendWord(out, tens[rest / 10]);
+            rest %= 10;
+        }
+        if (rest > 0) {
+            appendWord(out, ones[rest]);
+        }
+    }
+
+    private static void appendWord(StringBuilder out, String word) {
+        if (word.isEmpty()) {
+            return;
+        }
+        if (out.length() > 0) {
+            out.append(' ');
+        }
+        out.append(word);
+    }
+
+    /**
+     * Looks up the index of a unit by exponent.
+     * @param exponent Power of ten of the unit.
+     * @return Index in {@link #getUnitExponents()}, or -1 if the language has no name for the unit.
+     */
+    int unitIndex(int exponent) {
+        int index = Arrays.binarySearch(unitExponents, exponent);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Interns the words of a unit name, such as one the pack does not name itself.
+     * @param text Words separated by whitespace.
+     * @return IDs of the words in {@link #getVocabulary()}, none if the text is blank.
+     */
+    int[] intern(String text) {
+        return Arrays.stream(split(text)).mapToInt(vocabulary::intern).toArray();
+    }
+
+    /**
+     * Splits a unit name or one-form into its words.
+     * @param text Words separated by whitespace.
+     * @return Words of the text, none if it is blank.
+     */
+    private static String[] split(String text) {
+        List<String> words = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                words.add(text.substring(start, i));
+            }
+        }
+        return words.toArray(NO_WORDS);
+    }
+
+    /**
+     * Emits the pending word and all but the last of {@code words}, which is left pending.
+     * @param pending Word still pending, or -1 for none.
+     * @param join Whether the pending word may contract with the first of {@code words}.
+     * @return Word still pending, or -1 for none.
+     */
+    private int emit(WordSink out, int pending, int[] words, boolean join) {
+        if (words.length == 0) {
+            return pending;
+        }
+        int first = words[0];
+        if (pending >= 0) {
+            int joined = join ? join(pending, first) : -1;
+            if (joined >= 0) {
+                first = joined;
+            } else {
+                out.accept(pending, false);
+            }
+        }
+        if (words.length == 1) {
+            return first;
+        }
+        out.accept(first, false);
+        for (int i = 1; i < words.length - 1; i++) {
+            out.accept(words[i], false);
+        }
+        return words[words.length - 1];
+    }
+
+    /** Joins a contracting word with the word after it, or returns -1 if the two stay apart. */
+    private int join(int word, int next) {
+        int index = word < contractionOf.length ? contractionOf[word] : -1;
+        if (index < 0) {
+            return -1;
+        }
+        int joined = next < joinedIds[index].length ? joinedIds[index][next] : UNKNOWN_JOIN;
+        return joined != UNKNOWN_JOIN ? joined : joinedId(index, next);
+    }
+
+    /** Interns a contraction joined with the word after it, or returns -1 if the two stay apart. */
+    private int joinedId(int contraction, int next) {
+        String nextWord = vocabulary.word(next);
+        if (!isWordChar(nextWord.charAt(0))) {
+            return -1;
+        }
+        return vocabulary.intern(contractions[contraction] + Character.toLowerCase(nextWord.charAt(0)) + nextWord.substring(1));
+    }
+
+    private int[] spellBelowThousand(int num) {
+        List<String> words = new ArrayList<>(5);
+        int hundredsDigit = num / 100;
+        int rest = num % 100;
+        if (hundredsDigit > 0) {
+            if (hundredsDigit == 1 && rest == 0 && !hundredAlone.isEmpty()) {
+                words.add(hundredAlone);
+            } else if (hundreds.length > 0) {
+                words.add(hundreds[hundredsDigit]);
+            } else {
+                words.add(ones[hundredsDigit]);
+                words.add(hundred);
+            }
+        }
+        if (rest < ones.length && !ones[rest].isEmpty()) {
+            words.add(ones[rest]);
+        } else if (rest >= 20) {
+            words.add(tens[rest / 10]);
+            if (rest % 10 > 0) {
+                if (!tensJoiner.isEmpty()) {
+                    words.add(tensJoiner);
+                }
+                words.add(ones[rest % 10]);
+            }
+        }
+        words.removeIf(String::isEmpty);
+        return words.stream().mapToInt(vocabulary::intern).toArray();
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static String required(Properties source, String key) {
+        String value = source.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Locale pack is missing \"" + key + "\".");
+        }
+        return value.trim();
+    }
+
+    private static String[] trimAll(String[] words) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] = words[i].trim();
+        }
+        return words;
+    }
+
+    private static String[] readWords(DataInputStream data, int count) throws IOException {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = data.readUTF();
+        }
+        return words;
+    }
+
+    private static void writeWords(DataOutputStream data, String[] words) throws IOException {
+        for (String word : words) {
+            data.writeUTF(word);
+        }
+    }
+}
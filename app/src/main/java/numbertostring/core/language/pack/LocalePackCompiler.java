@@ -0,0 +1,62 @@
+package numbertostring.core.language.pack;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Build step compiling every {@code *.properties} locale source in a folder into a binary
+ * {@link LocalePack} under {@code locales/} in an output folder, which is then packaged as a
+ * classpath resource.
+ *
+ * <pre>
+ * java numbertostring.core.language.pack.LocalePackCompiler src/main/locales build/generated/locale-packs
+ * </pre>
+ */
+public final class LocalePackCompiler {
+
+    private LocalePackCompiler() {}
+
+    /**
+     * Compiles the locale sources.
+     * @param args Source folder, then output folder.
+     * @throws IOException If a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LocalePackCompiler <source folder> <output folder>");
+        }
+        compile(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /**
+     * Compiles every locale source in a folder.
+     * @param sourceFolder Folder of {@code *.properties} files, read as UTF-8.
+     * @param outputFolder Folder to write {@code locales/<language>.ntpack} files under.
+     * @return Number of packs written.
+     * @throws IOException If a file cannot be read or written.
+     */
+    public static int compile(Path sourceFolder, Path outputFolder) throws IOException {
+        Path packFolder = Files.createDirectories(outputFolder.resolve(LocalePack.RESOURCE_FOLDER));
+        int written = 0;
+        try (DirectoryStream<Path> sources = Files.newDirectoryStream(sourceFolder, "*.properties")) {
+            for (Path source : sources) {
+                Properties properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+                LocalePack pack = LocalePack.parse(properties);
+                try (OutputStream out = Files.newOutputStream(packFolder.resolve(pack.getLanguage() + LocalePack.EXTENSION))) {
+                    pack.write(out);
+                }
+                written++;
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,151 @@
+package numbertostring.core.language.pack;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import com.google.common.math.BigIntegerMath;
+import com.google.common.math.LongMath;
+
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+import numbertostring.core.token.WordVocabulary;
+
+/**
+ * Grammar stage of a {@link LocalePack} language. Spells each chunk from its value with the
+ * pack's words and grammar rules, and appends the unit name once.
+ *
+ * <p>{@code chunkString} is not read. A unit name other than the pack's own is appended as
+ * given, with its whitespace collapsed. Chunks are spelled as the pack's word IDs, so tokens
+ * are appended without building text; the words are joined only for the text overloads.</p>
+ */
+public class PackedGrammarFormatter implements LocalizedGrammarFormatter {
+
+    private final LocalePack pack;
+
+    /** Exclusive upper bound of chunk values. */
+    private final int chunkLimit;
+
+    /** Words of the pack. */
+    private final WordVocabulary vocabulary;
+
+    /** Unit names, indexed like {@link LocalePack#getUnitExponents()}. */
+    private final String[] unitNames;
+
+    /**
+     * Creates the formatter for the language of a pack.
+     * @param pack Numeral data and grammar of the language.
+     */
+    public PackedGrammarFormatter(LocalePack pack) {
+        this.pack = pack;
+        this.chunkLimit = PackedNumeralRules.chunkLimit(pack.getGroupingStrategy());
+        this.vocabulary = pack.getVocabulary();
+        this.unitNames = pack.getUnitNames();
+    }
+
+    /** @return Pack whose words and grammar the formatter applies. */
+    public LocalePack getPack() {
+        return pack;
+    }
+
+    @Override
+    public String applyLanguageSpecificFormatting(
+        String chunkString,
+        BigInteger chunk,
+        String largeUnitString,
+        BigInteger largeUnit) {
+
+            return format(checkedChunk(chunk), unitIndex(largeUnit), largeUnitString);
+    }
+
+    @Override
+    public String applyLanguageSpecificFormatting(
+        String chunkString,
+        int chunk,
+        String largeUnitString,
+        long largeUnit) {
+
+            return format(checkedChunk(chunk), unitIndex(largeUnit), largeUnitString);
+    }
+
+    @Override
+    public void appendTokens(
+        TokenBuffer out,
+        LocalizedNumeralRules rules,
+        BigInteger chunk,
+        String largeUnitString,
+        BigInteger largeUnit) {
+
+            appendChunkTokens(out, checkedChunk(chunk), unitIndex(largeUnit), largeUnitString);
+    }
+
+    @Override
+    public void appendTokens(
+        TokenBuffer out,
+        LocalizedNumeralRules rules,
+        int chunk,
+        String largeUnitString,
+        long largeUnit) {
+
+            appendChunkTokens(out, checkedChunk(chunk), unitIndex(largeUnit), largeUnitString);
+    }
+
+    private int checkedChunk(BigInteger chunk) {
+        if (chunk.signum() < 0 || chunk.bitLength() >= Integer.SIZE) {
+            throw outOfRange(chunk);
+        }
+        return checkedChunk(chunk.intValue());
+    }
+
+    private int checkedChunk(int chunk) {
+        if (chunk < 0 || chunk >= chunkLimit) {
+            throw outOfRange(chunk);
+        }
+        return chunk;
+    }
+
+    private IllegalArgumentException outOfRange(Object chunk) {
+        return new IllegalArgumentException("Chunk must be between 0 and " + (chunkLimit - 1) + ": " + chunk);
+    }
+
+    /** Returns the pack's index of a unit, or -1 if the pack does not name it. */
+    private int unitIndex(BigInteger largeUnit) {
+        if (largeUnit.bitLength() < Long.SIZE) {
+            return unitIndex(largeUnit.longValue());
+        }
+        int exponent = BigIntegerMath.log10(largeUnit, RoundingMode.FLOOR);
+        return BigInteger.TEN.pow(exponent).equals(largeUnit) ? pack.unitIndex(exponent) : -1;
+    }
+
+    private int unitIndex(long largeUnit) {
+        if (largeUnit <= 1) {
+            return -1;
+        }
+        int exponent = LongMath.log10(largeUnit, RoundingMode.FLOOR);
+        return LongMath.pow(10, exponent) == largeUnit ? pack.unitIndex(exponent) : -1;
+    }
+
+    /** Returns the word IDs of a unit name, interned on load for the pack's own names. */
+    private int[] unitWords(int unitIndex, String largeUnitString) {
+        return unitIndex >= 0 && unitNames[unitIndex].equals(largeUnitString)
+            ? pack.getUnitWordIds(unitIndex)
+            : pack.intern(largeUnitString);
+    }
+
+    private void appendChunkTokens(TokenBuffer out, int chunk, int unitIndex, String largeUnitString) {
+        pack.spell((word, unit) -> out.appendWord(unit ? TokenKind.UNIT : TokenKind.WORD, vocabulary, word),
+            chunk, unitIndex, unitWords(unitIndex, largeUnitString));
+    }
+
+    private String format(int chunk, int unitIndex, String largeUnitString) {
+        StringBuilder result = new StringBuilder(64);
+        pack.spell((word, unit) -> {
+            if (result.length() > 0) {
+                result.append(' ');
+            }
+            result.append(vocabulary.word(word));
+        }, chunk, unitIndex, unitWords(unitIndex, largeUnitString));
+        return result.toString();
+    }
+}
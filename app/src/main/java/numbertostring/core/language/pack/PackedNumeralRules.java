@@ -0,0 +1,158 @@
+package numbertostring.core.language.pack;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import numbertostring.core.exception.NumeralRulesException;
+import numbertostring.core.language.GroupingStrategy;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.NumberBase;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+import numbertostring.core.token.WordVocabulary;
+
+/**
+ * Numeral rules read from a {@link LocalePack} instead of written as a class.
+ * Units are held in sorted arrays, so lookups are a binary search rather than a map access.
+ * Tokens are appended as IDs in the pack's vocabulary, which the pack's formatter shares.
+ */
+public class PackedNumeralRules extends LocalizedNumeralRules {
+
+    private final LocalePack pack;
+
+    /** Largest grouping value of the pack's strategy; chunks stay below it. */
+    private final int chunkLimit;
+
+    /** Named units, ascending. */
+    private final BigInteger[] units;
+
+    /** Names of {@link #units}. */
+    private final String[] unitNames;
+
+    /** Names of the units that fit in a long, indexed by exponent. */
+    private final String[] longUnitNames;
+
+    /**
+     * Creates rules for the language of a pack.
+     * @param pack Numeral data of the language.
+     */
+    public PackedNumeralRules(LocalePack pack) {
+        this.pack = pack;
+        this.chunkLimit = chunkLimit(pack.getGroupingStrategy());
+        int[] exponents = pack.getUnitExponents();
+        this.units = Arrays.stream(exponents).mapToObj(BigInteger.TEN::pow).toArray(BigInteger[]::new);
+        this.unitNames = pack.getUnitNames();
+        this.longUnitNames = indexLongUnitNames(getLargeUnits());
+    }
+
+    /**
+     * Finds the exclusive bound of the chunks a grouping strategy produces in base 10.
+     * @param groupingStrategy Strategy to check.
+     * @return Largest grouping value of the strategy.
+     */
+    static int chunkLimit(GroupingStrategy groupingStrategy) {
+        return (int) Math.max(groupingStrategy.getGroupingValue(1L, NumberBase.BASE_10),
+            groupingStrategy.getGroupingValue(Long.MAX_VALUE, NumberBase.BASE_10));
+    }
+
+    /** @return Pack the rules are read from. */
+    public LocalePack getPack() {
+        return pack;
+    }
+
+    @Override
+    public String getLanguageCode() {
+        return pack.getLanguage();
+    }
+
+    @Override
+    public NumberBase getNumberBase() {
+        return NumberBase.BASE_10;
+    }
+
+    @Override
+    public GroupingStrategy getGroupingStrategy() {
+        return pack.getGroupingStrategy();
+    }
+
+    @Override
+    public WordVocabulary getVocabulary() {
+        return pack.getVocabulary();
+    }
+
+    @Override
+    public String applyNumeralRulesForZero() {
+        return pack.getZero();
+    }
+
+    @Override
+    public String applyNegativeHandling(String numberString) {
+        return getNegativePrefix() + numberString;
+    }
+
+    @Override
+    public String getNegativePrefix() {
+        return pack.getNegative() + " ";
+    }
+
+    @Override
+    public String getDecimalSeparator() {
+        return pack.getDecimal().isEmpty() ? null : pack.getDecimal();
+    }
+
+    @Override
+    public void appendZeroTokens(TokenBuffer out) {
+        out.appendWords(TokenKind.WORD, pack.getVocabulary(), pack.getZeroIds());
+    }
+
+    @Override
+    public boolean appendNegativeTokens(TokenBuffer out) {
+        out.appendWords(TokenKind.SIGN, pack.getVocabulary(), pack.getNegativeIds());
+        return true;
+    }
+
+    @Override
+    public void appendDecimalSeparatorTokens(TokenBuffer out) {
+        out.appendWords(TokenKind.SEPARATOR, pack.getVocabulary(), pack.getDecimalIds());
+    }
+
+    /** Spells a chunk as raw numerals, leaving the grammar to the pack's formatter. Zero is left unspelled. */
+    @Override
+    public String applyNumeralRulesForSmallNumbers(int num) {
+        if (num < 0 || num >= chunkLimit) {
+            throw new IllegalArgumentException("Number must be between 0 and " + (chunkLimit - 1) + ": " + num);
+        }
+        StringBuilder words = new StringBuilder();
+        pack.appendNumerals(words, num);
+        return words.toString();
+    }
+
+    @Override
+    public String applyNonPositionalConversion(BigInteger num) {
+        throw new NumeralRulesException(pack.getLanguage() + " does not support non-positional number conversion.");
+    }
+
+    @Override
+    public String getLargeUnitName(BigInteger largeUnit) {
+        int index = Arrays.binarySearch(units, largeUnit);
+        return index >= 0 ? unitNames[index] : "";
+    }
+
+    @Override
+    public String getLargeUnitName(long largeUnit) {
+        return lookupLongUnitName(longUnitNames, largeUnit);
+    }
+
+    /** Builds the map on every call; only chunk table construction needs it. */
+    @Override
+    public Map<BigInteger, String> getLargeUnits() {
+        Map<BigInteger, String> largeUnits = new LinkedHashMap<>();
+        for (int i = 0; i < units.length; i++) {
+            largeUnits.put(units[i], unitNames[i]);
+        }
+        return Collections.unmodifiableMap(largeUnits);
+    }
+}
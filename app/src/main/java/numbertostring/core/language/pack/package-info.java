@@ -0,0 +1,6 @@
+/**
+ * This package provides data-driven languages: numerals, unit names and grammar rules described in resource
+ * files, compiled at build time into compact binary locale packs and served through the usual
+ * rules and formatter interfaces.
+ */
+package numbertostring.core.language.pack;
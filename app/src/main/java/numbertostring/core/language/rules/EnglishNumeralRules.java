@@ -1,6 +1,7 @@
 package numbertostring.core.language.rules;
 
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
@@ -55,6 +56,12 @@ public class EnglishNumeralRules extends LocalizedNumeralRules{
         Map.entry(new BigInteger("1000000000000000000000000000000000000000000000"), "Quattuordecillion"),
         Map.entry(new BigInteger("1000000000000000000000000000000000000000000000000"), "Quindecillion")
     ));
+
+    /** Prefix marking a negative number. */
+    private static final String NEGATIVE_PREFIX = "Negative ";
+
+    /** Names of the large units that fit in a long, indexed by exponent. */
+    private static final String[] LONG_UNIT_NAMES = indexLongUnitNames(LARGE_UNITS);
     
     @Override
     public String getLanguageCode() {
@@ -79,7 +86,17 @@ public class EnglishNumeralRules extends LocalizedNumeralRules{
 
     @Override
     public String applyNegativeHandling(String numberString) {
-        return "Negative " + numberString;
+        return NEGATIVE_PREFIX + numberString;
+    }
+
+    @Override
+    public String getNegativePrefix() {
+        return NEGATIVE_PREFIX;
+    }
+
+    @Override
+    public String getDecimalSeparator() {
+        return "Point";
     }
 
 
@@ -117,5 +134,15 @@ public class EnglishNumeralRules extends LocalizedNumeralRules{
         return LARGE_UNITS.getOrDefault(largeUnit, "");
     }
 
+    @Override
+    public Map<BigInteger, String> getLargeUnits() {
+        return Collections.unmodifiableMap(LARGE_UNITS);
+    }
+
+    @Override
+    public String getLargeUnitName(long largeUnit) {
+        return lookupLongUnitName(LONG_UNIT_NAMES, largeUnit);
+    }
+
 
 }
@@ -1,10 +1,19 @@
 package numbertostring.core.language.rules;
 
 import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.Map;
+
+import com.google.common.math.BigIntegerMath;
+import com.google.common.math.LongMath;
 
 import numbertostring.core.exception.NumberProcessingException;
 import numbertostring.core.language.GroupingStrategy;
 import numbertostring.core.model.NumberBase;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+import numbertostring.core.token.WordVocabulary;
 
 /**
  * Defines a common structure for numeral systems across languages.
@@ -12,8 +21,21 @@ import numbertostring.core.model.NumberBase;
  */
 public abstract class LocalizedNumeralRules {
 
+    /** Highest power of the radix {@link #getMagnitudeLimit()} looks at before treating the language as unbounded. */
+    private static final int MAX_CHECKED_EXPONENT = 1_000;
+
+    /** Vocabulary of words appended from text, for rules that do not know their words. */
+    private final WordVocabulary vocabulary = new WordVocabulary();
     
     public LocalizedNumeralRules() {}
+
+    /** Returns the vocabulary token buffers for this language intern words into.
+     * Rules that know their words should return a vocabulary holding them and override the
+     * token methods to append them by ID.
+     */
+    public WordVocabulary getVocabulary() {
+        return vocabulary;
+    }
     
     /** Getter for the Locale that this rules instance is implementing rules for.  */
     public abstract String getLanguageCode();
@@ -30,12 +52,71 @@ public abstract class LocalizedNumeralRules {
     /** Formats negative numbers correctly for the numeral system. */
     public abstract String applyNegativeHandling(String numberString);
 
+    /** Returns the prefix {@link #applyNegativeHandling(String)} adds, or null if it does more than add a prefix.
+     * Lets converters writing into a buffer insert the prefix in place instead of copying the words.
+     */
+    public String getNegativePrefix() {
+        return null;
+    }
+
+    /** Returns the word read between the integer part and the fractional digits of a decimal, such as "Point",
+     * or null if the language has none, in which case decimals cannot be converted.
+     */
+    public String getDecimalSeparator() {
+        return null;
+    }
+
+    /** Appends the zero word as tokens.
+     * Defaults to splitting {@link #applyNumeralRulesForZero()}.
+     */
+    public void appendZeroTokens(TokenBuffer out) {
+        out.appendWords(TokenKind.WORD, applyNumeralRulesForZero());
+    }
+
+    /** Appends {@link #getNegativePrefix()} as {@link TokenKind#SIGN} tokens.
+     * Defaults to splitting the prefix; overriding the prefix means overriding this too.
+     * @return false if there is no prefix, in which case nothing was appended.
+     */
+    public boolean appendNegativeTokens(TokenBuffer out) {
+        String prefix = getNegativePrefix();
+        if (prefix == null) {
+            return false;
+        }
+        out.appendWords(TokenKind.SIGN, prefix);
+        return true;
+    }
+
+    /** Appends {@link #getDecimalSeparator()} as {@link TokenKind#SEPARATOR} tokens.
+     * Defaults to splitting the separator; overriding the separator means overriding this too.
+     * Appends nothing if the language has none.
+     */
+    public void appendDecimalSeparatorTokens(TokenBuffer out) {
+        String separator = getDecimalSeparator();
+        if (separator != null) {
+            out.appendWords(TokenKind.SEPARATOR, separator);
+        }
+    }
+
     /** Converts a small number (less than the languages's largest grouping integer) into its word representation */
     public abstract String applyNumeralRulesForSmallNumbers(int num);
 
     /** Converts a large unit into its word representation */
     public abstract String getLargeUnitName(BigInteger largeUnit);
 
+    /** Returns every large unit this language has a name for, keyed by unit value.
+     * Defaults to none, in which case only chunks without a unit can be precomputed.
+     */
+    public Map<BigInteger, String> getLargeUnits() {
+        return Collections.emptyMap();
+    }
+
+    /** Converts a large unit that fits in a long into its word representation.
+     * Implementations should override this to avoid allocating a BigInteger per lookup.
+     */
+    public String getLargeUnitName(long largeUnit) {
+        return getLargeUnitName(BigInteger.valueOf(largeUnit));
+    }
+
     /** Handles custom logic for non-positional numeral systems */
     public abstract String applyNonPositionalConversion(BigInteger num);
 
@@ -57,4 +138,73 @@ public abstract class LocalizedNumeralRules {
         }
         return getLargeUnitName(largeUnit);
     }
+
+    /**
+     * Finds the smallest magnitude this language cannot spell in full: the first power of the radix
+     * whose leading chunk would need a large unit that {@link #getLargeUnitName(BigInteger)} has no
+     * name for. Every value of smaller magnitude converts with all of its units named.
+     * Computed by walking the grouping, so callers should keep the result.
+     * @return Exclusive bound on absolute values, or null if there is none within
+     * radix^{@value #MAX_CHECKED_EXPONENT} or the system is not positional.
+     */
+    public BigInteger getMagnitudeLimit() {
+        if (!isPositionalSystem()) {
+            return null;
+        }
+        NumberBase base = getNumberBase();
+        BigInteger radix = BigInteger.valueOf(base.getRadix());
+        BigInteger num = BigInteger.ONE;
+        BigInteger grouping = null;
+        BigInteger unit = BigInteger.ONE;
+        for (int exponent = 0; exponent <= MAX_CHECKED_EXPONENT; exponent++, num = num.multiply(radix)) {
+            BigInteger nextGrouping = getGroupingStrategy().getGroupingValue(num, base);
+            if (!nextGrouping.equals(grouping)) {
+                // Units are powers of the grouping, so start over when it changes
+                grouping = nextGrouping;
+                unit = BigInteger.ONE;
+            }
+            boolean grown = false;
+            while (unit.multiply(grouping).compareTo(num) <= 0) {
+                unit = unit.multiply(grouping);
+                grown = true;
+            }
+            if (grown && getLargeUnitName(unit).isEmpty()) {
+                return num;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indexes the base 10 large units that fit in a long by their exponent.
+     * Used by implementations to back {@link #getLargeUnitName(long)} with an array.
+     * @param largeUnits Map of powers of ten to unit names.
+     * @return Unit names where index i holds the name of 10^i, or null if there is none.
+     */
+    protected static String[] indexLongUnitNames(Map<BigInteger, String> largeUnits) {
+        String[] names = new String[LongMath.log10(Long.MAX_VALUE, RoundingMode.DOWN) + 1];
+        for (Map.Entry<BigInteger, String> entry : largeUnits.entrySet()) {
+            if (entry.getKey().bitLength() < Long.SIZE) {
+                names[BigIntegerMath.log10(entry.getKey(), RoundingMode.UNNECESSARY)] = entry.getValue();
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Looks up a unit name in a table built by {@link #indexLongUnitNames(Map)}.
+     * @param names Unit names indexed by exponent.
+     * @param largeUnit Unit to look up.
+     * @return Unit name, or an empty string if the unit has no name.
+     */
+    protected static String lookupLongUnitName(String[] names, long largeUnit) {
+        if (largeUnit <= 0) {
+            return "";
+        }
+        int exponent = LongMath.log10(largeUnit, RoundingMode.DOWN);
+        if (names[exponent] == null || LongMath.pow(10, exponent) != largeUnit) {
+            return "";
+        }
+        return names[exponent];
+    }
 }
@@ -1,6 +1,7 @@
 package numbertostring.core.language.rules;
 
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -54,6 +55,12 @@ public class SpanishNumeralRules extends LocalizedNumeralRules{
         Map.entry(new BigInteger("1000000000000000000000000000000"), "Quintillones")
     ));
 
+    /** Prefix marking a negative number. */
+    private static final String NEGATIVE_PREFIX = "Menos ";
+
+    /** Names of the large units that fit in a long, indexed by exponent. */
+    private static final String[] LONG_UNIT_NAMES = indexLongUnitNames(LARGE_UNITS);
+
     @Override
     public String getLanguageCode() {
         return "es".toLowerCase();
@@ -76,7 +83,17 @@ public class SpanishNumeralRules extends LocalizedNumeralRules{
 
     @Override
     public String applyNegativeHandling(String numberString) {
-        return "Menos " + numberString;
+        return NEGATIVE_PREFIX + numberString;
+    }
+
+    @Override
+    public String getNegativePrefix() {
+        return NEGATIVE_PREFIX;
+    }
+
+    @Override
+    public String getDecimalSeparator() {
+        return "Punto";
     }
 
     @Override
@@ -242,4 +259,14 @@ public class SpanishNumeralRules extends LocalizedNumeralRules{
         return LARGE_UNITS.getOrDefault(largeUnit, "");
     }
 
+    @Override
+    public Map<BigInteger, String> getLargeUnits() {
+        return Collections.unmodifiableMap(LARGE_UNITS);
+    }
+
+    @Override
+    public String getLargeUnitName(long largeUnit) {
+        return lookupLongUnitName(LONG_UNIT_NAMES, largeUnit);
+    }
+
 }
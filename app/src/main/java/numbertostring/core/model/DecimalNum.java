@@ -0,0 +1,50 @@
+package numbertostring.core.model;
+
+import java.math.BigDecimal;
+
+import numbertostring.core.conversion.DecimalNumConverter;
+import numbertostring.core.conversion.LocalizedNumberConverter;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+
+/**
+ * Number with a fractional part, such as a monetary amount.
+ * The scale is kept as given, so {@code 1.50} reads its trailing zero and {@code 1.5} does not.
+ */
+public class DecimalNum extends Number<DecimalNum> {
+
+    /**
+     * Creates a DecimalNum instance using the value passed in.
+     * @param value A {@code BigDecimal} representing underlying value.
+     */
+    public DecimalNum(BigDecimal value) {
+        super(value, DecimalNum.class);
+    }
+
+    /**
+     * Retrieves the value, with the scale it was created with.
+     * @return value as BigDecimal
+     */
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    /**
+     * Creates a DecimalNumConverter instance using specific language rules.
+     * @param rules Set of specific language rules for number conversion
+     * @return Instance of DecimalNumConverter
+     */
+    @Override
+    public LocalizedNumberConverter getConverter(
+        LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        return new DecimalNumConverter(rules, formatter);
+    }
+
+    /**
+     * Determines sign of DecimalNum.
+     * @return true if underlying value &lt; 0, and false otherwise.
+     */
+    public boolean isNegative() {
+        return value.signum() < 0;
+    }
+}
@@ -40,6 +40,14 @@ public abstract class Number<T extends Number<T>> {
         return type;
     }
 
+    /**
+     * Retrieves the underlying value in base 10.
+     * @return value as BigDecimal
+     */
+    public BigDecimal toBigDecimal() {
+        return value;
+    }
+
     
 
 }
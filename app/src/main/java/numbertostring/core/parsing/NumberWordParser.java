@@ -0,0 +1,424 @@
+package numbertostring.core.parsing;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import numbertostring.core.conversion.IntegerNumConverter;
+import numbertostring.core.exception.NumberParseException;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.pack.LocalePack;
+import numbertostring.core.language.pack.PackedGrammarFormatter;
+import numbertostring.core.language.pack.PackedNumeralRules;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.IntegerNum;
+
+/**
+ * Reads the words of one language back into the number they spell.
+ *
+ * <p>The vocabulary of a {@link LocalePack} language is read from the pack's word tables. For
+ * other languages it is learned from their own rules and formatter: the zero word, the negative
+ * prefix and the large unit names come from the rules, and every other word is worked out from
+ * the formatted chunks. Either way the parser reads every word the converters write, including
+ * Spanish "Ciento", "y", "Veinti-" contractions and "Un Millon". Words are matched
+ * case-insensitively and without accents, so "Un Millón" and "dieciseis" read too.</p>
+ *
+ * <p>By default words are added up by their meaning alone, so some sequences no converter
+ * writes still read: "Cien Uno" as 101, "Dos Millon" as 2000000, "Hundred" as 100. The
+ * {@link #strict()} parser also renders the value it read and rejects the words unless they are
+ * the ones the language writes for it, compared case-insensitively and without accents.</p>
+ *
+ * <p>Input is scanned once, character by character, through a {@link WordTrie}; words are
+ * separated by whitespace or hyphens. Values that fit a {@code long} are added up without
+ * allocating; larger ones are read again with {@link BigInteger} arithmetic. Parsers are
+ * immutable and can be shared between threads.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * NumberWordParser spanish = service.forLocale(new Locale("es")).getParser();
+ * spanish.parseLong("Veintiuno Mil Ciento Treinta y Dos"); // 21132
+ * spanish.parse("Un Millón");                               // 1000000
+ * spanish.parseAll(List.of("Dos", "Dos Dos"));              // [2, null]
+ * spanish.strict().parse("Cien Uno");                       // NumberParseException
+ * </pre>
+ */
+public final class NumberWordParser {
+
+    private static final int OK = 0;
+    private static final int UNKNOWN_WORD = 1;
+    private static final int MISPLACED_WORD = 2;
+    private static final int INCOMPLETE = 3;
+    private static final int OVERFLOW = 4;
+    private static final int NOT_WRITTEN = 5;
+
+    /** Per-thread group stacks, so parsing a {@code long} on a platform thread allocates nothing. */
+    private static final ThreadLocal<Cursor> CURSORS = ThreadLocal.withInitial(Cursor::new);
+
+    private final WordTrie trie;
+
+    private final WordMeanings meanings;
+
+    private final byte[] kinds;
+    private final long[] longValues;
+    private final long[] leadingValues;
+    private final long[] places;
+
+    /** Most groups a number can have open at once: one per multiplier, plus the group being read. */
+    private final int maxGroups;
+
+    /** Number of words in the negative prefix. */
+    private final int signLength;
+
+    /** Writes the words of a value, which the strict parser compares its input with. */
+    private final IntegerNumConverter renderer;
+
+    /** Exclusive bound of the magnitudes the language writes, or {@link Long#MAX_VALUE} if it is larger. */
+    private final long longLimit;
+
+    /** Exclusive bound of the magnitudes the language writes, or null if it has none. */
+    private final BigInteger magnitudeLimit;
+
+    /** Whether words must be the ones the language writes for their value. */
+    private final boolean strict;
+
+    NumberWordParser(WordTrie trie, WordMeanings meanings, LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        this.trie = trie;
+        this.meanings = meanings;
+        this.kinds = meanings.kinds;
+        this.longValues = meanings.longValues;
+        this.leadingValues = meanings.leadingValues;
+        this.places = meanings.places;
+        this.maxGroups = meanings.multiplierCount() + 1;
+        this.signLength = meanings.signLength;
+        this.renderer = new IntegerNumConverter(rules, formatter);
+        this.magnitudeLimit = rules.getMagnitudeLimit();
+        this.longLimit = magnitudeLimit != null && magnitudeLimit.bitLength() < Long.SIZE
+            ? magnitudeLimit.longValue()
+            : Long.MAX_VALUE;
+        this.strict = false;
+    }
+
+    private NumberWordParser(NumberWordParser lenient) {
+        this.trie = lenient.trie;
+        this.meanings = lenient.meanings;
+        this.kinds = lenient.kinds;
+        this.longValues = lenient.longValues;
+        this.leadingValues = lenient.leadingValues;
+        this.places = lenient.places;
+        this.maxGroups = lenient.maxGroups;
+        this.signLength = lenient.signLength;
+        this.renderer = lenient.renderer;
+        this.magnitudeLimit = lenient.magnitudeLimit;
+        this.longLimit = lenient.longLimit;
+        this.strict = true;
+    }
+
+    /**
+     * Creates the parser of a language. The vocabulary of a language served from a {@link LocalePack}
+     * is read from the pack's word tables; for other languages it is learned from the rules and
+     * formatter, which formats every chunk once per large unit, so callers should keep the parser.
+     * @param rules Language-specific numeral rules.
+     * @param formatter Language-specific grammar formatter.
+     * @return Parser of the language.
+     * @throws IllegalArgumentException If the rules are not positional.
+     */
+    public static NumberWordParser of(LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        // Subclasses may write other words than the pack holds, so only the pack's own classes qualify
+        if (rules.getClass() == PackedNumeralRules.class && formatter.getClass() == PackedGrammarFormatter.class
+            && ((PackedNumeralRules) rules).getPack() == ((PackedGrammarFormatter) formatter).getPack()) {
+            PackVocabulary vocabulary = new PackVocabulary(((PackedNumeralRules) rules).getPack());
+            return new NumberWordParser(vocabulary.read(), vocabulary.meanings(), rules, formatter);
+        }
+        return new VocabularyLearner(rules, formatter).learn();
+    }
+
+    /**
+     * Returns a parser of the same language that only reads the words its converters write for a
+     * value, in order: "Ciento Uno" but not "Cien Uno", "Un Millon" but not "Uno Millon" or
+     * "Un Millones", "One Million One Thousand" but not "One Million Thousand". Case, accents and
+     * hyphens between words are still ignored. Each value read is rendered again to compare.
+     * @return Strict parser of the language.
+     */
+    public NumberWordParser strict() {
+        return strict ? this : new NumberWordParser(this);
+    }
+
+    /**
+     * Reads the number some words spell.
+     * @param words Number words, separated by whitespace or hyphens.
+     * @return Number the words spell.
+     * @throws NumberParseException If a word is not a number word of the language, or the words do not form a number.
+     */
+    public BigInteger parse(CharSequence words) {
+        Cursor cursor = cursor();
+        BigInteger value = read(words, cursor);
+        if (value == null) {
+            throw failure(words, cursor);
+        }
+        return value;
+    }
+
+    /**
+     * Reads the number some words spell, when it fits a {@code long}.
+     * @param words Number words, separated by whitespace or hyphens.
+     * @return Number the words spell.
+     * @throws NumberParseException If a word is not a number word of the language, or the words do not form a number.
+     * @throws ArithmeticException If the number does not fit a {@code long}.
+     */
+    public long parseLong(CharSequence words) {
+        Cursor cursor = cursor();
+        if (readLong(words, cursor)) {
+            return cursor.longValue;
+        }
+        return parse(words).longValueExact();
+    }
+
+    /**
+     * Reads a batch of numbers. Unreadable entries do not stop the batch, and do not cost an exception.
+     * @param words Number words of each entry.
+     * @return Number each entry spells, or null where an entry does not spell one.
+     */
+    public BigInteger[] parseAll(List<? extends CharSequence> words) {
+        Cursor cursor = cursor();
+        BigInteger[] values = new BigInteger[words.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = read(words.get(i), cursor);
+        }
+        return values;
+    }
+
+    static boolean isSeparator(char c) {
+        return c == ' ' || c == '-' || Character.isWhitespace(c);
+    }
+
+    /** Returns this thread's cursor, or a fresh one on a virtual thread, which runs a single task. */
+    private Cursor cursor() {
+        Cursor cursor = Thread.currentThread().isVirtual() ? new Cursor() : CURSORS.get();
+        if (cursor.groupValues.length < maxGroups) {
+            cursor.groupValues = new long[maxGroups];
+            cursor.groupUnits = new long[maxGroups];
+        }
+        return cursor;
+    }
+
+    /** Reads the words with {@code long} arithmetic first, and again as a {@link BigInteger} if that overflows. */
+    private BigInteger read(CharSequence words, Cursor cursor) {
+        if (readLong(words, cursor)) {
+            return BigInteger.valueOf(cursor.longValue);
+        }
+        if (cursor.status != OVERFLOW) {
+            return null;
+        }
+        int[] ids = new int[words.length()];
+        int count = 0;
+        int position = 0;
+        while ((position = nextWord(words, position, cursor)) >= 0) {
+            if (cursor.wordId < 0) {
+                cursor.fail(UNKNOWN_WORD, cursor.wordStart, cursor.wordEnd);
+                return null;
+            }
+            ids[count++] = cursor.wordId;
+        }
+        BigInteger value = meanings.evaluate(ids, count, true);
+        if (value == null) {
+            cursor.fail(INCOMPLETE, words.length(), words.length());
+        } else if (strict && !isWritten(words, value)) {
+            cursor.fail(NOT_WRITTEN, words.length(), words.length());
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * Scans the next word.
+     * @return Index after the word, with its ID in the cursor, or -1 if no words are left.
+     */
+    private int nextWord(CharSequence words, int position, Cursor cursor) {
+        int length = words.length();
+        while (position < length && isSeparator(words.charAt(position))) {
+            position++;
+        }
+        if (position == length) {
+            return -1;
+        }
+        cursor.wordStart = position;
+        int node = WordTrie.ROOT;
+        for (; position < length; position++) {
+            char c = words.charAt(position);
+            if (isSeparator(c)) {
+                break;
+            }
+            if (node >= 0) {
+                node = trie.step(node, c);
+            }
+        }
+        cursor.wordEnd = position;
+        cursor.wordId = node < 0 ? -1 : trie.wordAt(node);
+        return position;
+    }
+
+    /**
+     * Adds the words up with {@code long} arithmetic, following the grammar of {@link WordMeanings}.
+     * @return Whether the value was read into the cursor; otherwise the cursor holds the reason.
+     */
+    private boolean readLong(CharSequence words, Cursor cursor) {
+        long[] groupValues = cursor.groupValues;
+        long[] groupUnits = cursor.groupUnits;
+        int depth = 0;
+        long small = 0;
+        long place = 0;
+        int signs = 0;
+        boolean numbers = false;
+        boolean zero = false;
+        boolean connector = false;
+        int position = 0;
+        try {
+            while ((position = nextWord(words, position, cursor)) >= 0) {
+                int id = cursor.wordId;
+                if (id < 0) {
+                    return cursor.fail(UNKNOWN_WORD, cursor.wordStart, cursor.wordEnd);
+                }
+                switch (kinds[id]) {
+                    case WordMeanings.SIGN:
+                        if (numbers || longValues[id] != signs) {
+                            return cursor.fail(MISPLACED_WORD, cursor.wordStart, cursor.wordEnd);
+                        }
+                        signs++;
+                        break;
+                    case WordMeanings.ZERO:
+                        if (numbers) {
+                            return cursor.fail(MISPLACED_WORD, cursor.wordStart, cursor.wordEnd);
+                        }
+                        zero = true;
+                        numbers = true;
+                        break;
+                    case WordMeanings.CONNECTOR:
+                        if (small == 0 || connector) {
+                            return cursor.fail(MISPLACED_WORD, cursor.wordStart, cursor.wordEnd);
+                        }
+                        connector = true;
+                        break;
+                    case WordMeanings.VALUE:
+                        if (zero || (small > 0 && longValues[id] >= place)) {
+                            return cursor.fail(MISPLACED_WORD, cursor.wordStart, cursor.wordEnd);
+                        }
+                        small += longValues[id];
+                        place = places[id];
+                        connector = false;
+                        numbers = true;
+                        break;
+                    default:
+                        if (zero || connector || (small > 0 && leadingValues[id] >= place)) {
+                            return cursor.fail(MISPLACED_WORD, cursor.wordStart, cursor.wordEnd);
+                        }
+                        long unit = longValues[id];
+                        if (unit == 0) {
+                            return cursor.fail(OVERFLOW, cursor.wordStart, cursor.wordEnd);
+                        }
+                        long base = small + leadingValues[id];
+                        while (depth > 0 && groupUnits[depth - 1] < unit) {
+                            base = Math.addExact(base, groupValues[--depth]);
+                        }
+                        if (depth > 0 && groupUnits[depth - 1] == unit) {
+                            return cursor.fail(MISPLACED_WORD, cursor.wordStart, cursor.wordEnd);
+                        }
+                        groupValues[depth] = Math.multiplyExact(base == 0 ? 1 : base, unit);
+                        groupUnits[depth++] = unit;
+                        small = 0;
+                        numbers = true;
+                        break;
+                }
+            }
+            if (!numbers || connector || (signs > 0 && signs < signLength)) {
+                return cursor.fail(INCOMPLETE, words.length(), words.length());
+            }
+            long total = small;
+            for (int i = 0; i < depth; i++) {
+                total = Math.addExact(total, groupValues[i]);
+            }
+            cursor.longValue = signs > 0 ? -total : total;
+            if (strict && !isWritten(words, cursor.longValue)) {
+                return cursor.fail(NOT_WRITTEN, words.length(), words.length());
+            }
+            cursor.status = OK;
+            return true;
+        } catch (ArithmeticException e) {
+            return cursor.fail(OVERFLOW, cursor.wordStart, cursor.wordEnd);
+        }
+    }
+
+    /** Whether the words are the ones the language writes for a value. */
+    private boolean isWritten(CharSequence words, long value) {
+        if (longLimit != Long.MAX_VALUE && (value >= longLimit || value <= -longLimit)) {
+            return false;
+        }
+        return sameWords(words, renderer.convertToWords(value));
+    }
+
+    private boolean isWritten(CharSequence words, BigInteger value) {
+        if (magnitudeLimit != null && value.abs().compareTo(magnitudeLimit) >= 0) {
+            return false;
+        }
+        return sameWords(words, renderer.convertToWords(new IntegerNum(value)));
+    }
+
+    /** Whether two texts hold the same words, folded the way the trie compares them. */
+    private static boolean sameWords(CharSequence words, CharSequence written) {
+        int i = 0;
+        int j = 0;
+        while (true) {
+            while (i < words.length() && isSeparator(words.charAt(i))) {
+                i++;
+            }
+            while (j < written.length() && isSeparator(written.charAt(j))) {
+                j++;
+            }
+            if (i == words.length() || j == written.length()) {
+                return i == words.length() && j == written.length();
+            }
+            while (i < words.length() && j < written.length()
+                && !isSeparator(words.charAt(i)) && !isSeparator(written.charAt(j))) {
+                if (WordTrie.fold(words.charAt(i++)) != WordTrie.fold(written.charAt(j++))) {
+                    return false;
+                }
+            }
+            boolean wordEnded = i == words.length() || isSeparator(words.charAt(i));
+            boolean writtenEnded = j == written.length() || isSeparator(written.charAt(j));
+            if (wordEnded != writtenEnded) {
+                return false;
+            }
+        }
+    }
+
+    private static NumberParseException failure(CharSequence words, Cursor cursor) {
+        CharSequence word = words.subSequence(cursor.wordStart, cursor.wordEnd);
+        switch (cursor.status) {
+            case UNKNOWN_WORD:
+                return new NumberParseException("Unknown number word '" + word + "' at index " + cursor.wordStart + ".");
+            case MISPLACED_WORD:
+                return new NumberParseException("Number word '" + word + "' at index " + cursor.wordStart
+                    + " does not follow the words before it.");
+            case NOT_WRITTEN:
+                return new NumberParseException("Words are not how the language writes their number: '" + words + "'.");
+            default:
+                return new NumberParseException("Words do not spell a complete number: '" + words + "'.");
+        }
+    }
+
+    /** Scan position and group stacks of one thread. */
+    private static final class Cursor {
+        private long[] groupValues = new long[0];
+        private long[] groupUnits = new long[0];
+        private int wordStart;
+        private int wordEnd;
+        private int wordId;
+        private int status;
+        private long longValue;
+
+        private boolean fail(int reason, int start, int end) {
+            status = reason;
+            wordStart = start;
+            wordEnd = end;
+            return false;
+        }
+    }
+}
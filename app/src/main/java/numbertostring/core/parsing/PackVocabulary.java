@@ -0,0 +1,152 @@
+package numbertostring.core.parsing;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import numbertostring.core.language.pack.LocalePack;
+
+/**
+ * Reads what every number word of a {@link LocalePack} language means straight from the pack's
+ * word tables, instead of learning it from formatted chunks like {@link VocabularyLearner}.
+ *
+ * <p>Every word the pack's formatter can write is defined from the table it comes from:</p>
+ * <ul>
+ *   <li>the zero word and the words of the negative marker;</li>
+ *   <li>ones, tens, hundreds and the lone hundred as values, and the hundred word as a multiplier;</li>
+ *   <li>the joiner between tens and ones as a connector;</li>
+ *   <li>unit names and the unit words of their one-forms as multipliers ("Mil Millones" is
+ *       "Mil" then a million), and the words before them in a one-form as one ("Un");</li>
+ *   <li>every contracting word joined with every multiplier word, as that multiplier led by the
+ *       word's value ("Veintimil").</li>
+ * </ul>
+ * <p>A word keeps the first meaning it is given.</p>
+ */
+final class PackVocabulary {
+
+    private final LocalePack pack;
+
+    private final WordMeanings meanings = new WordMeanings(10);
+
+    /** Folded words mapped to their IDs. */
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    /** Multiplier words as the pack writes them, which contractions join. */
+    private final List<String> multipliers = new ArrayList<>();
+
+    PackVocabulary(LocalePack pack) {
+        this.pack = pack;
+    }
+
+    /**
+     * Defines every word of the pack.
+     * @return Trie over the pack's words, with their meanings in {@link #meanings()}.
+     */
+    WordTrie read() {
+        List<String> zero = words(pack.getZero());
+        if (zero.size() == 1) {
+            define(zero.get(0), WordMeanings.ZERO, null, 0);
+        }
+        List<String> signWords = words(pack.getNegative());
+        for (int position = 0; position < signWords.size(); position++) {
+            define(signWords.get(position), WordMeanings.SIGN, BigInteger.valueOf(position), 0);
+        }
+        defineValues(pack.getOnes(), 1);
+        defineValues(pack.getTens(), 10);
+        defineValues(pack.getHundreds(), 100);
+        if (!pack.getHundredAlone().isEmpty()) {
+            define(pack.getHundredAlone(), WordMeanings.VALUE, BigInteger.valueOf(100), 0);
+        }
+        if (!pack.getHundred().isEmpty()) {
+            defineMultiplier(pack.getHundred(), BigInteger.valueOf(100));
+        }
+        if (!pack.getTensJoiner().isEmpty()) {
+            define(pack.getTensJoiner(), WordMeanings.CONNECTOR, null, 0);
+        }
+
+        int[] exponents = pack.getUnitExponents();
+        String[] names = pack.getUnitNames();
+        String[] oneForms = pack.getUnitOneForms();
+        for (int i = 0; i < exponents.length; i++) {
+            List<String> nameWords = words(names[i]);
+            defineUnit(nameWords, BigInteger.TEN.pow(exponents[i]));
+            List<String> oneForm = words(oneForms[i]);
+            // Trailing words stand for the unit, leading ones for the one ("Un Millon")
+            int leading = Math.max(0, oneForm.size() - nameWords.size());
+            for (String one : oneForm.subList(0, leading)) {
+                define(one, WordMeanings.VALUE, BigInteger.ONE, 0);
+            }
+            defineUnit(oneForm.subList(leading, oneForm.size()), BigInteger.TEN.pow(exponents[i]));
+        }
+
+        String[] contracted = pack.getContracted();
+        String[] contractions = pack.getContractions();
+        for (int i = 0; i < contracted.length; i++) {
+            Integer word = ids.get(WordTrie.fold(contracted[i]));
+            if (word == null || meanings.kinds[word] != WordMeanings.VALUE) {
+                continue;
+            }
+            for (String multiplier : multipliers) {
+                int unit = ids.get(WordTrie.fold(multiplier));
+                String joined = contractions[i] + Character.toLowerCase(multiplier.charAt(0)) + multiplier.substring(1);
+                define(joined, WordMeanings.MULTIPLIER, meanings.values[unit], meanings.longValues[word]);
+            }
+        }
+        return new WordTrie(ids);
+    }
+
+    /** @return Meanings of the words, indexed by the IDs in the trie. */
+    WordMeanings meanings() {
+        return meanings;
+    }
+
+    private void defineValues(String[] words, int step) {
+        for (int i = 1; i < words.length; i++) {
+            if (!words[i].isEmpty()) {
+                define(words[i], WordMeanings.VALUE, BigInteger.valueOf((long) i * step), 0);
+            }
+        }
+    }
+
+    /**
+     * Defines the words of a unit name: each word before the last must be a known multiplier,
+     * and the last one stands for what the unit leaves once they are applied.
+     */
+    private void defineUnit(List<String> words, BigInteger unit) {
+        if (words.isEmpty()) {
+            return;
+        }
+        BigInteger rest = unit;
+        for (String word : words.subList(0, words.size() - 1)) {
+            Integer id = ids.get(WordTrie.fold(word));
+            if (id == null || meanings.kinds[id] != WordMeanings.MULTIPLIER) {
+                return;
+            }
+            rest = rest.divide(meanings.values[id]);
+        }
+        defineMultiplier(words.get(words.size() - 1), rest);
+    }
+
+    private void defineMultiplier(String word, BigInteger unit) {
+        if (!ids.containsKey(WordTrie.fold(word))) {
+            multipliers.add(word);
+        }
+        define(word, WordMeanings.MULTIPLIER, unit, 0);
+    }
+
+    private void define(String word, byte kind, BigInteger value, long leading) {
+        ids.computeIfAbsent(WordTrie.fold(word), folded -> meanings.add(kind, value, leading));
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
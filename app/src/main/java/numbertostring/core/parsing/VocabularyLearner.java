@@ -0,0 +1,248 @@
+package numbertostring.core.parsing;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+
+/**
+ * Learns what every number word of a language means by running its rules and formatter.
+ *
+ * <p>The zero word, the words of the negative prefix and single-word unit names are taken from
+ * the rules. Every chunk is then formatted alone and with each large unit, smallest first, and
+ * a word not known yet is solved from the value of the chunk it appeared in, trying in turn:</p>
+ * <ul>
+ *   <li>the unit itself, for a singular unit name ("Un Millon" beside "Millones");</li>
+ *   <li>a value joined with the unit ("Veintimil");</li>
+ *   <li>a value ("Ciento", "Veintidós");</li>
+ *   <li>a multiplier that is a power of the radix ("Hundred");</li>
+ *   <li>a connector ("y").</li>
+ * </ul>
+ * <p>A meaning is kept only if the whole chunk then reads back to its value. Chunks with more
+ * than one unknown word are retried once the rest of the vocabulary is known.</p>
+ */
+final class VocabularyLearner {
+
+    private final LocalizedNumeralRules rules;
+    private final LocalizedGrammarFormatter formatter;
+    private final BigInteger radix;
+
+    /** Exclusive bound of chunk values, and of the value words learned from them. */
+    private final int chunkLimit;
+
+    private final WordMeanings meanings;
+
+    /** Folded words mapped to their IDs. */
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    VocabularyLearner(LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        if (!rules.isPositionalSystem()) {
+            throw new IllegalArgumentException("Number word parsers need a positional number base.");
+        }
+        this.rules = rules;
+        this.formatter = formatter;
+        int base = rules.getNumberBase().getRadix();
+        this.radix = BigInteger.valueOf(base);
+        this.chunkLimit = base * base * base;
+        this.meanings = new WordMeanings(base);
+    }
+
+    /**
+     * Learns the vocabulary and builds the parser.
+     * @return Parser of the language.
+     */
+    NumberWordParser learn() {
+        List<String> zero = split(rules.applyNumeralRulesForZero());
+        if (zero.size() == 1) {
+            define(zero.get(0), WordMeanings.ZERO, null, 0);
+        }
+        String prefix = rules.getNegativePrefix();
+        if (prefix != null) {
+            List<String> signWords = split(prefix);
+            for (int position = 0; position < signWords.size(); position++) {
+                define(signWords.get(position), WordMeanings.SIGN, BigInteger.valueOf(position), 0);
+            }
+        }
+        Map<BigInteger, String> units = new TreeMap<>(rules.getLargeUnits());
+        for (Map.Entry<BigInteger, String> unit : units.entrySet()) {
+            List<String> words = split(unit.getValue());
+            if (words.size() == 1) {
+                define(words.get(0), WordMeanings.MULTIPLIER, unit.getKey(), 0);
+            }
+        }
+
+        List<Probe> deferred = new ArrayList<>();
+        probeChunks("", BigInteger.ONE, deferred);
+        for (Map.Entry<BigInteger, String> unit : units.entrySet()) {
+            probeChunks(unit.getValue(), unit.getKey(), deferred);
+        }
+        boolean progress = true;
+        while (progress && !deferred.isEmpty()) {
+            progress = deferred.removeIf(probe -> learn(probe.words, probe.value, probe.unit));
+        }
+        return new NumberWordParser(new WordTrie(ids), meanings, rules, formatter);
+    }
+
+    private void probeChunks(String unitName, BigInteger unit, List<Probe> deferred) {
+        for (int chunk = 1; chunk < chunkLimit; chunk++) {
+            BigInteger chunkValue = BigInteger.valueOf(chunk);
+            String chunkString = rules.applySmallNumeralRules(chunkValue);
+            List<String> words;
+            try {
+                words = split(formatter.applyLanguageSpecificFormatting(chunkString, chunkValue, unitName, unit));
+            } catch (IllegalArgumentException e) {
+                // Formatters with smaller chunks reject the rest
+                break;
+            }
+            BigInteger value = chunkValue.multiply(unit);
+            if (!learn(words, value, unit)) {
+                deferred.add(new Probe(words, value, unit));
+            }
+        }
+    }
+
+    /**
+     * Learns the unknown words of a formatted chunk.
+     * @return Whether no word of the chunk is left unknown.
+     */
+    private boolean learn(List<String> words, BigInteger value, BigInteger unit) {
+        int[] sequence = new int[words.size()];
+        int unknown = -1;
+        int unknownCount = 0;
+        for (int i = 0; i < sequence.length; i++) {
+            Integer id = ids.get(words.get(i));
+            if (id == null) {
+                unknown = unknownCount == 0 ? i : unknown;
+                unknownCount++;
+            } else {
+                sequence[i] = id;
+            }
+        }
+        if (unknownCount == 0) {
+            return true;
+        }
+
+        int last = sequence.length - 1;
+        boolean singularUnit = unknownCount == 2 && unit.compareTo(BigInteger.ONE) > 0 && !ids.containsKey(words.get(last));
+        if (singularUnit) {
+            // "Un Millon": the singular of the unit and the word for one are both new
+            sequence[last] = define(words.get(last), WordMeanings.MULTIPLIER, unit, 0);
+        } else if (unknownCount > 1) {
+            return false;
+        }
+        if (solve(words.get(unknown), sequence, unknown, value, unit)) {
+            return true;
+        }
+        if (singularUnit) {
+            ids.remove(words.get(last));
+            meanings.removeLast();
+        }
+        return false;
+    }
+
+    /** Finds the first meaning of an unknown word that reads the chunk back to its value, and keeps it. */
+    private boolean solve(String word, int[] sequence, int index, BigInteger value, BigInteger unit) {
+        if (index == sequence.length - 1 && unit.compareTo(BigInteger.ONE) > 0) {
+            if (keep(word, sequence, index, value, WordMeanings.MULTIPLIER, unit, 0)) {
+                return true;
+            }
+            long leading = solveLinear(sequence, index, value, WordMeanings.MULTIPLIER, unit);
+            if (leading > 0 && keep(word, sequence, index, value, WordMeanings.MULTIPLIER, unit, leading)) {
+                return true;
+            }
+        }
+        long number = solveLinear(sequence, index, value, WordMeanings.VALUE, null);
+        if (number > 0 && keep(word, sequence, index, value, WordMeanings.VALUE, BigInteger.valueOf(number), 0)) {
+            return true;
+        }
+        for (BigInteger multiplier = radix; multiplier.compareTo(value) <= 0; multiplier = multiplier.multiply(radix)) {
+            if (keep(word, sequence, index, value, WordMeanings.MULTIPLIER, multiplier, 0)) {
+                return true;
+            }
+        }
+        return keep(word, sequence, index, value, WordMeanings.CONNECTOR, null, 0);
+    }
+
+    /**
+     * Solves the value a word adds for the chunk to read its value. The chunk is read leniently
+     * with the word standing for 1 and for 2, which is enough since each value word adds linearly.
+     * @return Value of the word, or 0 if none below the chunk limit fits.
+     */
+    private long solveLinear(int[] sequence, int index, BigInteger value, byte kind, BigInteger unit) {
+        BigInteger one = evaluateWith(sequence, index, kind, unit, 1);
+        BigInteger two = evaluateWith(sequence, index, kind, unit, 2);
+        if (one == null || two == null || one.equals(two)) {
+            return 0;
+        }
+        BigInteger[] steps = value.subtract(one).divideAndRemainder(two.subtract(one));
+        BigInteger solved = steps[0].add(BigInteger.ONE);
+        if (steps[1].signum() != 0 || solved.signum() <= 0 || solved.compareTo(BigInteger.valueOf(chunkLimit)) >= 0) {
+            return 0;
+        }
+        return solved.longValue();
+    }
+
+    private BigInteger evaluateWith(int[] sequence, int index, byte kind, BigInteger unit, long number) {
+        sequence[index] = kind == WordMeanings.VALUE
+            ? meanings.add(kind, BigInteger.valueOf(number), 0)
+            : meanings.add(kind, unit, number);
+        BigInteger result = meanings.evaluate(sequence, sequence.length, false);
+        meanings.removeLast();
+        return result;
+    }
+
+    /** Gives the word a meaning and keeps it if the chunk then reads back to its value. */
+    private boolean keep(String word, int[] sequence, int index, BigInteger value, byte kind, BigInteger number, long leading) {
+        sequence[index] = meanings.add(kind, number, leading);
+        if (value.equals(meanings.evaluate(sequence, sequence.length, true))) {
+            ids.put(word, sequence[index]);
+            return true;
+        }
+        meanings.removeLast();
+        return false;
+    }
+
+    private int define(String word, byte kind, BigInteger value, long leading) {
+        Integer id = ids.get(word);
+        if (id == null) {
+            id = meanings.add(kind, value, leading);
+            ids.put(word, id);
+        }
+        return id;
+    }
+
+    /** Splits words the way the parser scans them, folded. */
+    private static List<String> split(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || NumberWordParser.isSeparator(text.charAt(i))) {
+                if (start >= 0) {
+                    words.add(WordTrie.fold(text.substring(start, i)));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    /** Formatted chunk whose words are not all known yet. */
+    private static final class Probe {
+        private final List<String> words;
+        private final BigInteger value;
+        private final BigInteger unit;
+
+        private Probe(List<String> words, BigInteger value, BigInteger unit) {
+            this.words = words;
+            this.value = value;
+            this.unit = unit;
+        }
+    }
+}
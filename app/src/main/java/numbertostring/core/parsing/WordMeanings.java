@@ -0,0 +1,189 @@
+package numbertostring.core.parsing;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * What each word of a parser's vocabulary stands for, indexed by word ID, together with the
+ * grammar that adds words up into a number.
+ *
+ * <p>Words are values that add up ("Twenty", "Ciento"), multipliers that scale everything
+ * before them below their own size ("Hundred", "Mil", "Millones"), connectors that join a
+ * value to the next ("y"), the zero word and the words of the negative prefix. A multiplier
+ * may carry a leading value, for words that join a value with a unit ("Veintimil"). A negative
+ * number starts with every word of the prefix exactly once, in order, so "Negative Negative Five"
+ * is rejected.</p>
+ *
+ * <p>Multipliers build groups whose multipliers strictly decrease from left to right, so
+ * "Dos Mil Millones" reads (2 × 1000) × 1000000 and "One Million Two Million" is rejected.
+ * In strict mode a value may only follow a smaller place of the value before it, which rejects
+ * "Twelve One" but accepts "Twenty One" and "Ciento Uno".</p>
+ */
+final class WordMeanings {
+
+    static final byte VALUE = 0;
+    static final byte MULTIPLIER = 1;
+    static final byte CONNECTOR = 2;
+    static final byte ZERO = 3;
+    static final byte SIGN = 4;
+
+    private final int radix;
+
+    byte[] kinds = new byte[64];
+
+    /** Value of each word, the unit of a multiplier, or the position of a sign word in the negative prefix. */
+    BigInteger[] values = new BigInteger[64];
+
+    /** Values as longs, or 0 if they do not fit. */
+    long[] longValues = new long[64];
+
+    /** Value read before a multiplier within the same word, or 0. */
+    long[] leadingValues = new long[64];
+
+    /** Largest power of the radix dividing each value word, which the next value must stay below. */
+    long[] places = new long[64];
+
+    int size;
+
+    /** Number of sign words, which a negative number must start with, in order. */
+    int signLength;
+
+    WordMeanings(int radix) {
+        this.radix = radix;
+    }
+
+    /**
+     * Adds the meaning of a word.
+     * @param kind Kind of the word.
+     * @param value Value of a value word or unit of a multiplier; ignored for the other kinds.
+     * @param leadingValue Value a multiplier word reads before its unit, or 0.
+     * @return ID of the word.
+     */
+    int add(byte kind, BigInteger value, long leadingValue) {
+        if (size == kinds.length) {
+            kinds = Arrays.copyOf(kinds, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+            longValues = Arrays.copyOf(longValues, size * 2);
+            leadingValues = Arrays.copyOf(leadingValues, size * 2);
+            places = Arrays.copyOf(places, size * 2);
+        }
+        kinds[size] = kind;
+        values[size] = value;
+        longValues[size] = value != null && value.bitLength() < Long.SIZE ? value.longValue() : 0;
+        leadingValues[size] = leadingValue;
+        places[size] = kind == VALUE ? place(longValues[size]) : 1;
+        if (kind == SIGN) {
+            signLength++;
+        }
+        return size++;
+    }
+
+    /** Removes the most recently added meaning. */
+    void removeLast() {
+        size--;
+        if (kinds[size] == SIGN) {
+            signLength--;
+        }
+    }
+
+    /**
+     * Counts the multiplier words, which bounds how many groups a number can have open.
+     * @return Number of multiplier words.
+     */
+    int multiplierCount() {
+        int count = 0;
+        for (int id = 0; id < size; id++) {
+            if (kinds[id] == MULTIPLIER) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds up a sequence of words.
+     * @param ids Word IDs in reading order.
+     * @param count Number of IDs to read.
+     * @param strict Whether values must follow smaller places of the value before them.
+     * @return Value of the words, or null if they do not form a number.
+     */
+    BigInteger evaluate(int[] ids, int count, boolean strict) {
+        BigInteger[] groupValues = new BigInteger[count];
+        BigInteger[] groupUnits = new BigInteger[count];
+        int depth = 0;
+        long small = 0;
+        long place = 0;
+        int signs = 0;
+        boolean numbers = false;
+        boolean zero = false;
+        boolean connector = false;
+        for (int i = 0; i < count; i++) {
+            int id = ids[i];
+            switch (kinds[id]) {
+                case SIGN:
+                    // Each word of the prefix once, in order
+                    if (numbers || longValues[id] != signs) {
+                        return null;
+                    }
+                    signs++;
+                    break;
+                case ZERO:
+                    if (numbers) {
+                        return null;
+                    }
+                    zero = true;
+                    numbers = true;
+                    break;
+                case CONNECTOR:
+                    if (small == 0 || connector) {
+                        return null;
+                    }
+                    connector = true;
+                    break;
+                case VALUE:
+                    if (zero || (strict && small > 0 && longValues[id] >= place)) {
+                        return null;
+                    }
+                    small += longValues[id];
+                    place = places[id];
+                    connector = false;
+                    numbers = true;
+                    break;
+                default:
+                    if (zero || connector || (strict && small > 0 && leadingValues[id] >= place)) {
+                        return null;
+                    }
+                    BigInteger unit = values[id];
+                    BigInteger base = BigInteger.valueOf(small + leadingValues[id]);
+                    while (depth > 0 && groupUnits[depth - 1].compareTo(unit) < 0) {
+                        base = base.add(groupValues[--depth]);
+                    }
+                    if (depth > 0 && groupUnits[depth - 1].equals(unit)) {
+                        return null;
+                    }
+                    groupValues[depth] = (base.signum() == 0 ? BigInteger.ONE : base).multiply(unit);
+                    groupUnits[depth++] = unit;
+                    small = 0;
+                    numbers = true;
+                    break;
+            }
+        }
+        if (!numbers || connector || (signs > 0 && signs < signLength)) {
+            return null;
+        }
+        BigInteger total = BigInteger.valueOf(small);
+        for (int i = 0; i < depth; i++) {
+            total = total.add(groupValues[i]);
+        }
+        return signs > 0 ? total.negate() : total;
+    }
+
+    /** Finds the largest power of the radix that divides a value. */
+    private long place(long value) {
+        long place = 1;
+        while (value != 0 && value % (place * radix) == 0) {
+            place *= radix;
+        }
+        return place;
+    }
+}
@@ -0,0 +1,141 @@
+package numbertostring.core.parsing;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Character trie over the folded words of a vocabulary, walked one character at a time so a
+ * parser finds each word while scanning its input, without cutting substrings.
+ *
+ * <p>Words are folded before they are stored and every character is folded as it is walked:
+ * letters are lowercased and accents dropped, so "Dieciséis", "dieciseis" and "DIECISEIS" reach
+ * the same word. "ñ" stays a letter of its own. Transitions are one dense row per node over the
+ * characters the vocabulary uses.</p>
+ */
+final class WordTrie {
+
+    /** Root node, where every word starts. */
+    static final int ROOT = 0;
+
+    /** Characters below this are folded through {@link #FOLDED}; it covers Latin-1 and Latin Extended-A and B. */
+    private static final int FOLD_LIMIT = 0x250;
+
+    /** Folded form of every character below {@link #FOLD_LIMIT}. */
+    private static final char[] FOLDED = new char[FOLD_LIMIT];
+
+    static {
+        for (char c = 0; c < FOLD_LIMIT; c++) {
+            char lower = Character.toLowerCase(c);
+            String decomposed = Normalizer.normalize(String.valueOf(lower), Normalizer.Form.NFD);
+            FOLDED[c] = lower == 'ñ' || decomposed.isEmpty() ? lower : decomposed.charAt(0);
+        }
+    }
+
+    /** Folded characters of the vocabulary, sorted. */
+    private final char[] alphabet;
+
+    /** Alphabet index of every raw character below {@link #FOLD_LIMIT}, or -1. */
+    private final byte[] charIndex = new byte[FOLD_LIMIT];
+
+    /** Child of each node per alphabet index, or 0 for none. Row {@code node} starts at {@code node * alphabet.length}. */
+    private final int[] transitions;
+
+    /** Word ID ending at each node, or -1. */
+    private final int[] wordIds;
+
+    /**
+     * Builds the trie of a vocabulary.
+     * @param foldedWords Folded words mapped to their IDs.
+     */
+    WordTrie(Map<String, Integer> foldedWords) {
+        TreeSet<Character> chars = new TreeSet<>();
+        int nodeLimit = 1;
+        for (String word : foldedWords.keySet()) {
+            for (int i = 0; i < word.length(); i++) {
+                chars.add(word.charAt(i));
+            }
+            nodeLimit += word.length();
+        }
+        if (chars.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Vocabulary uses too many distinct characters: " + chars.size());
+        }
+        alphabet = new char[chars.size()];
+        int index = 0;
+        for (char c : chars) {
+            alphabet[index++] = c;
+        }
+        for (char c = 0; c < FOLD_LIMIT; c++) {
+            charIndex[c] = (byte) Arrays.binarySearch(alphabet, FOLDED[c]);
+            if (charIndex[c] < 0) {
+                charIndex[c] = -1;
+            }
+        }
+
+        int[] children = new int[nodeLimit * alphabet.length];
+        int[] words = new int[nodeLimit];
+        Arrays.fill(words, -1);
+        int nodes = 1;
+        for (Map.Entry<String, Integer> entry : foldedWords.entrySet()) {
+            String word = entry.getKey();
+            int node = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                int slot = node * alphabet.length + Arrays.binarySearch(alphabet, word.charAt(i));
+                if (children[slot] == 0) {
+                    children[slot] = nodes++;
+                }
+                node = children[slot];
+            }
+            words[node] = entry.getValue();
+        }
+        transitions = Arrays.copyOf(children, nodes * alphabet.length);
+        wordIds = Arrays.copyOf(words, nodes);
+    }
+
+    /**
+     * Folds a character the way the trie compares them.
+     * @param c Character to fold.
+     * @return Lowercase character without accents.
+     */
+    static char fold(char c) {
+        return c < FOLD_LIMIT ? FOLDED[c] : Character.toLowerCase(c);
+    }
+
+    /**
+     * Folds a word the way the trie stores it.
+     * @param word Word to fold.
+     * @return Lowercase word without accents.
+     */
+    static String fold(CharSequence word) {
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(word.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Follows one character from a node.
+     * @param node Current node.
+     * @param c Next character of the input, not yet folded.
+     * @return Child node, or -1 if no word continues with the character.
+     */
+    int step(int node, char c) {
+        int index = c < FOLD_LIMIT ? charIndex[c] : Arrays.binarySearch(alphabet, Character.toLowerCase(c));
+        if (index < 0) {
+            return -1;
+        }
+        int child = transitions[node * alphabet.length + index];
+        return child == 0 ? -1 : child;
+    }
+
+    /**
+     * Retrieves the word that ends at a node.
+     * @param node Node reached by {@link #step(int, char)}.
+     * @return Word ID, or -1 if the characters so far only start a word.
+     */
+    int wordAt(int node) {
+        return wordIds[node];
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * This package reads number words back into numbers, with a vocabulary read from a locale pack's
+ * word tables or learned from the same rules and formatter that write them, so round trips can be
+ * validated without regular expressions.
+ */
+package numbertostring.core.parsing;
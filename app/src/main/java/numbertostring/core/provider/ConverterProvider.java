@@ -1,6 +1,7 @@
 package numbertostring.core.provider;
 
 import numbertostring.core.conversion.LocalizedNumberConverter;
+import numbertostring.core.language.LocalizedChunkWordTable;
 import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
 import numbertostring.core.language.rules.LocalizedNumeralRules;
 
@@ -11,4 +12,17 @@ import numbertostring.core.language.rules.LocalizedNumeralRules;
 public interface ConverterProvider {
     LocalizedNumberConverter createConverter(
         LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter);
+
+    /**
+     * Creates a converter that may use precomputed chunk words.
+     * Providers whose converters cannot use the table can ignore it.
+     * @param rules Language-specific numeral rules.
+     * @param formatter Language-specific grammar formatter.
+     * @param chunkWords Chunk words built from the same rules and formatter, or null.
+     * @return Converter for the language.
+     */
+    default LocalizedNumberConverter createConverter(
+        LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter, LocalizedChunkWordTable chunkWords) {
+        return createConverter(rules, formatter);
+    }
 }
@@ -0,0 +1,22 @@
+package numbertostring.core.provider;
+
+import numbertostring.core.conversion.DecimalNumConverter;
+import numbertostring.core.conversion.LocalizedNumberConverter;
+import numbertostring.core.language.LocalizedChunkWordTable;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+
+
+public class DecimalNumConverterProvider implements ConverterProvider {
+    @Override
+    public LocalizedNumberConverter createConverter(
+        LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
+        return new DecimalNumConverter(rules, formatter);
+    }
+
+    @Override
+    public LocalizedNumberConverter createConverter(
+        LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter, LocalizedChunkWordTable chunkWords) {
+        return new DecimalNumConverter(rules, formatter, chunkWords);
+    }
+}
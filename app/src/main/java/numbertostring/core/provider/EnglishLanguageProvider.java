@@ -0,0 +1,9 @@
+package numbertostring.core.provider;
+
+/** Provides English from its compiled locale pack. */
+public class EnglishLanguageProvider extends LocalePackLanguageProvider {
+
+    public EnglishLanguageProvider() {
+        super("en");
+    }
+}
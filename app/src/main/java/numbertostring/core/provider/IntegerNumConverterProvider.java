@@ -2,6 +2,7 @@ package numbertostring.core.provider;
 
 import numbertostring.core.conversion.IntegerNumConverter;
 import numbertostring.core.conversion.LocalizedNumberConverter;
+import numbertostring.core.language.LocalizedChunkWordTable;
 import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
 import numbertostring.core.language.rules.LocalizedNumeralRules;
 
@@ -12,4 +13,10 @@ public class IntegerNumConverterProvider implements ConverterProvider {
         LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter) {
         return new IntegerNumConverter(rules, formatter);
     }
+
+    @Override
+    public LocalizedNumberConverter createConverter(
+        LocalizedNumeralRules rules, LocalizedGrammarFormatter formatter, LocalizedChunkWordTable chunkWords) {
+        return new IntegerNumConverter(rules, formatter, chunkWords);
+    }
 }
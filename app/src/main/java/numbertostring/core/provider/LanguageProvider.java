@@ -0,0 +1,33 @@
+package numbertostring.core.provider;
+
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+
+/**
+ * Service provider of one language's numeral rules and grammar formatter.
+ *
+ * <p>Providers are discovered with {@link java.util.ServiceLoader} from
+ * {@code META-INF/services/numbertostring.core.provider.LanguageProvider} and must have a public
+ * no-argument constructor. Discovery only instantiates them: the registry asks a provider for
+ * its rules and formatter the first time a locale of its language is requested, at most once.</p>
+ */
+public interface LanguageProvider {
+
+    /**
+     * Retrieves the language this provider serves.
+     * @return Language code, case-insensitive.
+     */
+    String getLanguage();
+
+    /**
+     * Creates the numeral rules of the language.
+     * @return Numeral rules.
+     */
+    LocalizedNumeralRules createRules();
+
+    /**
+     * Creates the grammar formatter of the language.
+     * @return Grammar formatter.
+     */
+    LocalizedGrammarFormatter createFormatter();
+}
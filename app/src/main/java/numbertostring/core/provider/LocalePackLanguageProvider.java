@@ -0,0 +1,48 @@
+package numbertostring.core.provider;
+
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.pack.LocalePack;
+import numbertostring.core.language.pack.PackedGrammarFormatter;
+import numbertostring.core.language.pack.PackedNumeralRules;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+
+/**
+ * Provides a language from its compiled {@link LocalePack}. The pack is read on the first
+ * request for rules or formatter and shared by both.
+ */
+public class LocalePackLanguageProvider implements LanguageProvider {
+
+    private final String language;
+
+    private LocalePack pack;
+
+    /**
+     * Creates a provider for a language that ships a locale pack.
+     * @param language Language code, case-insensitive.
+     */
+    public LocalePackLanguageProvider(String language) {
+        this.language = language;
+    }
+
+    @Override
+    public String getLanguage() {
+        return language;
+    }
+
+    @Override
+    public LocalizedNumeralRules createRules() {
+        return new PackedNumeralRules(pack());
+    }
+
+    @Override
+    public LocalizedGrammarFormatter createFormatter() {
+        return new PackedGrammarFormatter(pack());
+    }
+
+    private synchronized LocalePack pack() {
+        if (pack == null) {
+            pack = LocalePack.load(language);
+        }
+        return pack;
+    }
+}
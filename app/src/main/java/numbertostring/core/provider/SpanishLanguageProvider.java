@@ -0,0 +1,9 @@
+package numbertostring.core.provider;
+
+/** Provides Spanish from its compiled locale pack. */
+public class SpanishLanguageProvider extends LocalePackLanguageProvider {
+
+    public SpanishLanguageProvider() {
+        super("es");
+    }
+}
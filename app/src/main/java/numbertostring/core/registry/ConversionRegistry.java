@@ -0,0 +1,198 @@
+package numbertostring.core.registry;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import numbertostring.core.language.LocalizedChunkWordTable;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.DecimalNum;
+import numbertostring.core.model.IntegerNum;
+import numbertostring.core.model.Number;
+import numbertostring.core.provider.ConverterProvider;
+import numbertostring.core.provider.DecimalNumConverterProvider;
+import numbertostring.core.provider.IntegerNumConverterProvider;
+import numbertostring.core.provider.LanguageProvider;
+
+/**
+ * Holds the current {@link RegistrySnapshot} of languages and converters.
+ *
+ * <p>Lookups read the current snapshot with a single volatile read and never lock.
+ * Registrations copy the current snapshot, apply the change and publish the copy with a
+ * compare-and-set, retrying if another registration won the race. Languages and converters
+ * can therefore be added or replaced while conversions are running: conversions already
+ * holding the previous snapshot finish with it and later ones see the new version.</p>
+ *
+ * <p>Only the {@link IntegerNum} and {@link DecimalNum} converters are registered when the class loads. Languages come from
+ * {@link LanguageProvider}s discovered with {@link ServiceLoader}, English and Spanish among them.
+ * A provided language is loaded by {@link #current(Locale)} the first time one of its locales is
+ * requested, so a JVM only pays for the languages it converts to. Parts of a language registered
+ * explicitly before that are kept; registering them after it replaces the provided ones.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * ConversionRegistry.registerLanguage("fr", new FrenchNumeralRules(), new FrenchGrammarFormatter());
+ * RegistrySnapshot snapshot = ConversionRegistry.current(Locale.FRENCH);
+ * snapshot.getRules(Locale.FRENCH);            // FrenchNumeralRules
+ * </pre>
+ */
+public final class ConversionRegistry {
+
+    private static final AtomicReference<RegistrySnapshot> CURRENT = new AtomicReference<>(RegistrySnapshot.empty());
+
+    /** Languages loaded from their provider. Guarded by itself. */
+    private static final Set<String> LOADED_LANGUAGES = new HashSet<>();
+
+    static {
+        registerConverter(IntegerNum.class, new IntegerNumConverterProvider());
+        registerConverter(DecimalNum.class, new DecimalNumConverterProvider());
+    }
+
+    private ConversionRegistry() {}
+
+    /**
+     * Retrieves the snapshot every lookup should be answered from.
+     * @return Current snapshot.
+     */
+    public static RegistrySnapshot current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Retrieves the current snapshot after loading the language of a locale from its provider,
+     * if the language has one and has not been loaded yet.
+     * @param locale Locale about to be looked up.
+     * @return Current snapshot, holding the locale's language if any provider supplies it.
+     */
+    public static RegistrySnapshot current(Locale locale) {
+        RegistrySnapshot snapshot = CURRENT.get();
+        if (snapshot.getRules(locale) != null && snapshot.getFormatter(locale) != null) {
+            return snapshot;
+        }
+        return load(locale.getLanguage().toLowerCase());
+    }
+
+    /**
+     * Registers a language's rules and formatter, with a chunk table built from both, in one version.
+     * The table is built before publishing, so conversions never see the language without it.
+     * @param language Language code or tag, case-insensitive.
+     * @param rules Numeral rules of the language.
+     * @param formatter Grammar formatter of the language.
+     * @return Snapshot published by this registration.
+     */
+    public static RegistrySnapshot registerLanguage(String language, LocalizedNumeralRules rules,
+        LocalizedGrammarFormatter formatter) {
+        LocalizedChunkWordTable table = LocalizedChunkWordTable.build(rules, formatter);
+        return update(snapshot -> snapshot.withLanguage(language, rules, formatter, table));
+    }
+
+    /**
+     * Registers numeral rules alone. A chunk table built from other rules is ignored by converters.
+     * @param language Language code or tag, case-insensitive.
+     * @param rules Numeral rules of the language.
+     * @return Snapshot published by this registration.
+     */
+    public static RegistrySnapshot registerRules(String language, LocalizedNumeralRules rules) {
+        return update(snapshot -> snapshot.withRules(language, rules));
+    }
+
+    /**
+     * Registers a grammar formatter alone.
+     * @param language Language code, case-insensitive.
+     * @param formatter Grammar formatter of the language.
+     * @return Snapshot published by this registration.
+     */
+    public static RegistrySnapshot registerFormatter(String language, LocalizedGrammarFormatter formatter) {
+        return update(snapshot -> snapshot.withFormatter(language, formatter));
+    }
+
+    /**
+     * Builds and registers the chunk table of a language from the given rules and formatter.
+     * @param language Language code, case-insensitive.
+     * @param rules Numeral rules the table is built from.
+     * @param formatter Grammar formatter the table is built from.
+     * @return Snapshot published by this registration.
+     */
+    public static RegistrySnapshot registerChunkTable(String language, LocalizedNumeralRules rules,
+        LocalizedGrammarFormatter formatter) {
+        LocalizedChunkWordTable table = LocalizedChunkWordTable.build(rules, formatter);
+        return update(snapshot -> snapshot.withChunkTable(language, table));
+    }
+
+    /**
+     * Registers the converter provider of a number type, replacing any previous one.
+     * @param numberType Number type the provider's converters handle.
+     * @param provider Provider creating a converter per language.
+     * @return Snapshot published by this registration.
+     */
+    public static <T extends Number<T>> RegistrySnapshot registerConverter(Class<T> numberType, ConverterProvider provider) {
+        return update(snapshot -> snapshot.withConverterProvider(numberType, provider));
+    }
+
+    /**
+     * Loads a language from its provider once, keeping any rules or formatter registered explicitly,
+     * including while the provider runs. The language is only marked loaded once the provider succeeds, so a failed load is retried on
+     * the next request. The loaded language is published without a new version, since adding it
+     * changes no conversion answered so far.
+     */
+    private static RegistrySnapshot load(String language) {
+        LanguageProvider provider = ProvidedLanguages.BY_LANGUAGE.get(language);
+        if (provider == null) {
+            return CURRENT.get();
+        }
+        synchronized (LOADED_LANGUAGES) {
+            if (LOADED_LANGUAGES.contains(language)) {
+                return CURRENT.get();
+            }
+            Locale locale = Locale.forLanguageTag(language);
+            RegistrySnapshot snapshot = CURRENT.get();
+            LocalizedNumeralRules rules = snapshot.getRules(locale);
+            LocalizedGrammarFormatter formatter = snapshot.getFormatter(locale);
+            LocalizedNumeralRules languageRules = rules != null ? rules : provider.createRules();
+            LocalizedGrammarFormatter languageFormatter = formatter != null ? formatter : provider.createFormatter();
+            LocalizedChunkWordTable table = LocalizedChunkWordTable.build(languageRules, languageFormatter);
+            RegistrySnapshot loaded = update(current -> {
+                // Registrations do not take the lock, so parts registered while the provider ran are kept too
+                LocalizedNumeralRules currentRules = current.getRules(locale);
+                LocalizedGrammarFormatter currentFormatter = current.getFormatter(locale);
+                LocalizedNumeralRules keptRules = currentRules != null ? currentRules : languageRules;
+                LocalizedGrammarFormatter keptFormatter = currentFormatter != null ? currentFormatter : languageFormatter;
+                LocalizedChunkWordTable keptTable = current.getChunkTable(locale);
+                if (table.isBuiltFrom(keptRules, keptFormatter)) {
+                    keptTable = table;
+                } else if (keptTable == null || !keptTable.isBuiltFrom(keptRules, keptFormatter)) {
+                    keptTable = LocalizedChunkWordTable.build(keptRules, keptFormatter);
+                }
+                return current.withProvidedLanguage(language, keptRules, keptFormatter, keptTable);
+            });
+            LOADED_LANGUAGES.add(language);
+            return loaded;
+        }
+    }
+
+    /** Providers found on the classpath, discovered on the first request for a language not yet loaded. */
+    private static final class ProvidedLanguages {
+
+        /** Providers keyed by lowercase language code. The first one listed wins. */
+        private static final Map<String, LanguageProvider> BY_LANGUAGE = discover();
+
+        private static Map<String, LanguageProvider> discover() {
+            Map<String, LanguageProvider> providers = new HashMap<>();
+            for (LanguageProvider provider : ServiceLoader.load(LanguageProvider.class, ConversionRegistry.class.getClassLoader())) {
+                providers.putIfAbsent(provider.getLanguage().toLowerCase(), provider);
+            }
+            return Map.copyOf(providers);
+        }
+    }
+
+    /** Applies a change to the current snapshot and publishes the result, retrying on contention. */
+    private static RegistrySnapshot update(UnaryOperator<RegistrySnapshot> change) {
+        return CURRENT.updateAndGet(change);
+    }
+}
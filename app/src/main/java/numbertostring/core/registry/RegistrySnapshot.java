@@ -0,0 +1,147 @@
+package numbertostring.core.registry;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import numbertostring.core.language.LocalizedChunkWordTable;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.Number;
+import numbertostring.core.provider.ConverterProvider;
+
+/**
+ * Immutable view of everything registered at one point in time: numeral rules, grammar
+ * formatters and chunk tables per language, and a converter provider per number type.
+ *
+ * <p>Snapshots are never modified. Registering anything publishes a new snapshot with the
+ * next version through {@link ConversionRegistry}, so a reader holding a snapshot sees a
+ * consistent set of languages and converters for as long as it keeps it.</p>
+ */
+public final class RegistrySnapshot {
+
+    private final long version;
+
+    /** Rules keyed by lowercase language tag or language code. */
+    private final Map<String, LocalizedNumeralRules> rules;
+
+    /** Formatters keyed by lowercase language code. */
+    private final Map<String, LocalizedGrammarFormatter> formatters;
+
+    /** Chunk tables keyed by lowercase language code. */
+    private final Map<String, LocalizedChunkWordTable> chunkTables;
+
+    private final Map<Class<? extends Number<?>>, ConverterProvider> converterProviders;
+
+    private RegistrySnapshot(long version,
+        Map<String, LocalizedNumeralRules> rules,
+        Map<String, LocalizedGrammarFormatter> formatters,
+        Map<String, LocalizedChunkWordTable> chunkTables,
+        Map<Class<? extends Number<?>>, ConverterProvider> converterProviders) {
+        this.version = version;
+        this.rules = Map.copyOf(rules);
+        this.formatters = Map.copyOf(formatters);
+        this.chunkTables = Map.copyOf(chunkTables);
+        this.converterProviders = Map.copyOf(converterProviders);
+    }
+
+    /** Creates the empty snapshot every registry starts from. */
+    static RegistrySnapshot empty() {
+        return new RegistrySnapshot(0, Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    /**
+     * Retrieves the version of this snapshot. Every registration increases it by one;
+     * loading a provided language on its first request does not.
+     * @return Snapshot version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Retrieves numeral rules by the full language tag of a locale, then by its language.
+     * @param locale User's locale.
+     * @return Rules for the locale, or null if none are registered.
+     */
+    public LocalizedNumeralRules getRules(Locale locale) {
+        LocalizedNumeralRules localeRules = rules.get(locale.toLanguageTag().toLowerCase());
+        return localeRules != null ? localeRules : rules.get(locale.getLanguage().toLowerCase());
+    }
+
+    /**
+     * Retrieves the grammar formatter of a locale's language.
+     * @param locale User's locale.
+     * @return Formatter for the language, or null if none is registered.
+     */
+    public LocalizedGrammarFormatter getFormatter(Locale locale) {
+        return formatters.get(locale.getLanguage().toLowerCase());
+    }
+
+    /**
+     * Retrieves the chunk table of a locale's language.
+     * @param locale User's locale.
+     * @return Table for the language, or null if none is registered.
+     */
+    public LocalizedChunkWordTable getChunkTable(Locale locale) {
+        return chunkTables.get(locale.getLanguage().toLowerCase());
+    }
+
+    /**
+     * Retrieves the converter provider of every registered number type.
+     * @return Unmodifiable map of number types to providers.
+     */
+    public Map<Class<? extends Number<?>>, ConverterProvider> getConverterProviders() {
+        return converterProviders;
+    }
+
+    /** Returns the next version with the given rules registered. */
+    RegistrySnapshot withRules(String language, LocalizedNumeralRules languageRules) {
+        return new RegistrySnapshot(version + 1, with(rules, language.toLowerCase(), languageRules),
+            formatters, chunkTables, converterProviders);
+    }
+
+    /** Returns the next version with the given formatter registered. */
+    RegistrySnapshot withFormatter(String language, LocalizedGrammarFormatter formatter) {
+        return new RegistrySnapshot(version + 1, rules, with(formatters, language.toLowerCase(), formatter),
+            chunkTables, converterProviders);
+    }
+
+    /** Returns the next version with the given chunk table registered. */
+    RegistrySnapshot withChunkTable(String language, LocalizedChunkWordTable table) {
+        return new RegistrySnapshot(version + 1, rules, formatters,
+            with(chunkTables, language.toLowerCase(), table), converterProviders);
+    }
+
+    /** Returns the next version with a language's rules, formatter and chunk table registered together. */
+    RegistrySnapshot withLanguage(String language, LocalizedNumeralRules languageRules,
+        LocalizedGrammarFormatter formatter, LocalizedChunkWordTable table) {
+        String key = language.toLowerCase();
+        return new RegistrySnapshot(version + 1, with(rules, key, languageRules),
+            with(formatters, key, formatter), with(chunkTables, key, table), converterProviders);
+    }
+
+    /**
+     * Returns a snapshot of the same version with a provided language added. The language had no
+     * complete registration before, so no conversion answered so far is affected and caches keyed
+     * by version stay valid.
+     */
+    RegistrySnapshot withProvidedLanguage(String language, LocalizedNumeralRules languageRules,
+        LocalizedGrammarFormatter formatter, LocalizedChunkWordTable table) {
+        String key = language.toLowerCase();
+        return new RegistrySnapshot(version, with(rules, key, languageRules),
+            with(formatters, key, formatter), with(chunkTables, key, table), converterProviders);
+    }
+
+    /** Returns the next version with the given converter provider registered. */
+    RegistrySnapshot withConverterProvider(Class<? extends Number<?>> numberType, ConverterProvider provider) {
+        return new RegistrySnapshot(version + 1, rules, formatters, chunkTables,
+            with(converterProviders, numberType, provider));
+    }
+
+    private static <K, V> Map<K, V> with(Map<K, V> entries, K key, V value) {
+        Map<K, V> copy = new HashMap<>(entries);
+        copy.put(key, value);
+        return copy;
+    }
+}
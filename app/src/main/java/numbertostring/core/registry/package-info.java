@@ -0,0 +1,5 @@
+/**
+ * This package holds the languages and number types the library converts: immutable, versioned
+ * snapshots published atomically, so lookups never lock and registrations never disturb them.
+ */
+package numbertostring.core.registry;
@@ -0,0 +1,120 @@
+package numbertostring.core.token;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Immutable token form of a converted number: the words it reads as, in order, each with
+ * its {@link TokenKind} and its ID in the language's {@link WordVocabulary}.
+ *
+ * <p>Lets consumers that work word by word, such as speech synthesis or templating, skip
+ * building and re-splitting the output string. {@link #toString()} renders exactly the text
+ * the string conversion methods return.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * NumberTokens tokens = service.forLocale(Locale.ENGLISH).convertToTokens(-42L);
+ * tokens.word(0);           // "Negative"
+ * tokens.kind(0);           // TokenKind.SIGN
+ * tokens.words();           // ["Negative", "Forty", "Two"]
+ * tokens.toString();        // "Negative Forty Two"
+ * </pre>
+ */
+public final class NumberTokens {
+
+    private final WordVocabulary vocabulary;
+
+    private final int[] tokens;
+
+    NumberTokens(WordVocabulary vocabulary, int[] tokens) {
+        this.vocabulary = vocabulary;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Retrieves the vocabulary the word IDs refer to.
+     * @return Vocabulary of the converted language.
+     */
+    public WordVocabulary getVocabulary() {
+        return vocabulary;
+    }
+
+    /**
+     * Retrieves the number of words.
+     * @return Token count.
+     */
+    public int size() {
+        return tokens.length;
+    }
+
+    /**
+     * Retrieves what the word at {@code index} stands for.
+     * @param index Position of the word.
+     * @return Kind of the word.
+     */
+    public TokenKind kind(int index) {
+        return TokenBuffer.kindOf(tokens[index]);
+    }
+
+    /**
+     * Retrieves the vocabulary ID of the word at {@code index}.
+     * @param index Position of the word.
+     * @return Word ID.
+     */
+    public int wordId(int index) {
+        return tokens[index] & TokenBuffer.ID_MASK;
+    }
+
+    /**
+     * Retrieves the word at {@code index}.
+     * @param index Position of the word.
+     * @return Word text.
+     */
+    public String word(int index) {
+        return vocabulary.word(wordId(index));
+    }
+
+    /**
+     * Views the words as a list, resolving each from the vocabulary on access.
+     * @return Unmodifiable list of words.
+     */
+    public List<String> words() {
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                return word(index);
+            }
+
+            @Override
+            public int size() {
+                return tokens.length;
+            }
+        };
+    }
+
+    /**
+     * Renders the words as text, separated by single spaces.
+     * @param out Buffer to append to.
+     */
+    public void renderTo(StringBuilder out) {
+        TokenBuffer.render(vocabulary, tokens, tokens.length, out);
+    }
+
+    /**
+     * Writes the words to {@code out} as UTF-8, separated by single spaces.
+     * @param out Buffer to write to, heap or direct.
+     * @throws BufferOverflowException If {@code out} has too little room left; nothing is written then.
+     */
+    public void renderTo(ByteBuffer out) {
+        TokenBuffer.render(vocabulary, tokens, tokens.length, out);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(tokens.length * 8);
+        renderTo(out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,225 @@
+package numbertostring.core.token;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Growable buffer of tokens for one language, used to assemble a {@link NumberTokens} stream.
+ *
+ * <p>Each token packs a {@link TokenKind} and a {@link WordVocabulary} ID into one {@code int}.
+ * Separators are implicit: rendered words are always separated by a single space, and words
+ * that read as one, such as "Veintimil", are a single token. A buffer is not thread-safe and
+ * can be reused after {@link #clear()}.</p>
+ */
+public final class TokenBuffer {
+
+    /** Bits below the kind, which hold the word ID. */
+    static final int KIND_SHIFT = 28;
+
+    static final int ID_MASK = (1 << KIND_SHIFT) - 1;
+
+    private static final TokenKind[] KINDS = TokenKind.values();
+
+    private final WordVocabulary vocabulary;
+
+    private int[] tokens = new int[16];
+
+    private int size;
+
+    /**
+     * Creates an empty buffer interning words into the given vocabulary.
+     * @param vocabulary Vocabulary of the language being converted.
+     */
+    public TokenBuffer(WordVocabulary vocabulary) {
+        this.vocabulary = vocabulary;
+    }
+
+    /**
+     * Retrieves the vocabulary the buffer interns words into.
+     * @return Vocabulary of the buffer.
+     */
+    public WordVocabulary getVocabulary() {
+        return vocabulary;
+    }
+
+    /**
+     * Retrieves the number of tokens in the buffer.
+     * @return Token count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Truncates the buffer to its first {@code newSize} tokens.
+     * @param newSize Number of tokens to keep.
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("Cannot truncate " + size + " tokens to " + newSize);
+        }
+        size = newSize;
+    }
+
+    /** Removes every token. */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Appends one word.
+     * @param kind What the word stands for.
+     * @param word Word without whitespace.
+     * @return This buffer.
+     */
+    public TokenBuffer appendWord(TokenKind kind, String word) {
+        ensureCapacity(size + 1);
+        tokens[size++] = encode(kind, vocabulary.intern(word));
+        return this;
+    }
+
+    /**
+     * Appends every whitespace-separated word of {@code text} with the same kind.
+     * Meant for text from rules and formatters that do not know their words; the others
+     * append them by ID.
+     * @param kind What the words stand for.
+     * @param text Words to append. Blank text appends nothing.
+     * @return This buffer.
+     */
+    public TokenBuffer appendWords(TokenKind kind, String text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                appendWord(kind, text.substring(start, i));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends one word by its ID in a vocabulary, such as a language's precomputed words.
+     * The ID is copied as it is when {@code source} is this buffer's vocabulary; otherwise the word is interned.
+     * @param kind What the word stands for.
+     * @param source Vocabulary the ID belongs to.
+     * @param id ID of the word in {@code source}.
+     * @return This buffer.
+     */
+    public TokenBuffer appendWord(TokenKind kind, WordVocabulary source, int id) {
+        ensureCapacity(size + 1);
+        tokens[size++] = encode(kind, source == vocabulary ? id : vocabulary.intern(source.word(id)));
+        return this;
+    }
+
+    /**
+     * Appends words by their IDs in a vocabulary, all with the same kind.
+     * @param kind What the words stand for.
+     * @param source Vocabulary the IDs belong to.
+     * @param ids IDs of the words in {@code source}, in reading order.
+     * @return This buffer.
+     */
+    public TokenBuffer appendWords(TokenKind kind, WordVocabulary source, int[] ids) {
+        ensureCapacity(size + ids.length);
+        for (int id : ids) {
+            tokens[size++] = encode(kind, source == vocabulary ? id : vocabulary.intern(source.word(id)));
+        }
+        return this;
+    }
+
+    /**
+     * Appends tokens previously copied out of a buffer sharing this buffer's vocabulary.
+     * @param encoded Tokens returned by {@link #toArray()}.
+     * @return This buffer.
+     */
+    public TokenBuffer appendTokens(int[] encoded) {
+        ensureCapacity(size + encoded.length);
+        System.arraycopy(encoded, 0, tokens, size, encoded.length);
+        size += encoded.length;
+        return this;
+    }
+
+    /**
+     * Copies the tokens out in their packed form, for precomputed tables.
+     * @return Packed tokens.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(tokens, size);
+    }
+
+    /**
+     * Copies the buffer into an immutable token stream.
+     * @return Token stream of the buffered words.
+     */
+    public NumberTokens toTokens() {
+        return new NumberTokens(vocabulary, toArray());
+    }
+
+    /**
+     * Renders the buffered words as text, separated by single spaces.
+     * @param out Buffer to append to.
+     */
+    public void renderTo(StringBuilder out) {
+        render(vocabulary, tokens, size, out);
+    }
+
+    /**
+     * Writes the buffered words to {@code out} as UTF-8, separated by single spaces.
+     * Words are copied from the vocabulary's pre-encoded bytes, so no text is created.
+     * @param out Buffer to write to, heap or direct.
+     * @throws BufferOverflowException If {@code out} has too little room left; nothing is written then.
+     */
+    public void renderTo(ByteBuffer out) {
+        render(vocabulary, tokens, size, out);
+    }
+
+    static int encode(TokenKind kind, int id) {
+        return kind.ordinal() << KIND_SHIFT | id;
+    }
+
+    static TokenKind kindOf(int token) {
+        return KINDS[token >>> KIND_SHIFT];
+    }
+
+    static void render(WordVocabulary vocabulary, int[] tokens, int size, StringBuilder out) {
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                out.append(' ');
+            }
+            out.append(vocabulary.word(tokens[i] & ID_MASK));
+        }
+    }
+
+    static void render(WordVocabulary vocabulary, int[] tokens, int size, ByteBuffer out) {
+        if (size == 0) {
+            return;
+        }
+        byte[][] words = vocabulary.spacedUtf8();
+        // Every word carries its leading space; the first one's is skipped
+        int length = -1;
+        for (int i = 0; i < size; i++) {
+            length += words[tokens[i] & ID_MASK].length;
+        }
+        if (out.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        byte[] first = words[tokens[0] & ID_MASK];
+        out.put(first, 1, first.length - 1);
+        for (int i = 1; i < size; i++) {
+            out.put(words[tokens[i] & ID_MASK]);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > tokens.length) {
+            tokens = Arrays.copyOf(tokens, Math.max(capacity, tokens.length * 2));
+        }
+    }
+}
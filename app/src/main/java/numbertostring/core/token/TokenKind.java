@@ -0,0 +1,19 @@
+package numbertostring.core.token;
+
+/**
+ * What a word in a {@link NumberTokens} stream stands for.
+ */
+public enum TokenKind {
+
+    /** Part of the spelled value of a chunk, such as "Forty" or "Veintiuno". Also used for zero. */
+    WORD,
+
+    /** Part of a large unit name, such as "Million". Contracted forms like "Veintimil" are {@link #WORD}s. */
+    UNIT,
+
+    /** Part of the marker of a negative number, such as "Negative". */
+    SIGN,
+
+    /** Word between the integer part and the fractional digits of a decimal, such as "Point". */
+    SEPARATOR
+}
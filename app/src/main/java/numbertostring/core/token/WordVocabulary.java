@@ -0,0 +1,90 @@
+package numbertostring.core.token;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interned words of one language, each identified by a small non-negative ID.
+ *
+ * <p>IDs are assigned in order of first use and never change for the lifetime of the
+ * vocabulary, so consumers can key per-word resources such as audio clips on them.
+ * They are not stable across processes. Lookups are lock-free; interning a new word
+ * takes a lock.</p>
+ *
+ * <p>Each word is also encoded as UTF-8 once, when it is interned, so token streams can be
+ * written to byte sinks without encoding text per conversion.</p>
+ */
+public final class WordVocabulary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    /** Words indexed by ID. Replaced with a larger copy when full. */
+    private volatile String[] words = new String[64];
+
+    /** UTF-8 bytes of a space followed by each word, indexed by ID. Published before {@link #words} grows. */
+    private volatile byte[][] utf8Words = new byte[64][];
+
+    private int size;
+
+    /**
+     * Returns the ID of a word, assigning the next free ID if the word is new.
+     * @param word Word to intern.
+     * @return ID of the word.
+     */
+    public int intern(String word) {
+        Integer id = ids.get(word);
+        return id != null ? id : internSlow(word);
+    }
+
+    private synchronized int internSlow(String word) {
+        Integer id = ids.get(word);
+        if (id != null) {
+            return id;
+        }
+        String[] current = words;
+        byte[][] currentUtf8 = utf8Words;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+            currentUtf8 = Arrays.copyOf(currentUtf8, size * 2);
+        }
+        currentUtf8[size] = (' ' + word).getBytes(StandardCharsets.UTF_8);
+        utf8Words = currentUtf8;
+        current[size] = word;
+        words = current;
+        ids.put(word, size);
+        return size++;
+    }
+
+    /**
+     * Retrieves the word with the given ID.
+     * @param id ID returned by {@link #intern(String)}.
+     * @return Interned word.
+     * @throws IndexOutOfBoundsException If no word has that ID.
+     */
+    public String word(int id) {
+        String[] current = words;
+        if (id < 0 || id >= current.length || current[id] == null) {
+            throw new IndexOutOfBoundsException("No word with ID " + id);
+        }
+        return current[id];
+    }
+
+    /**
+     * Retrieves the UTF-8 encoding of every word, each preceded by a space, indexed by ID.
+     * Holds at least every word interned before the call. The arrays are shared and must not be modified.
+     * @return UTF-8 bytes of a space and the word, by word ID.
+     */
+    byte[][] spacedUtf8() {
+        return utf8Words;
+    }
+
+    /**
+     * Retrieves the number of interned words.
+     * @return Number of words, which is also the next ID to be assigned.
+     */
+    public int size() {
+        return ids.size();
+    }
+}
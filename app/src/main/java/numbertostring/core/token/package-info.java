@@ -0,0 +1,5 @@
+/**
+ * This package provides the token form of converted numbers: word IDs interned per language,
+ * tagged with what each word stands for, rendered to text only when needed.
+ */
+package numbertostring.core.token;
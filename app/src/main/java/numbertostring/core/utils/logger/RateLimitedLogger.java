@@ -0,0 +1,126 @@
+package numbertostring.core.utils.logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Logs at most a fixed number of events per time window and drops the rest.
+ * The number of dropped events is reported with the first event of a later window.
+ *
+ * <p>Meant for messages whose volume is driven by input, such as failed conversions,
+ * so a flood of bad requests costs a counter increment per request instead of a log write.
+ * Dropping takes no lock and writes no shared state besides a striped counter.</p>
+ */
+public final class RateLimitedLogger {
+
+    private final Logger logger;
+    private final Level level;
+    private final int eventsPerWindow;
+    private final long windowNanos;
+
+    /** Start of the current window, from {@link System#nanoTime()}. */
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    /** Events logged in the current window. */
+    private final AtomicInteger events = new AtomicInteger();
+
+    /** Events dropped since the last one logged. */
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * Creates a rate-limited view of a logger.
+     * @param logger Logger to write to.
+     * @param level Level of every event.
+     * @param eventsPerWindow Events logged per window before the rest are dropped.
+     * @param window Length of a window.
+     */
+    public RateLimitedLogger(Logger logger, Level level, int eventsPerWindow, Duration window) {
+        if (eventsPerWindow <= 0 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Rate limit must allow at least one event per positive window.");
+        }
+        this.logger = logger;
+        this.level = level;
+        this.eventsPerWindow = eventsPerWindow;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Logs a parameterized message unless the current window is used up.
+     * Parameters are only formatted when the event is written.
+     * @param message Message with {@code {}} placeholders.
+     * @param p0 First parameter.
+     * @param p1 Second parameter.
+     * @param p2 Third parameter.
+     * @param p3 Fourth parameter.
+     * @return true if the event was written.
+     */
+    public boolean log(String message, Object p0, Object p1, Object p2, Object p3) {
+        if (!acquireEvent()) {
+            return false;
+        }
+        logger.log(level, message, p0, p1, p2, p3);
+        return true;
+    }
+
+    /**
+     * Logs a parameterized message with the stack trace of {@code thrown} unless the current window is used up.
+     * @param message Message with {@code {}} placeholders.
+     * @param p0 First parameter.
+     * @param p1 Second parameter.
+     * @param p2 Third parameter.
+     * @param p3 Fourth parameter.
+     * @param thrown Exception whose stack trace is logged after the message.
+     * @return true if the event was written.
+     */
+    public boolean log(String message, Object p0, Object p1, Object p2, Object p3, Throwable thrown) {
+        if (!acquireEvent()) {
+            return false;
+        }
+        logger.log(level, message, p0, p1, p2, p3, thrown);
+        return true;
+    }
+
+    /**
+     * Retrieves the number of events dropped since the last one written.
+     * @return Dropped event count.
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    /** Takes a slot in the current window, first reporting the events dropped before it. */
+    private boolean acquireEvent() {
+        if (!logger.isEnabled(level) || !tryAcquire()) {
+            return false;
+        }
+        long dropped = suppressed.sumThenReset();
+        if (dropped > 0) {
+            logger.log(level, "Suppressed {} similar messages.", dropped);
+        }
+        return true;
+    }
+
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos) {
+            if (windowStart.compareAndSet(start, now)) {
+                events.set(0);
+            }
+        } else if (events.get() >= eventsPerWindow) {
+            // Read-only check first, so a flood does not contend on the event counter
+            suppressed.increment();
+            return false;
+        }
+        if (events.incrementAndGet() > eventsPerWindow) {
+            suppressed.increment();
+            return false;
+        }
+        return true;
+    }
+}
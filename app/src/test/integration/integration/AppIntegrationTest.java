@@ -0,0 +1,123 @@
+package numbertostring.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Runs the command-line converter in its own JVM, as a shell pipeline would. */
+public class AppIntegrationTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testVerboseLogsStayOffStdout() throws Exception {
+        Run run = run("5\n-12\n", "-v", "-o", "-");
+
+        assertEquals(0, run.exitCode);
+        assertEquals("Five\nNegative Twelve\n", run.stdout);
+        assertTrue(run.stderr.contains("DEBUG"), run.stderr);
+        assertTrue(run.stderr.contains("Converted 2 lines (0 failed)"), run.stderr);
+    }
+
+    @Test
+    void testOutputFileWritten() throws Exception {
+        Path input = Files.writeString(directory.resolve("numbers.txt"), "21\n1.50\n");
+        Path output = directory.resolve("words.txt");
+        Run run = run("", "-l", "es", "-o", output.toString(), input.toString());
+
+        assertEquals(0, run.exitCode);
+        assertEquals("", run.stdout);
+        assertEquals("Veintiuno\nUno Punto Cinco Cero\n", Files.readString(output));
+    }
+
+    @Test
+    void testFailedLinesKeepOutputAligned() throws Exception {
+        Run run = run("7\nseven\n\n8\n");
+
+        assertEquals(1, run.exitCode);
+        assertEquals("Seven\n\n\nEight\n", run.stdout);
+        assertTrue(run.stderr.contains("Line 2: "), run.stderr);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "--bogus, Unknown option --bogus.",
+        "-l, Missing value for -l.",
+        "-o, Missing value for -o.",
+        "-l ja, Unsupported locale ja."
+    })
+    void testBadArgumentsRejected(String arguments, String message) throws Exception {
+        Run run = run("1\n", arguments.split(" "));
+
+        assertEquals(2, run.exitCode);
+        assertEquals("", run.stdout);
+        assertTrue(run.stderr.startsWith(message + System.lineSeparator() + "Usage: "), run.stderr);
+    }
+
+    @Test
+    void testHelpPrinted() throws Exception {
+        Run run = run("", "--help");
+
+        assertEquals(0, run.exitCode);
+        assertTrue(run.stdout.startsWith("Usage: "), run.stdout);
+    }
+
+    @Test
+    void testMissingInputIsIoError() throws Exception {
+        Run run = run("", directory.resolve("missing.txt").toString());
+
+        assertEquals(3, run.exitCode);
+        assertTrue(run.stderr.startsWith("I/O error: "), run.stderr);
+    }
+
+    /** Starts the converter with the test classpath, feeds it {@code stdin} and waits for it to exit. */
+    private Run run(String stdin, String... arguments) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("numbertostring.App");
+        command.addAll(List.of(arguments));
+
+        Path in = Files.writeString(directory.resolve("stdin.txt"), stdin);
+        Path out = directory.resolve("stdout.txt");
+        Path err = directory.resolve("stderr.txt");
+        Process process = new ProcessBuilder(command)
+            .directory(directory.toFile())
+            .redirectInput(in.toFile())
+            .redirectOutput(out.toFile())
+            .redirectError(err.toFile())
+            .start();
+        if (!process.waitFor(60, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new AssertionError("Converter did not exit: " + command);
+        }
+        return new Run(process.exitValue(), Files.readString(out, StandardCharsets.UTF_8), Files.readString(err, StandardCharsets.UTF_8));
+    }
+
+    /** Exit code and output of one run. */
+    private static final class Run {
+        private final int exitCode;
+        private final String stdout;
+        private final String stderr;
+
+        private Run(int exitCode, String stdout, String stderr) {
+            this.exitCode = exitCode;
+            this.stdout = stdout;
+            this.stderr = stderr;
+        }
+    }
+}
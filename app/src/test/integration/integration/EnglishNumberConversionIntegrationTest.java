@@ -2,22 +2,37 @@ package numbertostring.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import numbertostring.core.conversion.IntegerNumConverter;
+import numbertostring.core.factory.NumberConverterFactorySingleton;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.language.LocalizedChunkWordTable;
 import numbertostring.core.language.formatting.EnglishGrammarFormatter;
 import numbertostring.core.language.rules.EnglishNumeralRules;
 import numbertostring.core.model.IntegerNum;
+import numbertostring.core.token.NumberTokens;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
 
 public class EnglishNumberConversionIntegrationTest {
 
     private static final EnglishNumeralRules rules = new EnglishNumeralRules();
     private static final EnglishGrammarFormatter formatter = new EnglishGrammarFormatter();
     private static final IntegerNumConverter converter = new IntegerNumConverter(rules, formatter);
+    private static final IntegerNumConverter tableConverter =
+        new IntegerNumConverter(rules, formatter, LocalizedChunkWordTable.build(rules, formatter));
 
     @ParameterizedTest
     @CsvSource({
@@ -57,4 +72,82 @@ public class EnglishNumberConversionIntegrationTest {
         String actualOutput = converter.convertToWords(new IntegerNum(num));
         assertEquals(expectedOutput, actualOutput);
     }
+
+    // Boundaries of every chunk size plus random values spread across all magnitudes of a long
+    private static LongStream provideLongValues() {
+        Random random = new Random(7);
+        LongStream boundaries = LongStream.of(0, 1, -1, 999, 1_000, 1_001, 999_999, 1_000_000,
+            999_999_999, 1_000_000_000, 1_000_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1);
+        LongStream randoms = LongStream.range(0, 2_000)
+            .map(i -> random.nextLong() >> random.nextInt(Long.SIZE));
+        return LongStream.concat(boundaries, randoms);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testLongPathMatchesBigIntegerPath(long value) {
+        String expectedOutput = converter.convertToWords(new IntegerNum(BigInteger.valueOf(value)));
+        assertEquals(expectedOutput, converter.convertToWords(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testChunkTableMatchesDynamicFormatting(long value) {
+        BigInteger bigValue = BigInteger.valueOf(value).multiply(BigInteger.valueOf(value));
+        assertEquals(converter.convertToWords(value), tableConverter.convertToWords(value));
+        assertEquals(converter.convertToWords(new IntegerNum(bigValue)), tableConverter.convertToWords(new IntegerNum(bigValue)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testPreparedConverterMatchesDirectConversion(long value) {
+        PreparedNumberConverter prepared = NumberConverterFactorySingleton.getInstance().prepare(Locale.ENGLISH);
+        String expectedOutput = converter.convertToWords(new IntegerNum(BigInteger.valueOf(value)));
+        assertEquals(expectedOutput, prepared.convertNumberToWords(value));
+        assertEquals(expectedOutput, prepared.convertNumberToWords(BigDecimal.valueOf(value)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testSinkAppendsSameWords(long value) {
+        BigInteger bigValue = BigInteger.valueOf(value).multiply(BigInteger.valueOf(value)).negate();
+        for (IntegerNumConverter sinkConverter : new IntegerNumConverter[] {converter, tableConverter}) {
+            StringBuilder out = new StringBuilder("> ");
+            sinkConverter.convertTo(out, value);
+            assertEquals("> " + converter.convertToWords(value), out.toString());
+
+            out.setLength(2);
+            sinkConverter.convertTo(out, new IntegerNum(bigValue));
+            assertEquals("> " + converter.convertToWords(new IntegerNum(bigValue)), out.toString());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testTokensRenderSameWords(long value) {
+        BigInteger bigValue = BigInteger.valueOf(value).multiply(BigInteger.valueOf(value)).negate();
+        for (IntegerNumConverter tokenConverter : new IntegerNumConverter[] {converter, tableConverter}) {
+            TokenBuffer out = new TokenBuffer(tokenConverter.getVocabulary());
+            tokenConverter.convertTo(out, value);
+            assertEquals(converter.convertToWords(value), out.toTokens().toString());
+
+            out.clear();
+            tokenConverter.convertTo(out, new IntegerNum(bigValue));
+            assertEquals(converter.convertToWords(new IntegerNum(bigValue)), out.toTokens().toString());
+        }
+        PreparedNumberConverter prepared = NumberConverterFactorySingleton.getInstance().prepare(Locale.ENGLISH);
+        assertEquals(converter.convertToWords(value), prepared.convertToTokens(value).toString());
+        assertEquals(converter.convertToWords(value), prepared.convertToTokens(BigDecimal.valueOf(value)).toString());
+    }
+
+    @Test
+    void testTokenKinds() {
+        NumberTokens tokens = NumberConverterFactorySingleton.getInstance().prepare(Locale.ENGLISH).convertToTokens(-1_000_042L);
+        assertEquals("Negative One Million Forty Two", String.join(" ", tokens.words()));
+        List<TokenKind> kinds = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            kinds.add(tokens.kind(i));
+        }
+        assertEquals(List.of(TokenKind.SIGN, TokenKind.WORD, TokenKind.UNIT, TokenKind.WORD, TokenKind.WORD), kinds);
+    }
 }
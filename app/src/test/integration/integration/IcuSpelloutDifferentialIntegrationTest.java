@@ -0,0 +1,127 @@
+package numbertostring.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.ibm.icu.text.RuleBasedNumberFormat;
+
+import numbertostring.core.factory.NumberConverterFactorySingleton;
+import numbertostring.core.factory.PreparedNumberConverter;
+
+/**
+ * Differential check against ICU4J's {@link RuleBasedNumberFormat} spellout.
+ *
+ * <p>Both libraries spell the same values: every value below ten thousand plus random values of
+ * every magnitude ICU spells in words. Outputs are compared after folding the differences that are
+ * only style: case, ICU's hyphens and soft hyphens, and ICU's negative word. Every remaining divergence is reduced
+ * to its kind, the first pair of words that differ, and each kind is written with a count and an
+ * example to {@code build/reports/icu-differential/<language>.txt}.</p>
+ *
+ * <p>The test fails when a kind of divergence appears that is not listed as known, so grammar
+ * changes on either side show up as a diff of the expected kinds.</p>
+ */
+public class IcuSpelloutDifferentialIntegrationTest {
+
+    /** ICU's English and Spanish spellout rules fall back to digits from one quintillion on. */
+    private static final long ICU_WORD_LIMIT = 1_000_000_000_000_000_000L;
+
+    private static final int RANDOM_VALUES = 50_000;
+
+    /** ICU marks hyphenation points inside long Spanish words ("ocho\u00ADcientos"). */
+    private static final String SOFT_HYPHEN = "\u00AD";
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "en | minus | negative | ''",
+        // Spanish: unit singulars lack their accent, "Uno" and "Veintiuno" are not shortened before
+        // a unit, "Veinte" joins the unit, and one thousand inside a chunk of millions reads "Uno Mil"
+        "es | menos | menos    | billon>billón;millon>millón;uno>mil;uno>un;veintibillones>veinte;veintimil>veinte;"
+            + "veintimillones>veinte;veintiuno>veintiún"
+    })
+    void testDivergencesFromIcuSpellout(String language, String icuNegative, String negative, String knownKinds) throws IOException {
+        Locale locale = Locale.forLanguageTag(language);
+        PreparedNumberConverter converter = NumberConverterFactorySingleton.getInstance().prepare(locale);
+        RuleBasedNumberFormat icu = new RuleBasedNumberFormat(locale, RuleBasedNumberFormat.SPELLOUT);
+
+        Map<String, Divergence> divergences = new TreeMap<>();
+        for (long value : inputs()) {
+            String ours = converter.convertNumberToWords(value).toLowerCase(locale);
+            String spelled = icu.format(value).toLowerCase(locale).replace('-', ' ').replace(SOFT_HYPHEN, "");
+            String theirs = spelled.startsWith(icuNegative + " ") ? negative + spelled.substring(icuNegative.length()) : spelled;
+            if (!ours.equals(theirs)) {
+                divergences.computeIfAbsent(kind(ours, theirs), key -> new Divergence(value, ours, theirs)).count++;
+            }
+        }
+
+        writeReport(language, divergences);
+        Set<String> expected = knownKinds.isEmpty() ? Set.of() : new TreeSet<>(Arrays.asList(knownKinds.split(";")));
+        assertEquals(expected, divergences.keySet());
+    }
+
+    /** Every value below ten thousand, then random values spread evenly over the magnitudes, with both signs. */
+    private static long[] inputs() {
+        long[] values = new long[10_000 + RANDOM_VALUES];
+        for (int i = 0; i < 10_000; i++) {
+            values[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(24);
+        for (int i = 10_000; i < values.length; i++) {
+            long value = random.nextLong(ICU_WORD_LIMIT) >> random.nextInt(60);
+            values[i] = random.nextInt(8) == 0 ? -value : value;
+        }
+        return values;
+    }
+
+    /** Names a divergence by its first differing words: ours, then ICU's. */
+    private static String kind(String ours, String theirs) {
+        String[] left = ours.split(" ");
+        String[] right = theirs.split(" ");
+        int i = 0;
+        while (i < left.length && i < right.length && left[i].equals(right[i])) {
+            i++;
+        }
+        return (i < left.length ? left[i] : "") + ">" + (i < right.length ? right[i] : "");
+    }
+
+    private static void writeReport(String language, Map<String, Divergence> divergences) throws IOException {
+        Path report = Path.of("build", "reports", "icu-differential", language + ".txt");
+        Files.createDirectories(report.getParent());
+        List<String> lines = divergences.entrySet().stream()
+            .map(entry -> entry.getKey() + "\t" + entry.getValue().count + "\t" + entry.getValue().value
+                + "\t" + entry.getValue().ours + "\t" + entry.getValue().theirs)
+            .collect(Collectors.toList());
+        lines.add(0, "kind\tcount\texample\tours\ticu");
+        Files.write(report, lines, StandardCharsets.UTF_8);
+        System.out.println("ICU spellout divergences (" + language + "): " + divergences.size() + " kinds, report at " + report.toAbsolutePath());
+    }
+
+    /** Count and first example of one kind of divergence. */
+    private static final class Divergence {
+        private final long value;
+        private final String ours;
+        private final String theirs;
+        private int count;
+
+        private Divergence(long value, String ours, String theirs) {
+            this.value = value;
+            this.ours = ours;
+            this.theirs = theirs;
+        }
+    }
+}
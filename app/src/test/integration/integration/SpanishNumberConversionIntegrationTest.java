@@ -2,21 +2,42 @@ package numbertostring.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import com.ibm.icu.text.RuleBasedNumberFormat;
 
 import numbertostring.core.conversion.IntegerNumConverter;
+import numbertostring.core.factory.NumberConverterFactorySingleton;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.language.LocalizedChunkWordTable;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
 import numbertostring.core.language.formatting.SpanishGrammarFormatter;
 import numbertostring.core.language.rules.SpanishNumeralRules;
 import numbertostring.core.model.IntegerNum;
+import numbertostring.core.provider.SpanishLanguageProvider;
+import numbertostring.core.token.NumberTokens;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
 
 
 public class SpanishNumberConversionIntegrationTest {
@@ -26,6 +47,9 @@ public class SpanishNumberConversionIntegrationTest {
     private static final SpanishNumeralRules rules = new SpanishNumeralRules();
     private static final SpanishGrammarFormatter formatter = new SpanishGrammarFormatter();
     private static final IntegerNumConverter converter =  new IntegerNumConverter(rules, formatter);
+    private static final IntegerNumConverter tableConverter =
+        new IntegerNumConverter(rules, formatter, LocalizedChunkWordTable.build(rules, formatter));
+    private static final LocalizedGrammarFormatter packFormatter = new SpanishLanguageProvider().createFormatter();
 
     private IntegerNum num;
 
@@ -82,5 +106,217 @@ public class SpanishNumberConversionIntegrationTest {
             "Setecientos Setenta y Cinco Mil Ochocientos Ocho";
         assertEquals(expectedOutput, converter.convertToWords(num));
     }
+
+    // Boundaries of every chunk size plus random values spread across all magnitudes of a long
+    private static LongStream provideLongValues() {
+        Random random = new Random(7);
+        LongStream boundaries = LongStream.of(0, 1, -1, 999, 1_000, 1_001, 999_999, 1_000_000,
+            999_999_999, 1_000_000_000, 1_000_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1);
+        LongStream randoms = LongStream.range(0, 2_000)
+            .map(i -> random.nextLong() >> random.nextInt(Long.SIZE));
+        return LongStream.concat(boundaries, randoms);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testLongPathMatchesBigIntegerPath(long value) {
+        String expectedOutput = converter.convertToWords(new IntegerNum(BigInteger.valueOf(value)));
+        assertEquals(expectedOutput, converter.convertToWords(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testChunkTableMatchesDynamicFormatting(long value) {
+        BigInteger bigValue = BigInteger.valueOf(value).multiply(BigInteger.valueOf(value));
+        assertEquals(converter.convertToWords(value), tableConverter.convertToWords(value));
+        assertEquals(converter.convertToWords(new IntegerNum(bigValue)), tableConverter.convertToWords(new IntegerNum(bigValue)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testPreparedConverterMatchesDirectConversion(long value) {
+        PreparedNumberConverter prepared = NumberConverterFactorySingleton.getInstance().prepare(Locale.forLanguageTag("es"));
+        String expectedOutput = converter.convertToWords(new IntegerNum(BigInteger.valueOf(value)));
+        assertEquals(expectedOutput, prepared.convertNumberToWords(value));
+        assertEquals(expectedOutput, prepared.convertNumberToWords(BigDecimal.valueOf(value)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testSinkAppendsSameWords(long value) {
+        BigInteger bigValue = BigInteger.valueOf(value).multiply(BigInteger.valueOf(value)).negate();
+        for (IntegerNumConverter sinkConverter : new IntegerNumConverter[] {converter, tableConverter}) {
+            StringBuilder out = new StringBuilder("> ");
+            sinkConverter.convertTo(out, value);
+            assertEquals("> " + converter.convertToWords(value), out.toString());
+
+            out.setLength(2);
+            sinkConverter.convertTo(out, new IntegerNum(bigValue));
+            assertEquals("> " + converter.convertToWords(new IntegerNum(bigValue)), out.toString());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testTokensRenderSameWords(long value) {
+        BigInteger bigValue = BigInteger.valueOf(value).multiply(BigInteger.valueOf(value)).negate();
+        for (IntegerNumConverter tokenConverter : new IntegerNumConverter[] {converter, tableConverter}) {
+            TokenBuffer out = new TokenBuffer(tokenConverter.getVocabulary());
+            tokenConverter.convertTo(out, value);
+            assertEquals(converter.convertToWords(value), out.toTokens().toString());
+
+            out.clear();
+            tokenConverter.convertTo(out, new IntegerNum(bigValue));
+            assertEquals(converter.convertToWords(new IntegerNum(bigValue)), out.toTokens().toString());
+        }
+        PreparedNumberConverter prepared = NumberConverterFactorySingleton.getInstance().prepare(Locale.forLanguageTag("es"));
+        assertEquals(converter.convertToWords(value), prepared.convertToTokens(value).toString());
+        assertEquals(converter.convertToWords(value), prepared.convertToTokens(BigDecimal.valueOf(value)).toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLongValues")
+    void testUtf8OutputMatchesWords(long value) {
+        PreparedNumberConverter prepared = NumberConverterFactorySingleton.getInstance().prepare(Locale.forLanguageTag("es"));
+        for (ByteBuffer out : new ByteBuffer[] {ByteBuffer.allocate(512), ByteBuffer.allocateDirect(512)}) {
+            prepared.convertTo(out, value);
+            prepared.convertTo(out.put((byte) '\n'), BigDecimal.valueOf(value).movePointLeft(2));
+            out.flip();
+            assertEquals(prepared.convertNumberToWords(value) + "\n" + prepared.convertNumberToWords(BigDecimal.valueOf(value).movePointLeft(2)),
+                StandardCharsets.UTF_8.decode(out).toString());
+        }
+    }
+
+    @Test
+    void testEveryChunkMatchesRegexReference() {
+        // Zero is spelled by the rules; every other chunk value the grouping produces goes through the formatter
+        assertEquals("Cero", converter.convertToWords(0L));
+        for (int chunk = 1; chunk < 1_000_000; chunk++) {
+            String expected = RegexReference.format(RegexReference.rawWords(chunk), "", false);
+            String actual = formatter.applyLanguageSpecificFormatting("", chunk, "", 1L);
+            String packed = packFormatter.applyLanguageSpecificFormatting("", chunk, "", 1L);
+            if (!expected.equals(actual) || !actual.equals(packed)) {
+                assertEquals(expected, actual, "chunk " + chunk);
+                assertEquals(actual, packed, "packed chunk " + chunk);
+            }
+        }
+    }
+
+    // Chunks around each magnitude of a chunk, with every unit the rules name
+    private static IntStream provideBoundaryChunks() {
+        return IntStream.concat(IntStream.rangeClosed(1, 2_100),
+            IntStream.of(9_999, 10_000, 10_001, 19_999, 20_000, 20_001, 20_020, 21_000, 99_999, 100_000, 100_001,
+                100_100, 101_000, 120_020, 199_999, 200_000, 999_000, 999_001, 999_999));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 6, 9, 12, 15, 18, 21, 24, 27, 30})
+    void testUnitBoundariesMatchRegexReference(int exponent) {
+        BigInteger unit = BigInteger.TEN.pow(exponent);
+        String unitName = rules.getLargeUnitName(unit);
+        provideBoundaryChunks().forEach(chunk -> {
+            String expected = RegexReference.format(RegexReference.rawWords(chunk), unitName, exponent == 3);
+            assertEquals(expected, formatter.applyLanguageSpecificFormatting("", BigInteger.valueOf(chunk), unitName, unit),
+                () -> chunk + " x 10^" + exponent);
+            assertEquals(expected, packFormatter.applyLanguageSpecificFormatting("", BigInteger.valueOf(chunk), unitName, unit),
+                () -> "packed " + chunk + " x 10^" + exponent);
+            if (unit.bitLength() < Long.SIZE) {
+                assertEquals(expected, formatter.applyLanguageSpecificFormatting("", chunk, unitName, unit.longValue()),
+                    () -> chunk + " x 10^" + exponent);
+            }
+        });
+    }
+
+    @Test
+    void testTokenKinds() {
+        NumberTokens tokens = NumberConverterFactorySingleton.getInstance().prepare(Locale.forLanguageTag("es")).convertToTokens(-1_000_042L);
+        assertEquals("Menos Un Millon Cuarenta y Dos", String.join(" ", tokens.words()));
+        List<TokenKind> kinds = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            kinds.add(tokens.kind(i));
+        }
+        assertEquals(List.of(TokenKind.SIGN, TokenKind.WORD, TokenKind.UNIT, TokenKind.WORD, TokenKind.WORD, TokenKind.WORD), kinds);
+    }
+
+    /**
+     * Spanish as the rules and formatter spelled it before the grammar stage was structural:
+     * English-ordered raw numerals rewritten with regular expressions. Kept as the reference
+     * the current output must match word for word.
+     */
+    private static final class RegexReference {
+
+        private static final TreeMap<Integer, String> NUMERALS = new TreeMap<>(Map.ofEntries(
+            Map.entry(0, "Cero"), Map.entry(1, "Uno"), Map.entry(2, "Dos"), Map.entry(3, "Tres"),
+            Map.entry(4, "Cuatro"), Map.entry(5, "Cinco"), Map.entry(6, "Seis"), Map.entry(7, "Siete"),
+            Map.entry(8, "Ocho"), Map.entry(9, "Nueve"), Map.entry(10, "Diez"),
+            Map.entry(11, "Once"), Map.entry(12, "Doce"), Map.entry(13, "Trece"), Map.entry(14, "Catorce"),
+            Map.entry(15, "Quince"), Map.entry(16, "Dieciseis"), Map.entry(17, "Diecisiete"), Map.entry(18, "Dieciocho"),
+            Map.entry(19, "Diecinueve"), Map.entry(20, "Veinte"), Map.entry(30, "Treinta"), Map.entry(40, "Cuarenta"),
+            Map.entry(50, "Cincuenta"), Map.entry(60, "Sesenta"), Map.entry(70, "Setenta"), Map.entry(80, "Ochenta"),
+            Map.entry(90, "Noventa"), Map.entry(100, "Cien"), Map.entry(200, "Doscientos"), Map.entry(300, "Trescientos"),
+            Map.entry(400, "Cuatrocientos"), Map.entry(500, "Quinientos"), Map.entry(600, "Seiscientos"),
+            Map.entry(700, "Setecientos"), Map.entry(800, "Ochocientos"), Map.entry(900, "Novecientos"),
+            Map.entry(1000, "Mil")
+        ));
+
+        private static final Map<String, String> ACCENT_MAP = Map.of(
+            "Dieciseis", "Dieciséis",
+            "Veinte Dos ", "Veintidós ",
+            "Veinte Tres ", "Veintitrés ",
+            "Veinte Seis ", "Veintiséis ");
+
+        private static final Pattern HUNDRED = Pattern.compile("\\bCien (?!Mil)\\b");
+
+        private static final Pattern TENS_AND_ONES = Pattern.compile(
+            "\\b(Treinta|Cuarenta|Cincuenta|Sesenta|Setenta|Ochenta|Noventa) (Uno|Dos|Tres|Cuatro|Cinco|Seis|Siete|Ocho|Nueve)\\b");
+
+        private static final Pattern VEINTE = Pattern.compile("\\bVeinte\\s(\\w)");
+
+        /** Raw numerals of a chunk below one million: hundreds, tens and ones in English order, with no grammar. */
+        static String rawWords(int num) {
+            if (NUMERALS.containsKey(num)) {
+                return NUMERALS.get(num);
+            }
+            StringBuilder result = new StringBuilder();
+            if (num >= 1_000) {
+                result.append(rawWords(num / 1_000)).append(" Mil ");
+                num %= 1_000;
+            }
+            if (num >= 100) {
+                result.append(NUMERALS.get(num / 100 * 100)).append(" ");
+                num %= 100;
+            }
+            if (num >= 20) {
+                result.append(NUMERALS.get(num / 10 * 10)).append(" ");
+                num %= 10;
+            }
+            if (num > 0) {
+                result.append(NUMERALS.get(num)).append(" ");
+            }
+            return result.toString().trim();
+        }
+
+        /** Rewrites raw numerals and their unit into Spanish. */
+        static String format(String chunkString, String unitName, boolean isThousand) {
+            chunkString = HUNDRED.matcher(chunkString).replaceAll("Ciento ");
+            if (chunkString.equals("Uno") && isThousand) {
+                chunkString = unitName;
+            } else if (chunkString.equals("Uno") && unitName.endsWith("es")) {
+                chunkString = "Un " + unitName.substring(0, unitName.length() - 2);
+            } else {
+                chunkString = chunkString + " " + unitName;
+            }
+            chunkString = TENS_AND_ONES.matcher(chunkString).replaceAll("$1 y $2");
+            for (Map.Entry<String, String> entry : ACCENT_MAP.entrySet()) {
+                chunkString = chunkString.replace(entry.getKey(), entry.getValue());
+            }
+            Matcher matcher = VEINTE.matcher(chunkString);
+            StringBuilder result = new StringBuilder();
+            while (matcher.find()) {
+                matcher.appendReplacement(result, "Veinti" + matcher.group(1).toLowerCase());
+            }
+            matcher.appendTail(result);
+            return result.toString().trim().replaceAll("\\s+", " ");
+        }
+    }
 }
-    
@@ -1,19 +1,39 @@
 package numbertostring.unit.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,9 +41,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import numbertostring.api.NumberToWordsService;
 import numbertostring.api.dto.NumberToWordsRequest;
 import numbertostring.api.dto.NumberToWordsResponse;
+import numbertostring.api.exception.ErrorCode;
 import numbertostring.api.exception.NumberConversionException;
+import numbertostring.api.exception.UnsupportedLanguageException;
 import numbertostring.core.conversion.LocalizedNumberConverter;
 import numbertostring.core.factory.NumberConverterFactory;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.model.Number;
+import numbertostring.core.token.NumberTokens;
+import numbertostring.core.token.TokenKind;
 
 @ExtendWith(MockitoExtension.class)
 public class NumberToWordsServiceTest {
@@ -77,6 +103,50 @@ public class NumberToWordsServiceTest {
         assertEquals(NumberConversionException.class, api.convertNumberToWords(req).getException().getClass());
     }
 
+    @Test
+    void whenConvertFailsUnexpectedly_thenCauseAndStackKept() {
+        IllegalStateException failure = new IllegalStateException();
+        when(factory.convertNumberToWords(eq(value), eq(Locale.ENGLISH))).thenThrow(failure);
+
+        NumberConversionException exception = api.convertNumberToWords(req).getException();
+        assertEquals(ErrorCode.CONVERSION_FAILED, exception.getErrorCode());
+        assertEquals(ErrorCode.CONVERSION_FAILED.getDefaultMessage(), exception.getErrorMessage());
+        assertSame(failure, exception.getCause());
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    void whenRejectionIsExpected_thenNoStackOrCause() {
+        when(factory.convertNumberToWords(eq(value), eq(Locale.ENGLISH)))
+            .thenThrow(new UnsupportedLanguageException("Language not yet supported."));
+
+        NumberConversionException exception = api.convertNumberToWords(req).getException();
+        assertEquals(ErrorCode.UNSUPPORTED_LANGUAGE, exception.getErrorCode());
+        assertNull(exception.getCause());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testConvertLongSuccess() {
+        when(factory.convertNumberToWords(1000L, Locale.ENGLISH))
+            .thenReturn(expectedNumString);
+
+        res = api.convert(1000L, Locale.ENGLISH);
+        assertEquals(expectedNumString, res.getConvertedData().getConvertedText());
+        assertEquals(0, value.compareTo(res.getConvertedData().getOriginalNumber()));
+        assertEquals(NumberToWordsResponse.Status.SUCCESS, res.getStatus());
+    }
+
+    @Test
+    void whenConvertLongFails_thenResponseHasException() {
+        when(factory.convertNumberToWords(1000L, Locale.ENGLISH))
+            .thenThrow(new NumberConversionException(FAILURE_STRING));
+
+        res = api.convert(1000L, Locale.ENGLISH);
+        assertEquals(NumberToWordsResponse.Status.FAILURE, res.getStatus());
+        assertEquals(NumberConversionException.class, res.getException().getClass());
+    }
+
     /** Runs entire service. */
     @Test
     void testConvertNumberToWordsWithoutMocks() {
@@ -86,4 +156,225 @@ public class NumberToWordsServiceTest {
         assertEquals(NumberToWordsResponse.Status.SUCCESS, res.getStatus());
         assertTrue(expectedNumString.equals(res.getConvertedData().getConvertedText()));
     }
+
+    /** Handles are prepared once per locale and reused. */
+    @Test
+    void testForLocaleWithoutMocks() {
+        api = new NumberToWordsService();
+        PreparedNumberConverter english = api.forLocale(Locale.ENGLISH);
+        assertSame(english, api.forLocale(Locale.ENGLISH));
+        assertEquals(Locale.ENGLISH, english.getLocale());
+        assertEquals(expectedNumString, english.convertNumberToWords(1000L));
+        assertEquals(expectedNumString, english.convertNumberToWords(value));
+        assertThrows(UnsupportedLanguageException.class, () -> api.forLocale(Locale.JAPANESE));
+    }
+
+    @Test
+    void testConvertAllResolvesLocaleAndValueOnce(@Mock PreparedNumberConverter prepared) {
+        PreparedNumberConverter english = new NumberConverterFactory().prepare(Locale.ENGLISH);
+        when(factory.prepare(Locale.ENGLISH)).thenReturn(prepared);
+        when(prepared.admit(any(BigDecimal.class))).thenAnswer(invocation -> english.admit(invocation.getArgument(0)));
+        when(prepared.convertNumberToWords(any(Number.class))).thenReturn(expectedNumString);
+        NumberToWordsRequest scientific = NumberToWordsRequest.builder()
+            .numberValue(new BigDecimal("1E+3"))
+            .build();
+
+        List<NumberToWordsResponse> responses = api.convertAll(List.of(req, scientific, req));
+        assertEquals(3, responses.size());
+        assertEquals(expectedNumString, responses.get(1).getConvertedData().getConvertedText());
+        assertEquals(scientific.getNumberValue(), responses.get(1).getConvertedData().getOriginalNumber());
+        verify(factory, times(1)).prepare(Locale.ENGLISH);
+        verify(prepared, times(3)).admit(any(BigDecimal.class));
+        verify(prepared, times(1)).convertNumberToWords(any(Number.class));
+    }
+
+    /** Runs entire service on a mixed batch. */
+    @Test
+    void testConvertAllWithoutMocks() {
+        api = new NumberToWordsService();
+        Locale spanish = Locale.forLanguageTag("es");
+        List<NumberToWordsRequest> requests = List.of(
+            req,
+            NumberToWordsRequest.builder().numberValue(BigDecimal.valueOf(1000)).locale(spanish).build(),
+            NumberToWordsRequest.builder().numberValue(new BigDecimal("1.5")).build(),
+            NumberToWordsRequest.builder().numberValue(value).locale(Locale.JAPANESE).build(),
+            req);
+
+        List<NumberToWordsResponse> responses = api.convertAll(requests);
+        assertEquals(expectedNumString, responses.get(0).getConvertedData().getConvertedText());
+        assertEquals("Mil", responses.get(1).getConvertedData().getConvertedText());
+        assertEquals("One Point Five", responses.get(2).getConvertedData().getConvertedText());
+        assertEquals(NumberToWordsResponse.Status.FAILURE, responses.get(3).getStatus());
+        assertEquals(NumberConversionException.class, responses.get(3).getException().getClass());
+        assertEquals(expectedNumString, responses.get(4).getConvertedData().getConvertedText());
+    }
+
+    /** Parallel batches with a few very large values match the sequential batch, in order. */
+    @Test
+    void testConvertAllParallelMatchesConvertAll() {
+        api = new NumberToWordsService();
+        Locale[] locales = {Locale.ENGLISH, Locale.forLanguageTag("es")};
+        Random random = new Random(11);
+        List<NumberToWordsRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            BigDecimal number = i % 250 == 0
+                ? new BigDecimal(new BigInteger(130, random))
+                : BigDecimal.valueOf(random.nextInt(1_000_000));
+            requests.add(NumberToWordsRequest.builder().numberValue(number).locale(locales[i % 2]).build());
+        }
+
+        List<NumberToWordsResponse> expected = api.convertAll(requests);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<NumberToWordsResponse> actual = api.convertAllParallel(requests, pool);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getStatus(), actual.get(i).getStatus());
+                assertEquals(expected.get(i).getConvertedData().getConvertedText(), actual.get(i).getConvertedData().getConvertedText());
+                assertEquals(requests.get(i).getNumberValue(), actual.get(i).getConvertedData().getOriginalNumber());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(api.convertAllParallel(List.of()).isEmpty());
+    }
+
+    /** Runs entire service asynchronously on the default virtual-thread executor. */
+    @Test
+    void testConvertAsyncWithoutMocks() {
+        api = NumberToWordsService.builder().build();
+        NumberToWordsResponse res = api.convertAsync(req).join();
+        assertEquals(NumberToWordsResponse.Status.SUCCESS, res.getStatus());
+        assertEquals(expectedNumString, res.getConvertedData().getConvertedText());
+    }
+
+    /** Callers with a submit timeout wait once maxInFlight conversions are queued, and resume as they complete. */
+    @Test
+    void testConvertAsyncBoundsInFlight() throws Exception {
+        BlockingQueue<Runnable> queued = new LinkedBlockingQueue<>();
+        api = NumberToWordsService.builder()
+            .asyncExecutor(queued::add)
+            .maxInFlight(1)
+            .submitTimeout(Duration.ofSeconds(30))
+            .build();
+
+        CompletableFuture<NumberToWordsResponse> first = api.convertAsync(req);
+        CompletableFuture<CompletableFuture<NumberToWordsResponse>> second =
+            CompletableFuture.supplyAsync(() -> api.convertAsync(req));
+        Thread.sleep(100);
+        assertFalse(second.isDone());
+        assertEquals(1, queued.size());
+
+        queued.take().run();
+        assertEquals(expectedNumString, first.join().getConvertedData().getConvertedText());
+        queued.poll(5, TimeUnit.SECONDS).run();
+        assertEquals(expectedNumString, second.get(5, TimeUnit.SECONDS).join().getConvertedData().getConvertedText());
+    }
+
+    /** Without a submit timeout, conversions past maxInFlight are rejected at once. */
+    @Test
+    void whenInFlightBoundReached_thenRejectedWithoutWaiting() {
+        BlockingQueue<Runnable> queued = new LinkedBlockingQueue<>();
+        api = NumberToWordsService.builder()
+            .asyncExecutor(queued::add)
+            .maxInFlight(1)
+            .build();
+
+        CompletableFuture<NumberToWordsResponse> first = api.convertAsync(req);
+        NumberToWordsResponse rejected = api.convertAsync(req).join();
+        assertEquals(ErrorCode.OVERLOADED, rejected.getException().getErrorCode());
+        assertEquals(1, queued.size());
+
+        queued.poll().run();
+        assertEquals(expectedNumString, first.join().getConvertedData().getConvertedText());
+        CompletableFuture<NumberToWordsResponse> third = api.convertAsync(req);
+        queued.poll().run();
+        assertEquals(expectedNumString, third.join().getConvertedData().getConvertedText());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void whenInFlightBoundNotPositive_thenBuildRejected(int maxInFlight) {
+        NumberToWordsService.NumberToWordsServiceBuilder builder = NumberToWordsService.builder().maxInFlight(maxInFlight);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, builder::build);
+        assertEquals("maxInFlight must be positive.", exception.getMessage());
+    }
+
+    @Test
+    void whenAsyncExecutorRejects_thenResponseHasException() {
+        api = NumberToWordsService.builder()
+            .asyncExecutor(task -> { throw new RejectedExecutionException("Shut down."); })
+            .maxInFlight(1)
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            res = api.convertAsync(req).join();
+            assertEquals(NumberToWordsResponse.Status.FAILURE, res.getStatus());
+            assertEquals(NumberConversionException.class, res.getException().getClass());
+        }
+    }
+
+    /** Runs entire service writing into caller-supplied sinks. */
+    @Test
+    void testConvertToSinksWithoutMocks() throws IOException {
+        api = new NumberToWordsService();
+        StringBuilder builder = new StringBuilder();
+        api.convertTo(builder, value, Locale.ENGLISH);
+        builder.append(", ");
+        api.convertTo(builder, -15L, Locale.forLanguageTag("es"));
+        assertEquals(expectedNumString + ", Menos Quince", builder.toString());
+
+        StringWriter writer = new StringWriter();
+        api.convertTo(writer, 1000L, Locale.ENGLISH);
+        api.convertTo(writer, new BigDecimal("1E+3"), Locale.ENGLISH);
+        assertEquals(expectedNumString + expectedNumString, writer.toString());
+        api.convertTo(writer, new BigDecimal("1.50"), Locale.ENGLISH);
+        assertEquals(expectedNumString + expectedNumString + "One Point Five Zero", writer.toString());
+    }
+
+    @Test
+    void testConvertToTokensWithoutMocks() {
+        api = new NumberToWordsService();
+        NumberTokens tokens = api.convertToTokens(value, Locale.ENGLISH);
+        assertEquals(expectedNumString, tokens.toString());
+        assertEquals(TokenKind.UNIT, tokens.kind(tokens.size() - 1));
+        NumberTokens decimal = api.convertToTokens(new BigDecimal("-1.5"), Locale.ENGLISH);
+        assertEquals("Negative One Point Five", decimal.toString());
+        assertEquals(TokenKind.SEPARATOR, decimal.kind(2));
+    }
+
+    @Test
+    void whenRequestIsInvalid_thenFactoryIsNotCalled() {
+        NumberToWordsRequest missingLocale = NumberToWordsRequest.builder().numberValue(value).locale(null).build();
+
+        assertEquals(ErrorCode.INVALID_REQUEST, api.convertNumberToWordsWithLocale(missingLocale).getException().getErrorCode());
+        assertEquals(ErrorCode.INVALID_REQUEST, api.convert(1000L, null).getException().getErrorCode());
+        assertEquals(ErrorCode.INVALID_REQUEST, api.convertAll(List.of(missingLocale)).get(0).getException().getErrorCode());
+        verifyNoInteractions(factory);
+    }
+
+    @Test
+    void testErrorCodesWithoutMocks() {
+        api = new NumberToWordsService();
+        NumberToWordsRequest japanese = NumberToWordsRequest.builder().numberValue(value).locale(Locale.JAPANESE).build();
+
+        NumberConversionException exception = api.convertNumberToWordsWithLocale(japanese).getException();
+        assertEquals(ErrorCode.UNSUPPORTED_LANGUAGE, exception.getErrorCode());
+        assertEquals("Language not yet supported.", exception.getErrorMessage());
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(ErrorCode.UNSUPPORTED_LANGUAGE, api.convertAll(List.of(japanese)).get(0).getException().getErrorCode());
+        assertEquals("Zero Point Two Five",
+            api.convertAll(List.of(NumberToWordsRequest.builder().numberValue(new BigDecimal("0.25")).build())).get(0).getConvertedData().getConvertedText());
+        assertEquals(List.of("One Point Five", "One Point Five Zero"),
+            api.convertAll(List.of(NumberToWordsRequest.builder().numberValue(new BigDecimal("1.5")).build(),
+                NumberToWordsRequest.builder().numberValue(new BigDecimal("1.50")).build()))
+                .stream().map(response -> response.getConvertedData().getConvertedText()).toList());
+        assertEquals(ErrorCode.OUT_OF_RANGE,
+            api.convertNumberToWordsWithLocale(NumberToWordsRequest.builder().numberValue(new BigDecimal("1E-1001")).build()).getException().getErrorCode());
+        assertEquals(NumberToWordsResponse.Status.SUCCESS,
+            api.convertNumberToWordsWithLocale(NumberToWordsRequest.builder().numberValue(new BigDecimal("1000.00")).build()).getStatus());
+        assertEquals(ErrorCode.OUT_OF_RANGE,
+            api.convertNumberToWordsWithLocale(NumberToWordsRequest.builder().numberValue(new BigDecimal("1E+500")).build()).getException().getErrorCode());
+    }
 }
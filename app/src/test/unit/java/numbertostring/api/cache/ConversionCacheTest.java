@@ -0,0 +1,132 @@
+package numbertostring.unit.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.api.cache.ConversionCache;
+import numbertostring.api.cache.ConversionCacheStats;
+import numbertostring.api.dto.NumberToWordsRequest;
+
+public class ConversionCacheTest {
+
+    private static final String WORDS = "One Thousand";
+
+    private AtomicInteger conversions;
+    private Supplier<String> conversion;
+
+    @BeforeEach
+    void setUp() {
+        conversions = new AtomicInteger();
+        conversion = () -> {
+            conversions.incrementAndGet();
+            return WORDS;
+        };
+    }
+
+    @Test
+    void testEquivalentNumbersShareEntry() {
+        ConversionCache cache = ConversionCache.builder().build();
+        cache.get(new BigDecimal("1000"), Locale.ENGLISH, conversion);
+        cache.get(new BigDecimal("1E+3"), Locale.ENGLISH, conversion);
+        cache.get(new BigDecimal("1000.00"), Locale.ENGLISH, conversion);
+
+        assertEquals(1, conversions.get());
+        assertEquals(1, cache.size());
+        ConversionCacheStats stats = cache.stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    void testTrailingFractionZerosHaveSeparateEntries() {
+        ConversionCache cache = ConversionCache.builder().build();
+        cache.get(new BigDecimal("1.5"), Locale.ENGLISH, conversion);
+        cache.get(new BigDecimal("1.50"), Locale.ENGLISH, conversion);
+
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    void testLocalesHaveSeparateEntries() {
+        ConversionCache cache = ConversionCache.builder().build();
+        cache.get(BigDecimal.TEN, Locale.ENGLISH, conversion);
+        cache.get(BigDecimal.TEN, Locale.forLanguageTag("es"), conversion);
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    void testSizeBoundEvicts() {
+        ConversionCache cache = ConversionCache.builder().maximumSize(2).build();
+        for (int i = 0; i < 5; i++) {
+            cache.get(BigDecimal.valueOf(i), Locale.ENGLISH, conversion);
+        }
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void testThreadLocalLevelAnswersRepeats() {
+        ConversionCache cache = ConversionCache.builder().threadLocalSize(16).build();
+        for (int i = 0; i < 3; i++) {
+            cache.get(BigDecimal.valueOf(250), Locale.ENGLISH, conversion);
+        }
+        ConversionCacheStats stats = cache.stats();
+        assertEquals(1, conversions.get());
+        assertEquals(2, stats.getLocalHitCount());
+        assertEquals(0, stats.getHitCount());
+
+        cache.invalidateAll();
+        cache.get(BigDecimal.valueOf(250), Locale.ENGLISH, conversion);
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    void testVirtualThreadsSkipThreadLocalLevel() throws InterruptedException {
+        ConversionCache cache = ConversionCache.builder().threadLocalSize(16).build();
+        Thread.ofVirtual().start(() -> {
+            for (int i = 0; i < 3; i++) {
+                cache.get(BigDecimal.valueOf(250), Locale.ENGLISH, conversion);
+            }
+        }).join();
+
+        ConversionCacheStats stats = cache.stats();
+        assertEquals(1, conversions.get());
+        assertEquals(0, stats.getLocalHitCount());
+        assertEquals(2, stats.getHitCount());
+    }
+
+    @Test
+    void testFailuresAreNotCached() {
+        ConversionCache cache = ConversionCache.builder().build();
+        assertThrows(IllegalArgumentException.class, () -> cache.get(BigDecimal.ONE, Locale.ENGLISH, () -> {
+            throw new IllegalArgumentException("Unsupported number type.");
+        }));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testNegativeSizeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ConversionCache.builder().maximumSize(-1).build());
+    }
+
+    /** Runs entire service with a cache. */
+    @Test
+    void testServiceWithCache() {
+        NumberToWordsService service = new NumberToWordsService(ConversionCache.builder().threadLocalSize(64).build());
+        NumberToWordsRequest req = NumberToWordsRequest.builder().numberValue(new BigDecimal("1E+3")).build();
+
+        assertEquals(WORDS, service.convertNumberToWords(req).getConvertedData().getConvertedText());
+        assertEquals(WORDS, service.convert(1000L, Locale.ENGLISH).getConvertedData().getConvertedText());
+        assertEquals(1, service.getCacheStats().getMissCount());
+        assertEquals(1, service.getCacheStats().getLocalHitCount());
+    }
+}
@@ -0,0 +1,115 @@
+package numbertostring.unit.core.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import numbertostring.core.conversion.DecimalNumConverter;
+import numbertostring.core.conversion.IntegerNumConverter;
+import numbertostring.core.factory.NumberConverterFactory;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.language.LocalizedChunkWordTableRegistry;
+import numbertostring.core.language.LocalizedGrammarFormatterRegistry;
+import numbertostring.core.language.LocalizedNumberRulesRegistry;
+import numbertostring.core.language.formatting.EnglishGrammarFormatter;
+import numbertostring.core.language.rules.EnglishNumeralRules;
+import numbertostring.core.model.DecimalNum;
+import numbertostring.core.model.IntegerNum;
+import numbertostring.core.token.NumberTokens;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+
+public class DecimalNumConverterTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "en, 12.34, Twelve Point Three Four",
+        "en, 12.05, Twelve Point Zero Five",
+        "en, 1.50, One Point Five Zero",
+        "en, 12.050, Twelve Point Zero Five Zero",
+        "en, 0.007, Zero Point Zero Zero Seven",
+        "en, -0.5, Negative Zero Point Five",
+        "en, 1000000.25, One Million Point Two Five",
+        "es, 21.01, Veintiuno Punto Cero Uno",
+        "es, -1.5, Menos Uno Punto Cinco"
+    })
+    void testDecimalConversion(String language, String value, String expected) {
+        DecimalNumConverter converter = converter(Locale.forLanguageTag(language));
+        DecimalNum number = new DecimalNum(new BigDecimal(value));
+
+        assertEquals(expected, converter.convertToWords(number));
+        TokenBuffer tokens = new TokenBuffer(converter.getVocabulary());
+        converter.convertTo(tokens, number);
+        assertEquals(expected, tokens.toTokens().toString());
+    }
+
+    @Test
+    void testWideValuesMatchNarrowReading() {
+        DecimalNumConverter converter = converter(Locale.ENGLISH);
+        IntegerNumConverter integers = new IntegerNumConverter(new EnglishNumeralRules(), new EnglishGrammarFormatter());
+        BigInteger integerPart = new BigInteger("123456789012345678901234567890");
+
+        String words = converter.convertToWords(new DecimalNum(new BigDecimal(integerPart + ".0000000000000000000001")));
+        assertEquals(integers.convertToWords(new IntegerNum(integerPart)) + " Point" + " Zero".repeat(21) + " One", words);
+        assertEquals("One Point" + " Zero".repeat(19) + " Three",
+            converter.convertToWords(new DecimalNum(new BigDecimal("1.00000000000000000003"))));
+    }
+
+    @Test
+    void testSeparatorTokenKind() {
+        DecimalNumConverter converter = converter(Locale.ENGLISH);
+        TokenBuffer out = new TokenBuffer(converter.getVocabulary());
+        converter.convertTo(out, new DecimalNum(new BigDecimal("-3.5")));
+        NumberTokens tokens = out.toTokens();
+
+        assertEquals(TokenKind.SIGN, tokens.kind(0));
+        assertEquals(TokenKind.SEPARATOR, tokens.kind(2));
+        assertEquals("Point", tokens.word(2));
+    }
+
+    @Test
+    void testWholeValuesReadAsIntegers() {
+        DecimalNumConverter converter = converter(Locale.ENGLISH);
+        assertEquals("One Hundred", converter.convertToWords(new DecimalNum(new BigDecimal("100.00"))));
+        assertEquals("Forty Two", converter.convertToWords(42L));
+    }
+
+    @Test
+    void testTrailingZerosKeptThroughFactory() {
+        PreparedNumberConverter english = new NumberConverterFactory().prepare(Locale.ENGLISH);
+
+        assertEquals("One Point Five", english.convertNumberToWords(new BigDecimal("1.5")));
+        assertEquals("One Point Five Zero", english.convertNumberToWords(new BigDecimal("1.50")));
+        assertEquals("Twelve Point Zero Five Zero", english.convertNumberToWords(new BigDecimal("12.050")));
+        assertEquals("Twelve Point Zero Five Zero", english.convertToTokens(new BigDecimal("12.050")).toString());
+        assertEquals("Twelve", english.convertNumberToWords(new BigDecimal("12.000")));
+    }
+
+    @Test
+    void testLanguageWithoutSeparatorRejected() {
+        EnglishNumeralRules rules = new EnglishNumeralRules() {
+            @Override
+            public String getDecimalSeparator() {
+                return null;
+            }
+        };
+        DecimalNumConverter converter = new DecimalNumConverter(rules, new EnglishGrammarFormatter());
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToWords(new DecimalNum(new BigDecimal("1.5"))));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToWords(new IntegerNum(BigInteger.ONE)));
+    }
+
+    private static DecimalNumConverter converter(Locale locale) {
+        return new DecimalNumConverter(
+            LocalizedNumberRulesRegistry.getRules(locale),
+            LocalizedGrammarFormatterRegistry.getFormatter(locale),
+            LocalizedChunkWordTableRegistry.getTable(locale));
+    }
+}
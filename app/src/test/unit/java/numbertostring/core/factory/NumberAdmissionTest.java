@@ -0,0 +1,82 @@
+package numbertostring.unit.core.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import numbertostring.core.exception.NumberOutOfRangeException;
+import numbertostring.core.factory.NumberAdmission;
+import numbertostring.core.factory.NumberConverterFactory;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.language.rules.EnglishNumeralRules;
+import numbertostring.core.language.rules.SpanishNumeralRules;
+
+public class NumberAdmissionTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, true",
+        "0.00, true",
+        "1000.00, true",
+        "1E+3, true",
+        "-250.0, true",
+        "1.5, false",
+        "0.25, false",
+        "1000.000001, false",
+        "2.50, false",
+        "3.125, false"
+    })
+    void testIsIntegral(String value, boolean expected) {
+        assertEquals(expected, NumberAdmission.isIntegral(new BigDecimal(value)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1000, 1000",
+        "1000.00, 1000",
+        "1E+3, 1000",
+        "-0.0, 0",
+        "1.50, 1.50",
+        "12.050, 12.050"
+    })
+    void testAdmittedValuesNormalized(String value, String expected) {
+        PreparedNumberConverter english = new NumberConverterFactory().prepare(Locale.ENGLISH);
+        BigDecimal normalized = NumberAdmission.normalize(new BigDecimal(value));
+
+        assertEquals(new BigDecimal(expected), normalized);
+        assertEquals(normalized, english.admit(new BigDecimal(value)).toBigDecimal());
+    }
+
+    @Test
+    void testMagnitudeLimits() {
+        assertEquals(BigInteger.TEN.pow(51), new EnglishNumeralRules().getMagnitudeLimit());
+        assertEquals(BigInteger.TEN.pow(36), new SpanishNumeralRules().getMagnitudeLimit());
+    }
+
+    @Test
+    void testOutOfRangeRejected() {
+        PreparedNumberConverter english = new NumberConverterFactory().prepare(Locale.ENGLISH);
+        BigDecimal limit = new BigDecimal(BigInteger.TEN.pow(51));
+
+        assertThrows(NumberOutOfRangeException.class, () -> english.convertNumberToWords(new BigDecimal("1E+500")));
+        assertThrows(NumberOutOfRangeException.class, () -> english.convertNumberToWords(new BigDecimal("1E+2147483647")));
+        assertThrows(NumberOutOfRangeException.class, () -> english.convertNumberToWords(new BigDecimal("-1E+2147483647")));
+        assertThrows(NumberOutOfRangeException.class, () -> english.convertNumberToWords(limit));
+        assertThrows(NumberOutOfRangeException.class, () -> english.convertNumberToWords(limit.negate()));
+        assertEquals(english.convertNumberToWords(limit.subtract(BigDecimal.ONE)),
+            english.convertNumberToWords(limit.subtract(BigDecimal.ONE).setScale(2)));
+        assertThrows(NumberOutOfRangeException.class,
+            () -> english.convertNumberToWords(BigDecimal.ONE.movePointLeft(NumberAdmission.MAX_FRACTION_DIGITS + 1)));
+        assertEquals("One", english.convertNumberToWords(BigDecimal.ONE.setScale(NumberAdmission.MAX_FRACTION_DIGITS + 1)));
+        assertEquals("Nine Quintillion Two Hundred Twenty Three Quadrillion Three Hundred Seventy Two Trillion"
+            + " Thirty Six Billion Eight Hundred Fifty Four Million Seven Hundred Seventy Five Thousand"
+            + " Eight Hundred Seven", english.convertNumberToWords(Long.MAX_VALUE));
+    }
+}
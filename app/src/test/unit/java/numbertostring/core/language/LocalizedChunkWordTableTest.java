@@ -0,0 +1,84 @@
+package numbertostring.unit.core.language;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import numbertostring.core.language.LocalizedChunkWordTable;
+import numbertostring.core.language.LocalizedChunkWordTableRegistry;
+import numbertostring.core.language.LocalizedGrammarFormatterRegistry;
+import numbertostring.core.language.LocalizedNumberRulesRegistry;
+import numbertostring.core.language.formatting.EnglishGrammarFormatter;
+import numbertostring.core.language.formatting.SpanishGrammarFormatter;
+import numbertostring.core.language.rules.EnglishNumeralRules;
+import numbertostring.core.language.rules.SpanishNumeralRules;
+import numbertostring.core.token.TokenBuffer;
+
+public class LocalizedChunkWordTableTest {
+
+    private static final LocalizedChunkWordTable englishTable =
+        LocalizedChunkWordTable.build(new EnglishNumeralRules(), new EnglishGrammarFormatter());
+    private static final LocalizedChunkWordTable spanishTable =
+        LocalizedChunkWordTable.build(new SpanishNumeralRules(), new SpanishGrammarFormatter());
+
+    @ParameterizedTest
+    @ValueSource(strings = {"en", "es"})
+    void testRegisteredTablesMatchDynamicOutput(String language) {
+        LocalizedChunkWordTable table = LocalizedChunkWordTableRegistry.getTable(Locale.forLanguageTag(language));
+        assertDoesNotThrow(table::checkConsistency);
+    }
+
+    @Test
+    void testRegisteredTablesAreBuiltFromRegisteredRules() {
+        Locale locale = Locale.ENGLISH;
+        assertTrue(LocalizedChunkWordTableRegistry.getTable(locale).isBuiltFrom(
+            LocalizedNumberRulesRegistry.getRules(locale), LocalizedGrammarFormatterRegistry.getFormatter(locale)));
+        assertFalse(englishTable.isBuiltFrom(
+            LocalizedNumberRulesRegistry.getRules(locale), LocalizedGrammarFormatterRegistry.getFormatter(locale)));
+    }
+
+    @Test
+    void testLookupAppliesFormatting() {
+        assertEquals("One Hundred Twenty Three Thousand", englishTable.lookup(123, BigInteger.valueOf(1_000)));
+        assertEquals("One Hundred Twenty Three Thousand", englishTable.lookup(123, 1_000L));
+        assertEquals("Mil", spanishTable.lookup(1, BigInteger.valueOf(1_000)));
+        assertEquals("Un Millon", spanishTable.lookup(1, 1_000_000L));
+        assertEquals("Ciento Veintitrés", spanishTable.lookup(123, BigInteger.ONE));
+    }
+
+    @Test
+    void testLongScaleChunksComposed() {
+        BigInteger million = BigInteger.valueOf(1_000_000);
+        assertEquals("Uno Mil Quinientos Millones", spanishTable.lookup(1_500, million));
+        assertEquals("Veintiuno Mil Millones", spanishTable.lookup(21_000, 1_000_000L));
+        assertEquals("Novecientos Noventa y Nueve Mil Novecientos Noventa y Nueve Billones",
+            spanishTable.lookup(999_999, BigInteger.TEN.pow(12)));
+        TokenBuffer buffer = new TokenBuffer(spanishTable.getVocabulary());
+        StringBuilder rendered = new StringBuilder();
+        buffer.appendTokens(spanishTable.lookupTokens(2_005, million)).renderTo(rendered);
+        assertEquals("Dos Mil Cinco Millones", rendered.toString());
+        assertEquals("Uno Mil Quinientos Millones",
+            LocalizedChunkWordTableRegistry.getTable(Locale.forLanguageTag("es")).lookup(1_500, million));
+        // The short scale never groups more than three digits
+        assertNull(englishTable.lookup(1_500, 1_000_000L));
+    }
+
+    @Test
+    void testLookupOutsideTableReturnsNull() {
+        // Chunks of the long scale stay below a million
+        assertNull(spanishTable.lookup(1_000_000, BigInteger.valueOf(1_000_000)));
+        // Units without a name are not precomputed
+        assertNull(englishTable.lookup(1, BigInteger.TEN.pow(51)));
+        assertNull(englishTable.lookup(1, 10L));
+        assertNull(englishTable.lookup(0, 1L));
+    }
+}
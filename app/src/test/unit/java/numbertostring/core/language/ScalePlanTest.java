@@ -0,0 +1,74 @@
+package numbertostring.unit.core.language;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import numbertostring.core.conversion.GroupingPowers;
+import numbertostring.core.language.GroupingStrategy;
+import numbertostring.core.language.ScalePlan;
+import numbertostring.core.language.rules.EnglishNumeralRules;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.language.rules.SpanishNumeralRules;
+import numbertostring.core.model.NumberBase;
+
+public class ScalePlanTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "SHORT_SCALE, BASE_10",
+        "LONG_SCALE, BASE_10",
+        "SHORT_SCALE, BASE_2",
+        "LONG_SCALE, BASE_2",
+        "SHORT_SCALE, BASE_20",
+        "LONG_SCALE, BASE_60"
+    })
+    void testUnitsMatchGroupingStrategy(GroupingStrategy strategy, NumberBase base) {
+        LocalizedNumeralRules rules = mock(LocalizedNumeralRules.class);
+        when(rules.getGroupingStrategy()).thenReturn(strategy);
+        when(rules.getNumberBase()).thenReturn(base);
+        when(rules.getLargeUnitName(any(BigInteger.class))).thenReturn("");
+        ScalePlan plan = ScalePlan.of(rules);
+
+        Random random = new Random(42);
+        for (int bits = 1; bits < 1_000; bits++) {
+            BigInteger num = new BigInteger(bits, random).setBit(bits - 1);
+            for (BigInteger value : new BigInteger[] {num, BigInteger.ONE.shiftLeft(bits - 1), BigInteger.TEN.pow(bits / 4)}) {
+                BigInteger expected = GroupingPowers.largestUnitAtMost(strategy.getGroupingValue(value, base), value);
+                assertEquals(expected, plan.getUnit(plan.unitIndex(value)), value::toString);
+                if (value.bitLength() < Long.SIZE) {
+                    assertEquals(expected.longValueExact(), plan.getLongUnit(plan.unitIndex(value.longValue())));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testUnitNamesComeFromRules() {
+        ScalePlan english = ScalePlan.of(new EnglishNumeralRules());
+        assertEquals("Million", english.getUnitName(english.unitIndex(1_234_567L)));
+        assertEquals("", english.getUnitName(english.unitIndex(999L)));
+
+        ScalePlan spanish = ScalePlan.of(new SpanishNumeralRules());
+        int unitIndex = spanish.unitIndex(new BigInteger("12345678901234"));
+        assertEquals(BigInteger.TEN.pow(12), spanish.getUnit(unitIndex));
+        assertEquals("Billones", spanish.getUnitName(unitIndex));
+        assertEquals(BigInteger.TEN.pow(6), spanish.getUnit(spanish.unitIndex(9_876_543_210L)));
+    }
+
+    @Test
+    void testNumbersPastPlanAreNotIndexed() {
+        ScalePlan english = ScalePlan.of(new EnglishNumeralRules());
+        assertEquals(BigInteger.TEN.pow(306),
+            english.getUnit(english.unitIndex(BigInteger.TEN.pow(ScalePlan.MAX_EXPONENT).subtract(BigInteger.ONE))));
+        assertEquals(-1, english.unitIndex(BigInteger.TEN.pow(ScalePlan.MAX_EXPONENT)));
+    }
+}
@@ -0,0 +1,68 @@
+package numbertostring.unit.core.language.formatter;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import numbertostring.core.language.formatting.EnglishGrammarFormatter;
+import numbertostring.core.language.rules.EnglishNumeralRules;
+import numbertostring.core.token.NumberTokens;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+
+public class EnglishGrammarFormatterTest {
+
+    private final EnglishGrammarFormatter formatter = new EnglishGrammarFormatter();
+
+    private final EnglishNumeralRules rules = new EnglishNumeralRules();
+
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, Thousand, 1000, Thousand",
+        "7, '', 1, Seven",
+        "42, Million, 1000000, Forty Two Million",
+        "100, '', 1, One Hundred",
+        "105, Billion, 1000000000, One Hundred Five Billion",
+        "999, Thousand, 1000, Nine Hundred Ninety Nine Thousand"
+    })
+    void testChunkFormatting(int chunk, String unitString, long unit, String expectedOutput) {
+        String chunkString = rules.applyNumeralRulesForSmallNumbers(chunk);
+        assertEquals(expectedOutput, formatter.applyLanguageSpecificFormatting(chunkString, chunk, unitString, unit));
+        assertEquals(expectedOutput, formatter.applyLanguageSpecificFormatting(
+            chunkString, BigInteger.valueOf(chunk), unitString, BigInteger.valueOf(unit)));
+    }
+
+    @Test
+    void testTokensMatchFormattedWords() {
+        TokenBuffer out = new TokenBuffer(rules.getVocabulary());
+        formatter.appendTokens(out, rules, 105, "Billion", 1_000_000_000L);
+        formatter.appendTokens(out, rules, BigInteger.valueOf(42), "", BigInteger.ONE);
+        NumberTokens tokens = out.toTokens();
+
+        assertEquals(List.of("One", "Hundred", "Five", "Billion", "Forty", "Two"), tokens.words());
+        assertEquals(TokenKind.WORD, tokens.kind(2));
+        assertEquals(TokenKind.UNIT, tokens.kind(3));
+        assertEquals(TokenKind.WORD, tokens.kind(5));
+    }
+
+    @Test
+    void testUnitWhitespaceCollapsed() {
+        assertEquals("Twelve Odd Unit", formatter.applyLanguageSpecificFormatting("Twelve", 12, " Odd  Unit ", 1L));
+    }
+
+    @Test
+    void testChunkOutOfRangeRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> formatter.applyLanguageSpecificFormatting("", 1_000, "", 1L));
+        assertThrows(IllegalArgumentException.class,
+            () -> formatter.applyLanguageSpecificFormatting("", BigInteger.valueOf(-1), "", BigInteger.ONE));
+    }
+}
@@ -2,9 +2,11 @@ package numbertostring.unit.core.language.formatter;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -16,6 +18,10 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import numbertostring.core.language.formatting.SpanishGrammarFormatter;
+import numbertostring.core.language.rules.SpanishNumeralRules;
+import numbertostring.core.token.NumberTokens;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
 
 public class SpanishGrammarFormatterTest {
 
@@ -75,6 +81,45 @@ public class SpanishGrammarFormatterTest {
 
 
 
+    @ParameterizedTest
+    @CsvSource({
+        "100, '', 1, Cien",
+        "116, '', 1, Ciento Dieciséis",
+        "100101, '', 1, Cien Mil Ciento Uno",
+        "1500, Millones, 1000000, Uno Mil Quinientos Millones",
+        "20, Millones, 1000000, Veintimillones",
+        "120000, '', 1, Ciento Veintimil",
+        "22022, '', 1, Veintidós Mil Veintidós",
+        "31000, Billones, 1000000000000, Treinta y Uno Mil Billones",
+        "1000, Millones, 1000000, Mil Millones",
+        "5020, Millones, 1000000, Cinco Mil Veintimillones"
+    })
+    void testChunksAboveOneThousand(int chunk, String unitString, long unit, String expectedOutput) {
+        String chunkString = new SpanishNumeralRules().applyNumeralRulesForSmallNumbers(chunk);
+        assertEquals(expectedOutput, formatter.applyLanguageSpecificFormatting(chunkString, chunk, unitString, unit));
+        assertEquals(expectedOutput, formatter.applyLanguageSpecificFormatting(
+            chunkString, BigInteger.valueOf(chunk), unitString, BigInteger.valueOf(unit)));
+    }
+
+    @Test
+    void testTokenKinds() {
+        SpanishNumeralRules rules = new SpanishNumeralRules();
+        TokenBuffer out = new TokenBuffer(rules.getVocabulary());
+        formatter.appendTokens(out, rules, 1, "Millones", 1_000_000L);
+        formatter.appendTokens(out, rules, BigInteger.valueOf(21), "Billones", BigInteger.TEN.pow(12));
+        NumberTokens tokens = out.toTokens();
+
+        assertEquals(List.of("Un", "Millon", "Veintiuno", "Billones"), tokens.words());
+        assertEquals(List.of(TokenKind.WORD, TokenKind.UNIT, TokenKind.WORD, TokenKind.UNIT),
+            IntStream.range(0, tokens.size()).mapToObj(tokens::kind).toList());
+    }
+
+    @Test
+    void testChunkOutOfRangeRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> formatter.applyLanguageSpecificFormatting("", 1_000_000, "", 1L));
+    }
+
     // Helper method to generate raw, incorrectly formatted numerals from 10-99 before formatting
     // Also produces  numerals after formatting.
     private static Stream<Arguments> provideDoubleDigitArguments() {
@@ -0,0 +1,220 @@
+package numbertostring.unit.core.language.pack;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import numbertostring.core.conversion.IntegerNumConverter;
+import numbertostring.core.language.GroupingStrategy;
+import numbertostring.core.language.formatting.EnglishGrammarFormatter;
+import numbertostring.core.language.pack.LocalePack;
+import numbertostring.core.language.pack.LocalePackCompiler;
+import numbertostring.core.language.pack.PackedGrammarFormatter;
+import numbertostring.core.language.pack.PackedNumeralRules;
+import numbertostring.core.language.rules.EnglishNumeralRules;
+import numbertostring.core.model.IntegerNum;
+import numbertostring.core.token.TokenBuffer;
+
+public class LocalePackTest {
+
+    private static final String SOURCE = String.join("\n",
+        "language=TS",
+        "grouping=LONG_SCALE",
+        "zero=Nil",
+        "negative=Minus",
+        "hundred=Hundred",
+        "ones=,One,Two,Three,Four,Five,Six,Seven,Eight,Nine,Ten,Eleven,Twelve,Thirteen,Fourteen,Fifteen,Sixteen,Seventeen,Eighteen,Nineteen",
+        "tens=,,Twenty,Thirty,Forty,Fifty,Sixty,Seventy,Eighty,Ninety",
+        "unit.3=Thousand",
+        "unit.6=Million",
+        "unit.12=Billion");
+
+    private static final String GRAMMAR_SOURCE = String.join("\n",
+        "language=tg",
+        "grouping=LONG_SCALE",
+        "zero=Nil",
+        "negative=Minus",
+        "hundreds=,Onehundred,Twohundred,Threehundred,Fourhundred,Fivehundred,Sixhundred,Sevenhundred,Eighthundred,Ninehundred",
+        "hundred.alone=Hundred",
+        "ones=,One,Two,Three,Four,Five,Six,Seven,Eight,Nine,Ten,Eleven,Twelve,Thirteen,Fourteen,Fifteen,Sixteen,Seventeen,Eighteen,Nineteen,,Twentyone",
+        "tens=,,Twenty,Thirty,Forty,Fifty,Sixty,Seventy,Eighty,Ninety",
+        "tens.joiner=and",
+        "contraction.Twenty=Twenti",
+        "unit.3=Thousand",
+        "unit.3.one=Thousand",
+        "unit.6=Millions",
+        "unit.6.one=A Million");
+
+    @ParameterizedTest
+    @CsvSource({
+        "en, 0, Zero",
+        "en, -105, Negative One Hundred Five",
+        "en, 1000, One Thousand",
+        "en, 20020, Twenty Thousand Twenty",
+        "en, 1000001, One Million One",
+        "en, 999999999999, Nine Hundred Ninety Nine Billion Nine Hundred Ninety Nine Million Nine Hundred Ninety Nine Thousand Nine Hundred Ninety Nine",
+        "es, 0, Cero",
+        "es, -100, Menos Cien",
+        "es, 1000, Mil",
+        "es, 1001, Mil Uno",
+        "es, 20020, Veintimil Veinte",
+        "es, 100100, Cien Mil Cien",
+        "es, 1000000, Un Millon",
+        "es, 20000000, Veintimillones",
+        "es, 1000000000, Mil Millones",
+        "es, 1001000000, Uno Mil Uno Millones",
+        "es, 21000000001, Veintiuno Mil Millones Uno",
+        "es, 1000000000000, Un Billon"
+    })
+    void testShippedPacks(String language, long value, String expected) {
+        LocalePack pack = LocalePack.load(language);
+        IntegerNumConverter converter = new IntegerNumConverter(new PackedNumeralRules(pack), new PackedGrammarFormatter(pack));
+
+        assertEquals(expected, converter.convertToWords(value));
+        assertEquals(expected, converter.convertToWords(new IntegerNum(BigInteger.valueOf(value))));
+    }
+
+    @Test
+    void testShippedPackLimits() {
+        assertEquals(BigInteger.TEN.pow(51), new PackedNumeralRules(LocalePack.load("en")).getMagnitudeLimit());
+        assertEquals(BigInteger.TEN.pow(36), new PackedNumeralRules(LocalePack.load("es")).getMagnitudeLimit());
+        assertEquals("Point", new PackedNumeralRules(LocalePack.load("en")).getDecimalSeparator());
+        assertEquals("Punto", new PackedNumeralRules(LocalePack.load("es")).getDecimalSeparator());
+    }
+
+    @Test
+    void testShippedEnglishPackMatchesEnglishRules() {
+        LocalePack pack = LocalePack.load("en");
+        IntegerNumConverter packed = new IntegerNumConverter(new PackedNumeralRules(pack), new PackedGrammarFormatter(pack));
+        IntegerNumConverter english = new IntegerNumConverter(new EnglishNumeralRules(), new EnglishGrammarFormatter());
+
+        Random random = new Random(7);
+        for (int bits = 1; bits < 170; bits++) {
+            BigInteger value = new BigInteger(bits, random);
+            IntegerNum number = new IntegerNum(random.nextBoolean() ? value : value.negate());
+            assertEquals(english.convertToWords(number), packed.convertToWords(number));
+            assertEquals(tokenWords(english, number), tokenWords(packed, number));
+        }
+    }
+
+    private static List<String> tokenWords(IntegerNumConverter converter, IntegerNum number) {
+        TokenBuffer out = new TokenBuffer(converter.getVocabulary());
+        converter.convertTo(out, number);
+        return out.toTokens().words();
+    }
+
+    @Test
+    void testShippedPackNumeralsAreRaw() {
+        PackedNumeralRules english = new PackedNumeralRules(LocalePack.load("en"));
+        EnglishNumeralRules englishRules = new EnglishNumeralRules();
+        for (int num = 0; num < 1_000; num++) {
+            assertEquals(englishRules.applyNumeralRulesForSmallNumbers(num), english.applyNumeralRulesForSmallNumbers(num));
+        }
+
+        PackedNumeralRules spanish = new PackedNumeralRules(LocalePack.load("es"));
+        assertEquals("Cien Uno", spanish.applyNumeralRulesForSmallNumbers(101));
+        assertEquals("Veinte Uno", spanish.applyNumeralRulesForSmallNumbers(21));
+        assertEquals("Doscientos Treinta Dos", spanish.applyNumeralRulesForSmallNumbers(232));
+        assertEquals("Uno Mil Uno", spanish.applyNumeralRulesForSmallNumbers(1_001));
+        assertEquals("Veinte Mil", spanish.applyNumeralRulesForSmallNumbers(20_000));
+        assertThrows(IllegalArgumentException.class, () -> spanish.applyNumeralRulesForSmallNumbers(1_000_000));
+    }
+
+    @Test
+    void testGrammarKeys() throws IOException {
+        LocalePack pack = LocalePack.parse(properties(GRAMMAR_SOURCE));
+        IntegerNumConverter converter = new IntegerNumConverter(new PackedNumeralRules(pack), new PackedGrammarFormatter(pack));
+
+        assertEquals("Hundred", converter.convertToWords(100L));
+        assertEquals("Onehundred One", converter.convertToWords(101L));
+        assertEquals("Twohundred Thirty and One", converter.convertToWords(231L));
+        assertEquals("Twentyone Millions Twentithousand", converter.convertToWords(21_020_000L));
+        assertEquals("Twentimillions Two Thousand Twenty", converter.convertToWords(20_002_020L));
+        assertEquals("A Million", converter.convertToWords(1_000_000L));
+        assertEquals("Thousand", converter.convertToWords(1_000L));
+        assertEquals("Thousand One", converter.convertToWords(1_001L));
+        assertEquals("One Thousand One Millions", converter.convertToWords(1_001_000_000L));
+    }
+
+    @Test
+    void testWriteAndReadRoundTrip() throws IOException {
+        LocalePack pack = LocalePack.parse(properties(SOURCE));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        pack.write(bytes);
+        LocalePack read = LocalePack.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals("ts", read.getLanguage());
+        assertEquals("", read.getDecimal());
+        assertEquals(GroupingStrategy.LONG_SCALE, read.getGroupingStrategy());
+        assertArrayEquals(new int[] {3, 6, 12}, read.getUnitExponents());
+        assertArrayEquals(pack.getOnes(), read.getOnes());
+        assertArrayEquals(pack.getUnitNames(), read.getUnitNames());
+
+        LocalePack grammar = LocalePack.parse(properties(GRAMMAR_SOURCE));
+        bytes.reset();
+        grammar.write(bytes);
+        LocalePack readGrammar = LocalePack.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals("", readGrammar.getHundred());
+        assertArrayEquals(grammar.getHundreds(), readGrammar.getHundreds());
+        assertArrayEquals(grammar.getOnes(), readGrammar.getOnes());
+        assertArrayEquals(new String[] {"Thousand", "A Million"}, readGrammar.getUnitOneForms());
+        assertEquals(new PackedGrammarFormatter(grammar).applyLanguageSpecificFormatting("", 20_020, "", 1L),
+            new PackedGrammarFormatter(readGrammar).applyLanguageSpecificFormatting("", 20_020, "", 1L));
+    }
+
+    @Test
+    void testLongScalePack() throws IOException {
+        LocalePack pack = LocalePack.parse(properties(SOURCE));
+        IntegerNumConverter converter = new IntegerNumConverter(new PackedNumeralRules(pack), new PackedGrammarFormatter(pack));
+
+        assertEquals("Nil", converter.convertToWords(0L));
+        assertEquals("Minus Forty Two", converter.convertToWords(-42L));
+        assertEquals("Twelve Thousand Three Hundred Forty Five Million Six Hundred Seventy Eight Thousand Nine Hundred One",
+            converter.convertToWords(12_345_678_901L));
+        assertEquals("Two Billion Five", converter.convertToWords(new IntegerNum(new BigInteger("2000000000005"))));
+    }
+
+    @Test
+    void testCompilerWritesPacks(@TempDir Path folder) throws IOException {
+        Path sources = Files.createDirectories(folder.resolve("sources"));
+        Files.writeString(sources.resolve("ts.properties"), SOURCE);
+
+        assertEquals(1, LocalePackCompiler.compile(sources, folder.resolve("out")));
+        try (var in = Files.newInputStream(folder.resolve("out/locales/ts.ntpack"))) {
+            assertEquals("ts", LocalePack.read(in).getLanguage());
+        }
+    }
+
+    @Test
+    void testMalformedSourceRejected() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> LocalePack.parse(properties(SOURCE.replace("zero=Nil", ""))));
+        assertThrows(IllegalArgumentException.class, () -> LocalePack.parse(properties(SOURCE.replace(",Nineteen", ""))));
+        assertThrows(IllegalArgumentException.class, () -> LocalePack.parse(properties(SOURCE.replace("hundred=Hundred", ""))));
+        assertThrows(IllegalArgumentException.class, () -> LocalePack.parse(properties(GRAMMAR_SOURCE + "\nhundred=Hundred")));
+        assertThrows(IllegalArgumentException.class, () -> LocalePack.parse(properties(GRAMMAR_SOURCE + "\nunit.9.one=A Billion")));
+        assertThrows(IOException.class, () -> LocalePack.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4})));
+        assertThrows(IllegalArgumentException.class, () -> LocalePack.load("qaa"));
+    }
+
+    private static Properties properties(String source) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(source));
+        return properties;
+    }
+}
@@ -0,0 +1,209 @@
+package numbertostring.unit.core.parsing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import numbertostring.core.exception.NumberParseException;
+import numbertostring.core.factory.NumberConverterFactory;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.language.formatting.SpanishGrammarFormatter;
+import numbertostring.core.language.pack.LocalePack;
+import numbertostring.core.language.pack.PackedGrammarFormatter;
+import numbertostring.core.language.pack.PackedNumeralRules;
+import numbertostring.core.language.rules.SpanishNumeralRules;
+import numbertostring.core.parsing.NumberWordParser;
+
+public class NumberWordParserTest {
+
+    private static final NumberConverterFactory FACTORY = new NumberConverterFactory();
+
+    @ParameterizedTest
+    @CsvSource({
+        "en, Zero, 0",
+        "en, One Hundred Five, 105",
+        "en, Negative Forty Two Million Seven, -42000007",
+        "en, nine hundred ninety-nine thousand, 999000",
+        "es, Ciento Uno, 101",
+        "es, Treinta y Uno, 31",
+        "es, Veintidós, 22",
+        "es, Veintidos, 22",
+        "es, Dieciséis, 16",
+        "es, Dieciseis, 16",
+        "es, Cien Mil, 100000",
+        "es, Veintimil Quinientos, 20500",
+        "es, Un Millón, 1000000",
+        "es, Un Millon Mil, 1001000",
+        "es, Dos Mil Millones, 2000000000",
+        "es, Veintimillones, 20000000",
+        "es, Menos Un Billón, -1000000000000"
+    })
+    void testParse(String language, String words, long expected) {
+        NumberWordParser parser = FACTORY.prepare(Locale.forLanguageTag(language)).getParser();
+
+        assertEquals(expected, parser.parseLong(words));
+        assertEquals(BigInteger.valueOf(expected), parser.parse(words));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"en", "es"})
+    void testRoundTripsConvertedWords(String language) {
+        PreparedNumberConverter converter = FACTORY.prepare(Locale.forLanguageTag(language));
+        NumberWordParser parser = converter.getParser();
+        SplittableRandom random = new SplittableRandom(23);
+        for (int i = 0; i < 5_000; i++) {
+            long value = i < 2_000 ? i : random.nextLong() >> random.nextInt(64);
+            assertEquals(value, parser.parseLong(converter.convertNumberToWords(value)), () -> "value " + value);
+        }
+        BigInteger large = BigInteger.TEN.pow(35).add(BigInteger.valueOf(21_000_017));
+        assertEquals(large, parser.parse(converter.convertNumberToWords(new BigDecimal(large))));
+    }
+
+    @Test
+    void testParserLearnedFromSpanishTables() {
+        NumberWordParser parser = NumberWordParser.of(new SpanishNumeralRules(), new SpanishGrammarFormatter());
+
+        assertEquals(1_021_132L, parser.parseLong("Un Millón Veintiuno Mil Ciento Treinta y Dos"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Twelve One", "One Million Two Million", "Forty Two Negative", "Zero One", "One Hundred And Five"})
+    void testMalformedWordsRejected(String words) {
+        NumberWordParser parser = FACTORY.prepare(Locale.ENGLISH).getParser();
+
+        assertThrows(NumberParseException.class, () -> parser.parse(words));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "en, Negative Negative Five, Negative, 9",
+        "en, Negative Negative One Undecillion, Negative, 9",
+        "es, Menos Menos Dos, Menos, 6"
+    })
+    void testRepeatedSignRejected(String language, String words, String sign, int index) {
+        NumberWordParser parser = FACTORY.prepare(Locale.forLanguageTag(language)).getParser();
+
+        NumberParseException exception = assertThrows(NumberParseException.class, () -> parser.parse(words));
+        assertEquals("Number word '" + sign + "' at index " + index + " does not follow the words before it.",
+            exception.getErrorMessage());
+        assertArrayEquals(new BigInteger[] {null}, parser.parseAll(List.of(words)));
+    }
+
+    @Test
+    void testMultiWordPrefixReadInOrder() {
+        LocalePack pack = LocalePack.load("en");
+        PackedNumeralRules rules = new PackedNumeralRules(pack) {
+            @Override
+            public String getNegativePrefix() {
+                return "Minus Sign ";
+            }
+        };
+        NumberWordParser parser = NumberWordParser.of(rules, new PackedGrammarFormatter(pack));
+
+        assertEquals(-5L, parser.parseLong("Minus Sign Five"));
+        assertArrayEquals(new BigInteger[] {null, null, null},
+            parser.parseAll(List.of("Minus Five", "Sign Minus Five", "Minus Sign Minus Sign Five")));
+    }
+
+    @Test
+    void testUnknownWordReported() {
+        NumberWordParser parser = FACTORY.prepare(Locale.ENGLISH).getParser();
+
+        NumberParseException exception = assertThrows(NumberParseException.class, () -> parser.parse("Forty Tw0"));
+        assertEquals("Unknown number word 'Tw0' at index 6.", exception.getErrorMessage());
+    }
+
+    @Test
+    void testLongOverflowRejected() {
+        NumberWordParser parser = FACTORY.prepare(Locale.ENGLISH).getParser();
+
+        assertEquals(Long.MIN_VALUE, parser.parseLong(FACTORY.convertNumberToWords(Long.MIN_VALUE, Locale.ENGLISH)));
+        assertThrows(ArithmeticException.class, () -> parser.parseLong("Ten Quintillion"));
+    }
+
+    @Test
+    void testParseAllMarksUnreadableEntries() {
+        NumberWordParser parser = FACTORY.prepare(Locale.forLanguageTag("es")).getParser();
+
+        assertArrayEquals(new BigInteger[] {BigInteger.TWO, null, null, BigInteger.TEN.pow(30)},
+            parser.parseAll(List.of("Dos", "Dos Dos", "Tres Patos", "Un Quintillón")));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "es, Cien Uno, 101",
+        "es, Dos Millon, 2000000",
+        "es, Uno Millon, 1000000",
+        "es, Un Millones, 1000000",
+        "en, Hundred, 100",
+        "en, Thousand Million, 1000000000",
+        "en, One Million Thousand, 1001000",
+        "es, Uno Quintillón, 1000000000000000000000000000000"
+    })
+    void testStrictRejectsWordsNotWritten(String language, String words, BigInteger lenient) {
+        NumberWordParser parser = FACTORY.prepare(Locale.forLanguageTag(language)).getParser();
+        NumberWordParser strict = parser.strict();
+
+        assertEquals(lenient, parser.parse(words));
+        NumberParseException exception = assertThrows(NumberParseException.class, () -> strict.parse(words));
+        assertEquals("Words are not how the language writes their number: '" + words + "'.", exception.getErrorMessage());
+        assertArrayEquals(new BigInteger[] {null}, strict.parseAll(List.of(words)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "en, One Hundred Five, 105",
+        "en, nine hundred ninety-nine thousand, 999000",
+        "en, Negative Forty Two Million Seven, -42000007",
+        "es, Ciento Uno, 101",
+        "es, Cien, 100",
+        "es, Veintidos, 22",
+        "es, un millón, 1000000",
+        "es, Dos Millones, 2000000",
+        "es, Veintimil Quinientos, 20500"
+    })
+    void testStrictReadsWrittenWords(String language, String words, long expected) {
+        NumberWordParser strict = FACTORY.prepare(Locale.forLanguageTag(language)).getParser().strict();
+
+        assertEquals(expected, strict.parseLong(words));
+        assertEquals(strict, strict.strict());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"en", "es"})
+    void testStrictRoundTripsConvertedWords(String language) {
+        PreparedNumberConverter converter = FACTORY.prepare(Locale.forLanguageTag(language));
+        NumberWordParser strict = converter.getParser().strict();
+        SplittableRandom random = new SplittableRandom(29);
+        for (int i = 0; i < 2_000; i++) {
+            long value = i < 1_000 ? i : random.nextLong() >> random.nextInt(64);
+            assertEquals(value, strict.parseLong(converter.convertNumberToWords(value)), () -> "value " + value);
+        }
+        BigInteger large = BigInteger.TEN.pow(35).add(BigInteger.valueOf(21_000_017));
+        assertEquals(large, strict.parse(converter.convertNumberToWords(new BigDecimal(large))));
+    }
+
+    @Test
+    void testPackVocabularyMatchesLearnedVocabulary() {
+        LocalePack pack = LocalePack.load("es");
+        NumberWordParser fromPack = NumberWordParser.of(new PackedNumeralRules(pack), new PackedGrammarFormatter(pack));
+        NumberWordParser learned = NumberWordParser.of(new SpanishNumeralRules(), new SpanishGrammarFormatter());
+        SplittableRandom random = new SplittableRandom(31);
+        for (int i = 0; i < 2_000; i++) {
+            long value = random.nextLong() >> random.nextInt(64);
+            String words = FACTORY.convertNumberToWords(value, Locale.forLanguageTag("es"));
+            assertEquals(learned.parseLong(words), fromPack.parseLong(words), () -> words);
+        }
+    }
+}
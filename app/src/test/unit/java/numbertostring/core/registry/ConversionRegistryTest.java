@@ -0,0 +1,270 @@
+package numbertostring.unit.core.registry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import numbertostring.api.cache.ConversionCache;
+import numbertostring.api.exception.UnsupportedLanguageException;
+import numbertostring.core.factory.NumberConverterFactory;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.language.formatting.EnglishGrammarFormatter;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.formatting.SpanishGrammarFormatter;
+import numbertostring.core.language.rules.EnglishNumeralRules;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.language.rules.SpanishNumeralRules;
+import numbertostring.core.model.IntegerNum;
+import numbertostring.core.provider.LanguageProvider;
+import numbertostring.core.registry.ConversionRegistry;
+import numbertostring.core.registry.RegistrySnapshot;
+
+public class ConversionRegistryTest {
+
+    private final NumberConverterFactory factory = new NumberConverterFactory();
+
+    @Test
+    void testDefaultsRegistered() {
+        assertNotNull(ConversionRegistry.current(Locale.ENGLISH).getRules(Locale.ENGLISH));
+        RegistrySnapshot snapshot = ConversionRegistry.current(Locale.forLanguageTag("es-MX"));
+        assertNotNull(snapshot.getFormatter(Locale.forLanguageTag("es")));
+        assertNotNull(snapshot.getChunkTable(Locale.forLanguageTag("es-MX")));
+        assertTrue(snapshot.getConverterProviders().containsKey(IntegerNum.class));
+    }
+
+    @Test
+    void testProvidedLanguageLoadedOnFirstRequest() {
+        Locale locale = Locale.forLanguageTag("qae-US");
+        assertNull(ConversionRegistry.current().getRules(locale));
+
+        RegistrySnapshot snapshot = ConversionRegistry.current(locale);
+        assertNotNull(snapshot.getRules(locale));
+        assertTrue(snapshot.getChunkTable(locale).isBuiltFrom(snapshot.getRules(locale), snapshot.getFormatter(locale)));
+        assertSame(snapshot, ConversionRegistry.current(Locale.forLanguageTag("qae")));
+        assertEquals(1, QaeLanguageProvider.RULES_CREATED.get());
+        assertEquals("Forty Two", factory.convertNumberToWords(42L, locale));
+    }
+
+    @Test
+    void testExplicitRulesKeptWhenLanguageLoads() {
+        Locale locale = Locale.forLanguageTag("qaf");
+        LocalizedNumeralRules rules = new EnglishNumeralRules();
+        ConversionRegistry.registerRules("qaf", rules);
+
+        RegistrySnapshot snapshot = ConversionRegistry.current(locale);
+        assertSame(rules, snapshot.getRules(locale));
+        assertNotNull(snapshot.getFormatter(locale));
+    }
+
+    @Test
+    void testRulesRegisteredDuringLoadKept() throws Exception {
+        Locale locale = Locale.forLanguageTag("qaj");
+        LocalizedNumeralRules rules = new EnglishNumeralRules();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<RegistrySnapshot> load = executor.submit(() -> ConversionRegistry.current(locale));
+            QajLanguageProvider.CREATING.await();
+            ConversionRegistry.registerRules("qaj", rules);
+            QajLanguageProvider.PROCEED.countDown();
+
+            RegistrySnapshot loaded = load.get();
+            assertSame(rules, loaded.getRules(locale));
+            assertSame(loaded, ConversionRegistry.current(locale));
+            assertTrue(loaded.getChunkTable(locale).isBuiltFrom(rules, loaded.getFormatter(locale)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailedLoadRetried() {
+        Locale locale = Locale.forLanguageTag("qah");
+
+        assertThrows(IllegalStateException.class, () -> factory.prepare(locale));
+        assertEquals("Forty Two", factory.convertNumberToWords(42L, locale));
+        assertEquals(2, QahLanguageProvider.ATTEMPTS.get());
+    }
+
+    @Test
+    void testLoadKeepsCachesAndPreparedConverters() {
+        PreparedNumberConverter english = factory.prepare(Locale.ENGLISH);
+        ConversionCache cache = ConversionCache.builder().build();
+        AtomicInteger conversions = new AtomicInteger();
+        cache.get(BigDecimal.TEN, Locale.ENGLISH, () -> "Ten" + conversions.incrementAndGet());
+        long version = ConversionRegistry.current().getVersion();
+
+        RegistrySnapshot loaded = ConversionRegistry.current(Locale.forLanguageTag("qai"));
+        assertNotNull(loaded.getRules(Locale.forLanguageTag("qai")));
+        assertEquals(version, loaded.getVersion());
+        assertSame(english, factory.prepare(Locale.ENGLISH));
+        assertEquals("Ten1", cache.get(BigDecimal.TEN, Locale.ENGLISH, () -> "Ten" + conversions.incrementAndGet()));
+    }
+
+    @Test
+    void testUnprovidedLanguageNotLoaded() {
+        Locale locale = Locale.forLanguageTag("qag");
+        assertSame(ConversionRegistry.current(), ConversionRegistry.current(locale));
+        assertNull(ConversionRegistry.current(locale).getRules(locale));
+    }
+
+    @Test
+    void testRegistrationPublishesNewSnapshot() {
+        RegistrySnapshot before = ConversionRegistry.current();
+        Locale locale = Locale.forLanguageTag("qaa");
+        RegistrySnapshot after = ConversionRegistry.registerLanguage("QAA", new EnglishNumeralRules(), new EnglishGrammarFormatter());
+
+        assertSame(after, ConversionRegistry.current());
+        assertTrue(after.getVersion() > before.getVersion());
+        assertNull(before.getRules(locale));
+        assertNotNull(after.getRules(locale));
+        assertTrue(after.getChunkTable(locale).isBuiltFrom(after.getRules(locale), after.getFormatter(locale)));
+    }
+
+    @Test
+    void testLanguageHotSwapped() {
+        Locale locale = Locale.forLanguageTag("qab");
+        assertThrows(UnsupportedLanguageException.class, () -> factory.prepare(locale));
+
+        ConversionRegistry.registerLanguage("qab", new EnglishNumeralRules(), new EnglishGrammarFormatter());
+        assertEquals("Forty Two", factory.convertNumberToWords(42L, locale));
+
+        ConversionRegistry.registerLanguage("qab", new SpanishNumeralRules(), new SpanishGrammarFormatter());
+        assertEquals("Cuarenta y Dos", factory.convertNumberToWords(42L, locale));
+    }
+
+    @Test
+    void testCacheDroppedOnNewSnapshot() {
+        ConversionCache cache = ConversionCache.builder().threadLocalSize(16).build();
+        AtomicInteger conversions = new AtomicInteger();
+        cache.get(BigDecimal.TEN, Locale.ENGLISH, () -> "Ten" + conversions.incrementAndGet());
+        assertEquals("Ten1", cache.get(BigDecimal.TEN, Locale.ENGLISH, () -> "Ten" + conversions.incrementAndGet()));
+
+        ConversionRegistry.registerLanguage("qac", new EnglishNumeralRules(), new EnglishGrammarFormatter());
+        assertEquals("Ten2", cache.get(BigDecimal.TEN, Locale.ENGLISH, () -> "Ten" + conversions.incrementAndGet()));
+    }
+
+    @Test
+    void testConversionsContinueDuringRegistrations() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean registering = new AtomicBoolean(true);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit(() -> {
+                    do {
+                        assertEquals("One Thousand", factory.convertNumberToWords(1000L, Locale.ENGLISH));
+                    } while (registering.get());
+                }));
+            }
+            for (int i = 0; i < 50; i++) {
+                ConversionRegistry.registerFormatter("qad", new EnglishGrammarFormatter());
+            }
+            registering.set(false);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertNotNull(ConversionRegistry.current().getFormatter(Locale.forLanguageTag("qad")));
+    }
+
+    /** Provider listed in the test resources for the language "qae". */
+    public static class QaeLanguageProvider implements LanguageProvider {
+
+        static final AtomicInteger RULES_CREATED = new AtomicInteger();
+
+        @Override
+        public String getLanguage() {
+            return "qae";
+        }
+
+        @Override
+        public LocalizedNumeralRules createRules() {
+            RULES_CREATED.incrementAndGet();
+            return new EnglishNumeralRules();
+        }
+
+        @Override
+        public LocalizedGrammarFormatter createFormatter() {
+            return new EnglishGrammarFormatter();
+        }
+    }
+
+    /** Provider listed in the test resources for the language "qaf". */
+    public static class QafLanguageProvider extends QaeLanguageProvider {
+
+        @Override
+        public String getLanguage() {
+            return "qaf";
+        }
+    }
+
+    /** Provider listed in the test resources for the language "qah", failing its first load. */
+    public static class QahLanguageProvider extends QaeLanguageProvider {
+
+        static final AtomicInteger ATTEMPTS = new AtomicInteger();
+
+        @Override
+        public String getLanguage() {
+            return "qah";
+        }
+
+        @Override
+        public LocalizedNumeralRules createRules() {
+            if (ATTEMPTS.incrementAndGet() == 1) {
+                throw new IllegalStateException("Rules not available yet.");
+            }
+            return new EnglishNumeralRules();
+        }
+    }
+
+    /** Provider listed in the test resources for the language "qaj", pausing its load until told to go on. */
+    public static class QajLanguageProvider extends QaeLanguageProvider {
+
+        static final CountDownLatch CREATING = new CountDownLatch(1);
+
+        static final CountDownLatch PROCEED = new CountDownLatch(1);
+
+        @Override
+        public String getLanguage() {
+            return "qaj";
+        }
+
+        @Override
+        public LocalizedGrammarFormatter createFormatter() {
+            CREATING.countDown();
+            try {
+                PROCEED.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.createFormatter();
+        }
+    }
+
+    /** Provider listed in the test resources for the language "qai". */
+    public static class QaiLanguageProvider extends QaeLanguageProvider {
+
+        @Override
+        public String getLanguage() {
+            return "qai";
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package numbertostring.unit.core.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import numbertostring.core.token.NumberTokens;
+import numbertostring.core.token.TokenBuffer;
+import numbertostring.core.token.TokenKind;
+import numbertostring.core.token.WordVocabulary;
+
+public class TokenBufferTest {
+
+    private final WordVocabulary vocabulary = new WordVocabulary();
+
+    private final TokenBuffer buffer = new TokenBuffer(vocabulary);
+
+    @Test
+    void testVocabularyInternsWordsOnce() {
+        int forty = vocabulary.intern("Forty");
+        assertEquals(forty, vocabulary.intern("Forty"));
+        assertEquals(forty + 1, vocabulary.intern("Two"));
+        assertEquals("Two", vocabulary.word(forty + 1));
+        assertEquals(2, vocabulary.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> vocabulary.word(2));
+    }
+
+    @Test
+    void testAppendWordsSplitsOnWhitespace() {
+        buffer.appendWords(TokenKind.SIGN, " Negative ").appendWords(TokenKind.WORD, "Forty \t Two").appendWords(TokenKind.UNIT, "");
+        NumberTokens tokens = buffer.toTokens();
+
+        assertEquals(List.of("Negative", "Forty", "Two"), tokens.words());
+        assertEquals(TokenKind.SIGN, tokens.kind(0));
+        assertEquals(TokenKind.WORD, tokens.kind(2));
+        assertEquals(vocabulary.intern("Forty"), tokens.wordId(1));
+        assertEquals("Negative Forty Two", tokens.toString());
+    }
+
+    @Test
+    void testAppendsWordsById() {
+        WordVocabulary source = new WordVocabulary();
+        int[] ids = {source.intern("Uno"), source.intern("Mil")};
+        buffer.appendWord(TokenKind.WORD, vocabulary, vocabulary.intern("Dos"));
+        buffer.appendWords(TokenKind.UNIT, source, ids).appendWord(TokenKind.WORD, source, ids[0]);
+        NumberTokens tokens = buffer.toTokens();
+
+        assertEquals(List.of("Dos", "Uno", "Mil", "Uno"), tokens.words());
+        assertEquals(TokenKind.UNIT, tokens.kind(2));
+        assertEquals(vocabulary.intern("Uno"), tokens.wordId(3));
+        assertEquals(3, vocabulary.size());
+    }
+
+    @Test
+    void testPackedTokensCopyBetweenBuffers() {
+        int[] packed = buffer.appendWords(TokenKind.WORD, "One").appendWord(TokenKind.UNIT, "Thousand").toArray();
+        buffer.truncate(1);
+        assertEquals("One", buffer.toTokens().toString());
+
+        TokenBuffer copy = new TokenBuffer(vocabulary).appendTokens(packed).appendTokens(packed);
+        assertEquals("One Thousand One Thousand", copy.toTokens().toString());
+        assertEquals(TokenKind.UNIT, copy.toTokens().kind(3));
+    }
+
+    @Test
+    void testRendersUtf8IntoByteBuffers() {
+        buffer.appendWord(TokenKind.WORD, "Dieciséis").appendWord(TokenKind.UNIT, "Mil").appendWord(TokenKind.WORD, "Veintitrés");
+        byte[] expected = "Dieciséis Mil Veintitrés".getBytes(StandardCharsets.UTF_8);
+
+        for (ByteBuffer out : new ByteBuffer[] {ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+            out.put((byte) '>');
+            buffer.renderTo(out);
+            out.flip();
+            assertEquals('>', out.get());
+            byte[] written = new byte[out.remaining()];
+            out.get(written);
+            assertEquals(new String(expected, StandardCharsets.UTF_8), new String(written, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testByteBufferOverflowWritesNothing() {
+        buffer.appendWords(TokenKind.WORD, "Veintitrés Mil");
+        ByteBuffer out = ByteBuffer.allocate(14);
+
+        assertThrows(BufferOverflowException.class, () -> buffer.toTokens().renderTo(out));
+        assertEquals(0, out.position());
+        buffer.truncate(1);
+        buffer.renderTo(out);
+        assertEquals(11, out.position());
+    }
+}
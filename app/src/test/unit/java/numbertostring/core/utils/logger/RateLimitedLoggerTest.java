@@ -0,0 +1,68 @@
+package numbertostring.unit.core.utils.logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import numbertostring.core.utils.logger.RateLimitedLogger;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitedLoggerTest {
+
+    private static final String MESSAGE = "Failed {} {} {} {}";
+
+    @Mock
+    private Logger logger;
+
+    @Test
+    void testDropsEventsPastLimitAndReportsThem() throws InterruptedException {
+        when(logger.isEnabled(Level.WARN)).thenReturn(true);
+        RateLimitedLogger limited = new RateLimitedLogger(logger, Level.WARN, 2, Duration.ofMillis(200));
+
+        assertTrue(limited.log(MESSAGE, 1, 2, 3, 4));
+        assertTrue(limited.log(MESSAGE, 1, 2, 3, 4));
+        for (int i = 0; i < 5; i++) {
+            assertFalse(limited.log(MESSAGE, 1, 2, 3, 4));
+        }
+        assertEquals(5, limited.getSuppressedCount());
+        verify(logger, times(2)).log(eq(Level.WARN), eq(MESSAGE), any(), any(), any(), any());
+
+        Thread.sleep(250);
+        assertTrue(limited.log(MESSAGE, 1, 2, 3, 4));
+        verify(logger).log(Level.WARN, "Suppressed {} similar messages.", 5L);
+        assertEquals(0, limited.getSuppressedCount());
+    }
+
+    @Test
+    void whenLevelDisabled_thenNothingIsLoggedOrCounted() {
+        when(logger.isEnabled(Level.WARN)).thenReturn(false);
+        RateLimitedLogger limited = new RateLimitedLogger(logger, Level.WARN, 1, Duration.ofSeconds(1));
+
+        assertFalse(limited.log(MESSAGE, 1, 2, 3, 4));
+        assertEquals(0, limited.getSuppressedCount());
+        verify(logger, never()).log(eq(Level.WARN), anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testRejectsEmptyLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitedLogger(logger, Level.WARN, 0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitedLogger(logger, Level.WARN, 1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * JMH harnesses for the conversion pipeline.
+ *
+ * Run every benchmark with the defaults below:
+ *     ./gradlew :benchmarks:jmh
+ *
+ * Narrow the run or change the thread count from the command line:
+ *     ./gradlew :benchmarks:jmh -Pjmh.includes=IntegerNumConverter -Pjmh.threads=4
+ *
+ * Sweep thread counts from 1 up to every available core:
+ *     ./gradlew :benchmarks:jmhScaling -Pjmh.includes=NumberToWordsService
+ *
+ * Or sweep a pool-size parameter instead of JMH threads:
+ *     ./gradlew :benchmarks:jmhScaling -Pjmh.includes=ParallelBatch -Pjmh.scalingParam=parallelism
+ */
+
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":app"))
+    // Lets benchmarks switch logging configuration at runtime
+    jmh("org.apache.logging.log4j:log4j-core:2.17.1")
+    // Baseline for IcuSpelloutBenchmark
+    jmh("com.ibm.icu:icu4j:73.2")
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+jmh {
+    jmhVersion = "1.37"
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    threads = providers.gradleProperty("jmh.threads").map { it.toInt() }.orElse(1)
+    includes = providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(listOf())
+    resultFormat = "JSON"
+}
+
+tasks.register<JavaExec>("jmhScaling") {
+    group = "benchmark"
+    description = "Runs the selected benchmarks once per thread count, from 1 thread to all cores."
+    dependsOn(tasks.named("jmhJar"))
+    classpath = files(tasks.named("jmhJar"))
+    mainClass = "numbertostring.benchmarks.ThreadScalingRunner"
+    args(
+        providers.gradleProperty("jmh.includes").getOrElse(".*"),
+        providers.gradleProperty("jmh.scalingParam").getOrElse("")
+    )
+}
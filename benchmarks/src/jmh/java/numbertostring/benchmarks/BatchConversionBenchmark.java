@@ -0,0 +1,67 @@
+package numbertostring.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.api.dto.NumberToWordsRequest;
+import numbertostring.api.dto.NumberToWordsResponse;
+
+/**
+ * Compares converting a mixed-locale batch one request at a time with
+ * {@link NumberToWordsService#convertAll(List)}. Scores are per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchConversionBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private NumberToWordsService service;
+    private List<NumberToWordsRequest> requests;
+
+    @Setup
+    public void setUp() {
+        service = new NumberToWordsService();
+        Locale[] locales = {Locale.ENGLISH, Locale.forLanguageTag("es")};
+        Random random = new Random(42);
+        requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            // Amounts repeat within the batch, as they do in real input files
+            requests.add(NumberToWordsRequest.builder()
+                .numberValue(BigDecimal.valueOf(random.nextInt(2_000) * 25L))
+                .locale(locales[random.nextInt(locales.length)])
+                .build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<NumberToWordsResponse> singleRequests() {
+        List<NumberToWordsResponse> responses = new ArrayList<>(BATCH_SIZE);
+        for (NumberToWordsRequest request : requests) {
+            responses.add(service.convertNumberToWordsWithLocale(request));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<NumberToWordsResponse> convertAll() {
+        return service.convertAll(requests);
+    }
+}
@@ -0,0 +1,146 @@
+package numbertostring.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.core.conversion.GroupingPowers;
+import numbertostring.core.conversion.IntegerNumConverter;
+import numbertostring.core.language.GroupingStrategy;
+import numbertostring.core.language.LocalizedGrammarFormatterRegistry;
+import numbertostring.core.language.LocalizedNumberRulesRegistry;
+import numbertostring.core.language.ScalePlan;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+import numbertostring.core.model.IntegerNum;
+import numbertostring.core.model.NumberBase;
+
+/**
+ * Compares chunk decomposition of 30 to 50 digit values in {@link IntegerNumConverter}
+ * with the previous algorithms. The first divided by the grouping value once per remaining
+ * chunk on every iteration; the second computed the grouping value and searched its cached
+ * powers for every chunk, where the converter now reads the unit from a {@link ScalePlan}.
+ *
+ * <p>The {@code decompose} benchmarks measure the arithmetic alone. The {@code convert}
+ * pair renders each chunk through the same rules and formatter as well.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChunkDecompositionBenchmark {
+
+    @Param({"en", "es"})
+    private String language;
+
+    @Param({"30", "40", "50"})
+    private int digits;
+
+    private LocalizedNumeralRules rules;
+    private LocalizedGrammarFormatter formatter;
+    private GroupingStrategy groupingStrategy;
+    private NumberBase base;
+    private ScalePlan plan;
+    private IntegerNumConverter converter;
+    private BigInteger value;
+    private IntegerNum number;
+
+    @Setup
+    public void setUp() {
+        Locale locale = Locale.forLanguageTag(language);
+        rules = LocalizedNumberRulesRegistry.getRules(locale);
+        formatter = LocalizedGrammarFormatterRegistry.getFormatter(locale);
+        groupingStrategy = rules.getGroupingStrategy();
+        base = rules.getNumberBase();
+        plan = ScalePlan.of(rules);
+        converter = new IntegerNumConverter(rules, formatter);
+
+        Random random = new Random(digits);
+        StringBuilder text = new StringBuilder().append(1 + random.nextInt(9));
+        for (int i = 1; i < digits; i++) {
+            text.append(random.nextInt(10));
+        }
+        value = new BigInteger(text.toString());
+        number = new IntegerNum(value);
+    }
+
+    @Benchmark
+    public long decompose() {
+        long checksum = 0;
+        BigInteger num = value;
+        while (num.signum() > 0) {
+            BigInteger largestUnit = plan.getUnit(plan.unitIndex(num));
+            BigInteger[] chunkAndRemainder = num.divideAndRemainder(largestUnit);
+            checksum += chunkAndRemainder[0].intValue() + largestUnit.bitLength();
+            num = chunkAndRemainder[1];
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long decomposeGroupingPowers() {
+        long checksum = 0;
+        BigInteger num = value;
+        while (num.signum() > 0) {
+            BigInteger groupingInteger = groupingStrategy.getGroupingValue(num, base);
+            BigInteger largestUnit = GroupingPowers.largestUnitAtMost(groupingInteger, num);
+            BigInteger[] chunkAndRemainder = num.divideAndRemainder(largestUnit);
+            checksum += chunkAndRemainder[0].intValue() + largestUnit.bitLength();
+            num = chunkAndRemainder[1];
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long decomposeQuadratic() {
+        long checksum = 0;
+        BigInteger num = value;
+        while (num.compareTo(BigInteger.ZERO) > 0) {
+            BigInteger groupingInteger = groupingStrategy.getGroupingValue(num, base);
+            BigInteger chunk = num;
+            BigInteger largestUnit = BigInteger.ONE;
+            while (chunk.compareTo(groupingInteger) >= 0) {
+                chunk = chunk.divide(groupingInteger);
+                largestUnit = largestUnit.multiply(groupingInteger);
+            }
+            checksum += chunk.intValue() + largestUnit.bitLength();
+            num = num.mod(largestUnit);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public String convert() {
+        return converter.convertToWords(number);
+    }
+
+    @Benchmark
+    public String convertQuadratic() {
+        StringBuilder result = new StringBuilder();
+        BigInteger num = value;
+        while (num.compareTo(BigInteger.ZERO) > 0) {
+            BigInteger groupingInteger = groupingStrategy.getGroupingValue(num, base);
+            BigInteger chunk = num;
+            BigInteger largestUnit = BigInteger.ONE;
+            while (chunk.compareTo(groupingInteger) >= 0) {
+                chunk = chunk.divide(groupingInteger);
+                largestUnit = largestUnit.multiply(groupingInteger);
+            }
+            String chunkString = rules.applySmallNumeralRules(chunk);
+            String largeUnitString = rules.applyLargeUnitsRules(largestUnit);
+            result.append(formatter.applyLanguageSpecificFormatting(chunkString, chunk, largeUnitString, largestUnit))
+                .append(" ");
+            num = num.mod(largestUnit);
+        }
+        return result.toString().trim();
+    }
+}
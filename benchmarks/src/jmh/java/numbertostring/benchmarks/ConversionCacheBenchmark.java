@@ -0,0 +1,72 @@
+package numbertostring.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.api.cache.ConversionCache;
+import numbertostring.api.dto.NumberToWordsRequest;
+import numbertostring.api.dto.NumberToWordsResponse;
+
+/**
+ * Measures the service on a skewed workload: a few thousand distinct amounts
+ * drawn with a Zipf-like distribution, with and without the result cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConversionCacheBenchmark {
+
+    private static final int DISTINCT_AMOUNTS = 4_096;
+    private static final int REQUESTS = 1 << 16;
+
+    /** NONE disables caching, SHARED uses the bounded cache, LOCAL adds the thread-local level. */
+    @Param({"NONE", "SHARED", "LOCAL"})
+    private String cacheMode;
+
+    @Param({"en", "es"})
+    private String language;
+
+    private NumberToWordsService service;
+    private NumberToWordsRequest[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ConversionCache cache = switch (cacheMode) {
+            case "SHARED" -> ConversionCache.builder().maximumSize(DISTINCT_AMOUNTS).build();
+            case "LOCAL" -> ConversionCache.builder().maximumSize(DISTINCT_AMOUNTS).threadLocalSize(256).build();
+            default -> null;
+        };
+        service = new NumberToWordsService(cache);
+
+        Locale locale = Locale.forLanguageTag(language);
+        Random random = new Random(42);
+        requests = new NumberToWordsRequest[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            // Rank r is drawn with probability roughly proportional to 1/r
+            long rank = (long) Math.floor(Math.pow(DISTINCT_AMOUNTS, random.nextDouble()));
+            requests[i] = NumberToWordsRequest.builder()
+                .numberValue(BigDecimal.valueOf(rank * 50))
+                .locale(locale)
+                .build();
+        }
+    }
+
+    @Benchmark
+    public NumberToWordsResponse convertSkewedWorkload() {
+        NumberToWordsRequest request = requests[next++ & (REQUESTS - 1)];
+        return service.convertNumberToWordsWithLocale(request);
+    }
+}
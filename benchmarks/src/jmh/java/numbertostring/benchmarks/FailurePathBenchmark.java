@@ -0,0 +1,66 @@
+package numbertostring.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.api.dto.NumberToWordsRequest;
+import numbertostring.api.dto.NumberToWordsResponse;
+
+/**
+ * Compares the cost of rejecting bad requests with the cost of converting good ones, whole
+ * and fractional, under the shipped logging configuration. Rejections should cost no more
+ * than conversions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FailurePathBenchmark {
+
+    /** Kind of request sent on every call. */
+    public enum Input {
+        VALID(new BigDecimal("1234567"), Locale.ENGLISH),
+        FRACTIONAL(new BigDecimal("1234.567"), Locale.ENGLISH),
+        TRAILING_ZEROS(new BigDecimal("1234567.000"), Locale.ENGLISH),
+        OUT_OF_RANGE(new BigDecimal("1E+500"), Locale.ENGLISH),
+        UNSUPPORTED_LOCALE(new BigDecimal("1234567"), Locale.JAPANESE);
+
+        private final BigDecimal value;
+        private final Locale locale;
+
+        Input(BigDecimal value, Locale locale) {
+            this.value = value;
+            this.locale = locale;
+        }
+    }
+
+    @Param
+    private Input input;
+
+    private NumberToWordsService service;
+    private NumberToWordsRequest request;
+
+    @Setup
+    public void setUp() {
+        service = new NumberToWordsService();
+        request = NumberToWordsRequest.builder()
+            .numberValue(input.value)
+            .locale(input.locale)
+            .build();
+    }
+
+    @Benchmark
+    public NumberToWordsResponse convertNumberToWordsWithLocale() {
+        return service.convertNumberToWordsWithLocale(request);
+    }
+}
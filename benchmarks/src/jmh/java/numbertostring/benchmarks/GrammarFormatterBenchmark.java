@@ -0,0 +1,69 @@
+package numbertostring.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.core.language.LocalizedGrammarFormatterRegistry;
+import numbertostring.core.language.LocalizedNumberRulesRegistry;
+import numbertostring.core.language.formatting.LocalizedGrammarFormatter;
+import numbertostring.core.language.rules.LocalizedNumeralRules;
+
+/**
+ * Measures each {@link LocalizedGrammarFormatter} on its own.
+ * Raw chunk strings for every chunk from 1 to 999 are produced by the rules
+ * during setup, and each invocation formats the next one in turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GrammarFormatterBenchmark {
+
+    private static final int CHUNKS = 999;
+
+    @Param({"en", "es"})
+    private String language;
+
+    /** Decimal exponent of the large unit appended to each chunk. 0 means no unit. */
+    @Param({"0", "3", "6", "12"})
+    private int unitExponent;
+
+    private LocalizedGrammarFormatter formatter;
+    private String[] chunkStrings;
+    private BigInteger[] chunks;
+    private String unitName;
+    private BigInteger unit;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Locale locale = Locale.forLanguageTag(language);
+        LocalizedNumeralRules rules = LocalizedNumberRulesRegistry.getRules(locale);
+        formatter = LocalizedGrammarFormatterRegistry.getFormatter(locale);
+
+        unit = BigInteger.TEN.pow(unitExponent);
+        unitName = rules.applyLargeUnitsRules(unit);
+        chunkStrings = new String[CHUNKS];
+        chunks = new BigInteger[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++) {
+            chunks[i] = BigInteger.valueOf(i + 1);
+            chunkStrings[i] = rules.applySmallNumeralRules(chunks[i]);
+        }
+    }
+
+    @Benchmark
+    public String applyLanguageSpecificFormatting() {
+        int i = next;
+        next = (i + 1) % CHUNKS;
+        return formatter.applyLanguageSpecificFormatting(chunkStrings[i], chunks[i], unitName, unit);
+    }
+}
@@ -0,0 +1,80 @@
+package numbertostring.benchmarks;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ibm.icu.text.RuleBasedNumberFormat;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.core.factory.PreparedNumberConverter;
+
+/**
+ * Compares spelling {@code long}s with this library against ICU4J's {@link RuleBasedNumberFormat}
+ * spellout, on the same values in the same order. Both sides are prepared once per locale.
+ *
+ * <p>Reports throughput and sampled latency per value. Run with {@code -prof gc} for the
+ * allocation per value. {@code SMALL} draws values below ten thousand; {@code MIXED} spreads
+ * them evenly over every magnitude ICU spells in words, below one quintillion, one in eight
+ * negative. {@code IcuSpelloutDifferentialIntegrationTest} checks where the outputs diverge.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IcuSpelloutBenchmark {
+
+    /** Values are cycled through a power-of-two table, so picking the next costs a mask. */
+    private static final int VALUE_COUNT = 4_096;
+
+    /** ICU's English and Spanish spellout rules fall back to digits from one quintillion on. */
+    private static final long ICU_WORD_LIMIT = 1_000_000_000_000_000_000L;
+
+    public enum Distribution { SMALL, MIXED }
+
+    @Param({"en", "es"})
+    private String language;
+
+    @Param({"SMALL", "MIXED"})
+    private Distribution distribution;
+
+    private PreparedNumberConverter converter;
+    private RuleBasedNumberFormat icu;
+    private long[] values;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Locale locale = Locale.forLanguageTag(language);
+        converter = new NumberToWordsService().forLocale(locale);
+        icu = new RuleBasedNumberFormat(locale, RuleBasedNumberFormat.SPELLOUT);
+        SplittableRandom random = new SplittableRandom(24);
+        values = new long[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            if (distribution == Distribution.SMALL) {
+                values[i] = random.nextLong(10_000);
+            } else {
+                long value = random.nextLong(ICU_WORD_LIMIT) >> random.nextInt(60);
+                values[i] = random.nextInt(8) == 0 ? -value : value;
+            }
+        }
+    }
+
+    @Benchmark
+    public String numberToString() {
+        return converter.convertNumberToWords(values[index++ & (VALUE_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public String icuSpellout() {
+        return icu.format(values[index++ & (VALUE_COUNT - 1)]);
+    }
+}
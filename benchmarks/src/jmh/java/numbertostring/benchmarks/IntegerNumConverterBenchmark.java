@@ -0,0 +1,56 @@
+package numbertostring.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.core.conversion.IntegerNumConverter;
+import numbertostring.core.language.LocalizedChunkWordTableRegistry;
+import numbertostring.core.language.LocalizedGrammarFormatterRegistry;
+import numbertostring.core.language.LocalizedNumberRulesRegistry;
+import numbertostring.core.model.IntegerNum;
+
+/**
+ * Measures the chunking engine in isolation, with a converter
+ * created once per trial, with and without the precomputed chunk word table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IntegerNumConverterBenchmark {
+
+    @Param({"en", "es"})
+    private String language;
+
+    @Param
+    private Magnitude magnitude;
+
+    @Param({"true", "false"})
+    private boolean chunkTable;
+
+    private IntegerNumConverter converter;
+    private IntegerNum number;
+
+    @Setup
+    public void setUp() {
+        Locale locale = Locale.forLanguageTag(language);
+        converter = new IntegerNumConverter(
+            LocalizedNumberRulesRegistry.getRules(locale),
+            LocalizedGrammarFormatterRegistry.getFormatter(locale),
+            chunkTable ? LocalizedChunkWordTableRegistry.getTable(locale) : null);
+        number = new IntegerNum(magnitude.bigInteger());
+    }
+
+    @Benchmark
+    public String convertToWords() {
+        return converter.convertToWords(number);
+    }
+}
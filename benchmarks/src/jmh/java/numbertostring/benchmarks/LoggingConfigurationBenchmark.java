@@ -0,0 +1,62 @@
+package numbertostring.benchmarks;
+
+import java.net.URISyntaxException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.api.dto.NumberToWordsRequest;
+import numbertostring.api.dto.NumberToWordsResponse;
+
+/**
+ * Converts through the service under different logging configurations.
+ * With every hot-path message at debug level and lazily formatted, the shipped
+ * production configuration should score the same as logging switched off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoggingConfigurationBenchmark {
+
+    /** Classpath resource of the configuration to run under. */
+    @Param({"log4j2-off.xml", "log4j2.xml"})
+    private String configuration;
+
+    @Param({"en", "es"})
+    private String language;
+
+    private NumberToWordsService service;
+    private NumberToWordsRequest request;
+
+    @Setup
+    public void setUp() throws URISyntaxException {
+        Configurator.reconfigure(getClass().getClassLoader().getResource(configuration).toURI());
+        service = new NumberToWordsService();
+        request = NumberToWordsRequest.builder()
+            .numberValue(Magnitude.BILLIONS.bigDecimal())
+            .locale(Locale.forLanguageTag(language))
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        // Restore whatever configuration the JVM started with
+        Configurator.reconfigure();
+    }
+
+    @Benchmark
+    public NumberToWordsResponse convertNumberToWordsWithLocale() {
+        return service.convertNumberToWordsWithLocale(request);
+    }
+}
@@ -0,0 +1,57 @@
+package numbertostring.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.core.factory.NumberConverterFactory;
+import numbertostring.core.factory.NumberConverterFactorySingleton;
+
+/**
+ * Compares the {@code BigDecimal} factory path with the primitive {@code long}
+ * path on values that fit in a long. Run with {@code -prof gc} to compare
+ * allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LongFastPathBenchmark {
+
+    @Param({"en", "es"})
+    private String language;
+
+    @Param({"HUNDREDS", "THOUSANDS", "MILLIONS", "BILLIONS", "TRILLIONS", "QUINTILLIONS"})
+    private Magnitude magnitude;
+
+    private NumberConverterFactory factory;
+    private Locale locale;
+    private BigDecimal bigDecimalValue;
+    private long longValue;
+
+    @Setup
+    public void setUp() {
+        factory = NumberConverterFactorySingleton.getInstance();
+        locale = Locale.forLanguageTag(language);
+        bigDecimalValue = magnitude.bigDecimal();
+        longValue = magnitude.bigInteger().longValueExact();
+    }
+
+    @Benchmark
+    public String bigDecimalPath() {
+        return factory.convertNumberToWords(bigDecimalValue, locale);
+    }
+
+    @Benchmark
+    public String longPath() {
+        return factory.convertNumberToWords(longValue, locale);
+    }
+}
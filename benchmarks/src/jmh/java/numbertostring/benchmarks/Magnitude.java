@@ -0,0 +1,38 @@
+package numbertostring.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Representative inputs for each order of magnitude the library supports,
+ * from single digits up to the Quindecillion range.
+ * Digits are mixed so every chunk exercises the tens, ones and hundreds rules.
+ */
+public enum Magnitude {
+    ONES("7"),
+    TENS("42"),
+    HUNDREDS("319"),
+    THOUSANDS("4512"),
+    MILLIONS("7654321"),
+    BILLIONS("3456789012"),
+    TRILLIONS("9876543210987"),
+    QUINTILLIONS("9223372036854775807"),
+    DECILLIONS("5432109876543210987654321098765432"),
+    QUINDECILLIONS("1234567890123456789012345678901234567890123456789");
+
+    private final BigInteger value;
+
+    Magnitude(String digits) {
+        this.value = new BigInteger(digits);
+    }
+
+    /** @return Value as a BigInteger. */
+    public BigInteger bigInteger() {
+        return value;
+    }
+
+    /** @return Value as a BigDecimal with scale 0. */
+    public BigDecimal bigDecimal() {
+        return new BigDecimal(value);
+    }
+}
@@ -0,0 +1,57 @@
+package numbertostring.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.core.factory.NumberConverterFactory;
+import numbertostring.core.factory.NumberConverterFactorySingleton;
+import numbertostring.core.factory.PreparedNumberConverter;
+
+/**
+ * Measures the factory path against a prepared per-locale handle. The factory
+ * path resolves the handle for every call; the prepared path holds it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NumberConverterFactoryBenchmark {
+
+    @Param({"en", "es"})
+    private String language;
+
+    @Param
+    private Magnitude magnitude;
+
+    private NumberConverterFactory factory;
+    private BigDecimal value;
+    private Locale locale;
+    private PreparedNumberConverter prepared;
+
+    @Setup
+    public void setUp() {
+        factory = NumberConverterFactorySingleton.getInstance();
+        value = magnitude.bigDecimal();
+        locale = Locale.forLanguageTag(language);
+        prepared = factory.prepare(locale);
+    }
+
+    @Benchmark
+    public String convertNumberToWords() {
+        return factory.convertNumberToWords(value, locale);
+    }
+
+    @Benchmark
+    public String preparedConvertNumberToWords() {
+        return prepared.convertNumberToWords(value);
+    }
+}
@@ -0,0 +1,56 @@
+package numbertostring.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.api.dto.NumberToWordsRequest;
+import numbertostring.api.dto.NumberToWordsResponse;
+
+/**
+ * Measures the public entrypoint end to end: request DTO in, response DTO out.
+ * Includes registry lookups, converter creation and logging.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NumberToWordsServiceBenchmark {
+
+    @Param({"en", "es"})
+    private String language;
+
+    @Param
+    private Magnitude magnitude;
+
+    private NumberToWordsService service;
+    private NumberToWordsRequest request;
+
+    @Setup
+    public void setUp() {
+        service = new NumberToWordsService();
+        request = NumberToWordsRequest.builder()
+            .numberValue(magnitude.bigDecimal())
+            .locale(Locale.forLanguageTag(language))
+            .build();
+    }
+
+    @Benchmark
+    public NumberToWordsResponse convertNumberToWordsWithLocale() {
+        return service.convertNumberToWordsWithLocale(request);
+    }
+
+    /** Includes the hand-off to a virtual thread and the wait for its result. */
+    @Benchmark
+    public NumberToWordsResponse convertAsync() {
+        return service.convertAsync(request).join();
+    }
+}
@@ -0,0 +1,78 @@
+package numbertostring.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.api.dto.NumberToWordsRequest;
+import numbertostring.api.dto.NumberToWordsResponse;
+
+/**
+ * Measures {@link NumberToWordsService#convertAllParallel(List, ForkJoinPool)} on a batch
+ * where one value in a hundred has 40 digits. Scores are per request.
+ *
+ * <p>Sweep the pool size from 1 to every core with
+ * {@code ./gradlew :benchmarks:jmhScaling -Pjmh.includes=ParallelBatch -Pjmh.scalingParam=parallelism}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelBatchBenchmark {
+
+    private static final int BATCH_SIZE = 20_000;
+
+    /** Pool size. 0 uses every available core. */
+    @Param({"0"})
+    private int parallelism;
+
+    private NumberToWordsService service;
+    private List<NumberToWordsRequest> requests;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        service = new NumberToWordsService();
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+
+        Locale[] locales = {Locale.ENGLISH, Locale.forLanguageTag("es")};
+        Random random = new Random(42);
+        requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            BigDecimal number = random.nextInt(100) == 0
+                ? new BigDecimal(new BigInteger(133, random))
+                : BigDecimal.valueOf(random.nextInt(1_000_000_000));
+            requests.add(NumberToWordsRequest.builder()
+                .numberValue(number)
+                .locale(locales[random.nextInt(locales.length)])
+                .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<NumberToWordsResponse> convertAllParallel() {
+        return service.convertAllParallel(requests, pool);
+    }
+}
@@ -0,0 +1,87 @@
+package numbertostring.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.core.factory.NumberConverterFactorySingleton;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.token.NumberTokens;
+
+/**
+ * Compares returning a fresh {@code String} per conversion with appending into
+ * a reused {@link StringBuilder}. Run with {@code -prof gc} to see the
+ * allocation rate per operation; the sink path should report close to zero.
+ * Also compares splitting the returned string into words with the token stream, and encoding
+ * the returned string as UTF-8 with writing pre-encoded words into a reused direct
+ * {@link ByteBuffer}, as a channel write would need.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SinkOutputBenchmark {
+
+    @Param({"en", "es"})
+    private String language;
+
+    @Param({"THOUSANDS", "BILLIONS", "QUINTILLIONS"})
+    private Magnitude magnitude;
+
+    private PreparedNumberConverter converter;
+    private StringBuilder out;
+    private ByteBuffer bytes;
+    private long value;
+
+    @Setup
+    public void setUp() {
+        converter = NumberConverterFactorySingleton.getInstance().prepare(Locale.forLanguageTag(language));
+        out = new StringBuilder(512);
+        bytes = ByteBuffer.allocateDirect(512);
+        value = magnitude.bigInteger().longValueExact();
+    }
+
+    @Benchmark
+    public String returnString() {
+        return converter.convertNumberToWords(value);
+    }
+
+    @Benchmark
+    public StringBuilder appendToSink() {
+        out.setLength(0);
+        converter.convertTo(out, value);
+        return out;
+    }
+
+    @Benchmark
+    public String[] splitString() {
+        return converter.convertNumberToWords(value).split(" ");
+    }
+
+    @Benchmark
+    public NumberTokens convertToTokens() {
+        return converter.convertToTokens(value);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeString() {
+        bytes.clear();
+        return bytes.put(converter.convertNumberToWords(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public ByteBuffer writeUtf8() {
+        bytes.clear();
+        converter.convertTo(bytes, value);
+        return bytes;
+    }
+}
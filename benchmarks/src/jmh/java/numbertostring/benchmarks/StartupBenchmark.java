@@ -0,0 +1,55 @@
+package numbertostring.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.api.dto.NumberToWordsResponse;
+
+/**
+ * Measures the time from a fresh JVM to its first conversion: class initialization, logging
+ * setup, language loading and the first, interpreted run of the converter. This is what a
+ * short-lived batch JVM pays before its first result.
+ *
+ * <p>Every fork measures exactly one cold call, so the score is averaged over forks. The Gradle
+ * plugin forces one fork; run the jar directly to use the forks declared here:</p>
+ * <pre>
+ * java -jar benchmarks/build/libs/benchmarks-jmh.jar StartupBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark {
+
+    @Param({"en", "es"})
+    private String language;
+
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        // Only JDK classes here, so the library is still untouched when the measurement starts
+        locale = Locale.forLanguageTag(language);
+    }
+
+    @Benchmark
+    public NumberToWordsResponse firstConversion() {
+        return new NumberToWordsService().convert(42L, locale);
+    }
+}
@@ -0,0 +1,73 @@
+package numbertostring.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the selected benchmarks once for each thread count, doubling from 1
+ * up to the number of available cores, then prints a throughput summary
+ * so contention on shared state shows up as a flattening curve.
+ *
+ * <p>When a parameter name is given, the benchmarks run single-threaded and that
+ * {@code @Param} is swept instead, for benchmarks that size their own pools.</p>
+ *
+ * <p>Usage: {@code ThreadScalingRunner [benchmark regex] [param name]}</p>
+ */
+public final class ThreadScalingRunner {
+
+    private ThreadScalingRunner() {}
+
+    public static void main(String[] args) throws RunnerException {
+        String includes = args.length > 0 ? args[0] : ".*";
+        String scalingParam = args.length > 1 && !args[1].isEmpty() ? args[1] : null;
+        List<String> summary = new ArrayList<>();
+
+        for (int threads : threadCounts(Runtime.getRuntime().availableProcessors())) {
+            OptionsBuilder builder = new OptionsBuilder();
+            if (scalingParam == null) {
+                builder.threads(threads);
+            } else {
+                builder.param(scalingParam, String.valueOf(threads));
+            }
+            Options options = builder
+                .include(includes)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+            for (RunResult result : new Runner(options).run()) {
+                summary.add(String.format("%-90s %3d threads %,16.2f %s",
+                    result.getParams().getBenchmark() + paramsOf(result),
+                    threads,
+                    result.getPrimaryResult().getScore(),
+                    result.getPrimaryResult().getScoreUnit()));
+            }
+        }
+        summary.forEach(System.out::println);
+    }
+
+    /** Powers of two below {@code cores}, followed by {@code cores} itself. */
+    static List<Integer> threadCounts(int cores) {
+        List<Integer> counts = new ArrayList<>();
+        for (int t = 1; t < cores; t *= 2) {
+            counts.add(t);
+        }
+        counts.add(cores);
+        return counts;
+    }
+
+    private static String paramsOf(RunResult result) {
+        StringBuilder params = new StringBuilder();
+        for (String key : result.getParams().getParamsKeys()) {
+            params.append(' ').append(key).append('=').append(result.getParams().getParam(key));
+        }
+        return params.toString();
+    }
+}
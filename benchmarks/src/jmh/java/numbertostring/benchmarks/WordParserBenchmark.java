@@ -0,0 +1,80 @@
+package numbertostring.benchmarks;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import numbertostring.api.NumberToWordsService;
+import numbertostring.core.factory.PreparedNumberConverter;
+import numbertostring.core.parsing.NumberWordParser;
+import numbertostring.core.registry.ConversionRegistry;
+import numbertostring.core.registry.RegistrySnapshot;
+
+/**
+ * Measures reading converted words back into numbers, one entry at a time as {@code long}s and
+ * as a batch, over words the converters wrote for random amounts of every magnitude. Scores are
+ * per entry. {@link #learnVocabulary()} measures building a parser, which happens once per locale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WordParserBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"en", "es"})
+    private String language;
+
+    private Locale locale;
+    private NumberWordParser parser;
+    private List<String> words;
+
+    @Setup
+    public void setUp() {
+        locale = Locale.forLanguageTag(language);
+        PreparedNumberConverter converter = new NumberToWordsService().forLocale(locale);
+        parser = converter.getParser();
+        Random random = new Random(42);
+        words = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            words.add(converter.convertNumberToWords(random.nextLong() >>> random.nextInt(64)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long parseLong() {
+        long sum = 0;
+        for (String entry : words) {
+            sum += parser.parseLong(entry);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BigInteger[] parseAll() {
+        return parser.parseAll(words);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public NumberWordParser learnVocabulary() {
+        RegistrySnapshot snapshot = ConversionRegistry.current(locale);
+        return NumberWordParser.of(snapshot.getRules(locale), snapshot.getFormatter(locale));
+    }
+}
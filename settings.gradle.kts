@@ -13,3 +13,4 @@ plugins {
 
 rootProject.name = "numbertostring"
 include("app")
+include("benchmarks")